@@ -0,0 +1,17 @@
+package com.example.prefschedule.client;
+
+/**
+ * Layout StableMatch is asked to use for the assignments of matching responses
+ */
+public enum MatchingResponseLayout {
+
+    /**
+     * One object per assignment
+     */
+    ROWS,
+
+    /**
+     * Parallel arrays, kept as they are and read through {@code MatchingResponseDTO#getAssignments()}
+     */
+    COLUMNAR
+}
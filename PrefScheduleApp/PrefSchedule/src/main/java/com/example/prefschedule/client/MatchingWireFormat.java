@@ -0,0 +1,26 @@
+package com.example.prefschedule.client;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Content type used for matching requests sent to StableMatch
+ */
+public enum MatchingWireFormat {
+
+    JSON(MediaType.APPLICATION_JSON),
+
+    /**
+     * Binary JSON; repeated course codes and grade abbreviations are sent once and then back-referenced
+     */
+    SMILE(new MediaType("application", "x-jackson-smile"));
+
+    private final MediaType mediaType;
+
+    MatchingWireFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+}
@@ -1,21 +1,36 @@
 package com.example.prefschedule.client;
 
 import com.example.prefschedule.dto.matching.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 @Component
 @Slf4j
@@ -23,14 +38,43 @@ public class StableMatchClient {
 
     private final WebClient webClient;
     private final Executor taskExecutor;
+    private final MatchingWireFormat wireFormat;
+    private final MatchingResponseLayout responseLayout;
+    private final ObjectMapper requestMapper;
+    private final long gzipMinBytes;
+    private final ObjectProvider<StableMatchClient> self;
 
     public StableMatchClient(
             @Value("${stablematch.service.url}") String baseUrl,
-            @Qualifier("taskExecutor") Executor taskExecutor) {
+            @Value("${stablematch.service.wire-format:SMILE}") MatchingWireFormat wireFormat,
+            @Value("${stablematch.service.response-layout:COLUMNAR}") MatchingResponseLayout responseLayout,
+            @Value("${stablematch.service.gzip-min-size:8KB}") DataSize gzipMinSize,
+            @Value("${stablematch.service.max-response-size:64MB}") DataSize maxResponseSize,
+            ObjectMapper objectMapper,
+            @Qualifier("taskExecutor") Executor taskExecutor,
+            ObjectProvider<StableMatchClient> self) {
+        ObjectMapper smileMapper = objectMapper.copyWith(SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build());
+
+        // compress(true) asks for gzip responses and inflates them
         this.webClient = WebClient.builder()
                 .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create().compress(true)))
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().maxInMemorySize(Math.toIntExact(maxResponseSize.toBytes()));
+                    // without explicit MIME types the decoder would also claim application/json
+                    codecs.customCodecs().registerWithDefaultConfig(
+                            new Jackson2SmileDecoder(smileMapper, MatchingWireFormat.SMILE.mediaType()));
+                })
                 .build();
         this.taskExecutor = taskExecutor;
+        this.wireFormat = wireFormat;
+        this.responseLayout = responseLayout;
+        this.requestMapper = wireFormat == MatchingWireFormat.SMILE ? smileMapper : objectMapper;
+        this.gzipMinBytes = gzipMinSize.toBytes();
+        this.self = self;
     }
 
     @CircuitBreaker(name = "stableMatchService", fallbackMethod = "createRandomMatchingFallback")
@@ -39,18 +83,11 @@ public class StableMatchClient {
     public CompletableFuture<MatchingResponseDTO> createStableMatching(MatchingRequestDTO request) {
         log.info("Calling StableMatch service for stable matching");
 
-        return webClient.post()
-                .uri("/api/matching/stable")
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(MatchingResponseDTO.class)
-                .timeout(Duration.ofSeconds(30))
+        return postMatching("/api/matching/stable?layout=" + responseLayout, request, MatchingResponseDTO.class)
+                .doOnNext(response -> response.setAlgorithm("STABLE"))
                 .doOnSuccess(response -> log.info("Successfully received stable matching response"))
                 .doOnError(error -> log.error("Error calling StableMatch service", error))
                 .toFuture();
-
     }
 
     @CircuitBreaker(name = "stableMatchService", fallbackMethod = "createRandomMatchingLocalFallback")
@@ -59,19 +96,37 @@ public class StableMatchClient {
     public CompletableFuture<MatchingResponseDTO> createRandomMatching(MatchingRequestDTO request) {
         log.info("Calling StableMatch service for random matching");
 
-        return webClient.post()
-                .uri("/api/matching/random")
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(MatchingResponseDTO.class)
-                .timeout(Duration.ofSeconds(30))
+        return postMatching("/api/matching/random?layout=" + responseLayout, request, MatchingResponseDTO.class)
+                .doOnNext(response -> response.setAlgorithm("RANDOM"))
                 .doOnSuccess(response -> log.info("Successfully received random matching response"))
                 .doOnError(error -> log.error("Error calling StableMatch service", error))
                 .toFuture();
     }
 
+    /**
+     * Matches several packs in one call; StableMatch matches them in parallel and reports each pack
+     * on its own, so a failed pack comes back as {@link PackMatchingStatus#FAILED} next to the others.
+     */
+    @CircuitBreaker(name = "stableMatchService", fallbackMethod = "createBatchMatchingFallback")
+    @Retry(name = "stableMatchService")
+    @TimeLimiter(name = "stableMatchService")
+    public CompletableFuture<BatchMatchingResponseDTO> createBatchMatching(List<MatchingRequestDTO> requests,
+                                                                           boolean useStableAlgorithm) {
+        String algorithm = useStableAlgorithm ? "STABLE" : "RANDOM";
+        log.info("Calling StableMatch service for {} batch matching of {} packs", algorithm, requests.size());
+
+        BatchMatchingRequestDTO batch = BatchMatchingRequestDTO.builder().packs(requests).build();
+        return postMatching("/api/matching/batch?algorithm=" + algorithm + "&layout=" + responseLayout,
+                batch, BatchMatchingResponseDTO.class)
+                .doOnNext(response -> response.getResults().stream()
+                        .filter(result -> result.getResponse() != null)
+                        .forEach(result -> result.getResponse().setAlgorithm(algorithm)))
+                .doOnSuccess(response -> log.info("Received batch matching response: {} packs succeeded, {} failed",
+                        response.getSucceeded(), response.getFailed()))
+                .doOnError(error -> log.error("Error calling StableMatch service", error))
+                .toFuture();
+    }
+
     public CompletableFuture<List<AssignmentDTO>> getAllAssignments() {
         log.info("Fetching all assignments from StableMatch service");
 
@@ -93,6 +148,50 @@ public class StableMatchClient {
                 .toFuture();
     }
 
+    /**
+     * Posts a matching request in the configured wire format, gzip-compressed once it reaches
+     * {@code gzip-min-size}. The response comes back as Smile when StableMatch supports it, JSON otherwise,
+     * with its assignments in the configured layout; older StableMatch builds ignore the layout and send rows.
+     */
+    private <T> Mono<T> postMatching(String uri, Object request, Class<T> responseType) {
+        return Mono.fromCallable(() -> encode(request))
+                .flatMap(body -> {
+                    WebClient.RequestBodySpec spec = webClient.post()
+                            .uri(uri)
+                            .contentType(wireFormat.mediaType())
+                            .accept(wireFormat.mediaType(), MediaType.APPLICATION_JSON);
+                    if (body.gzipped()) {
+                        spec.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+                    }
+                    return spec.bodyValue(body.bytes())
+                            .retrieve()
+                            .bodyToMono(responseType);
+                })
+                .timeout(Duration.ofSeconds(30));
+    }
+
+    private EncodedBody encode(Object request) throws IOException {
+        byte[] bytes = requestMapper.writeValueAsBytes(request);
+        if (bytes.length < gzipMinBytes) {
+            return new EncodedBody(bytes, false);
+        }
+
+        // The fastest level keeps most of the size win; the default level costs far more CPU than it saves on the wire
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed) {
+            {
+                def.setLevel(Deflater.BEST_SPEED);
+            }
+        }) {
+            gzip.write(bytes);
+        }
+        log.debug("Encoded matching request as {}: {} bytes, {} gzipped", wireFormat, bytes.length, compressed.size());
+        return new EncodedBody(compressed.toByteArray(), true);
+    }
+
+    private record EncodedBody(byte[] bytes, boolean gzipped) {
+    }
+
     // Fallback method - tries random matching if stable matching fails
     private CompletableFuture<MatchingResponseDTO> createRandomMatchingFallback(
             MatchingRequestDTO request, Exception ex) {
@@ -117,4 +216,56 @@ public class StableMatchClient {
 
         return CompletableFuture.completedFuture(fallbackResponse);
     }
-}
\ No newline at end of file
+
+    // Batch fallback - matches the packs one by one, each through the single-pack fallback chain
+    CompletableFuture<BatchMatchingResponseDTO> createBatchMatchingFallback(
+            List<MatchingRequestDTO> requests, boolean useStableAlgorithm, Exception ex) {
+        log.warn("Batch matching failed, matching {} packs one by one. Error: {}", requests.size(), ex.getMessage());
+        long start = System.nanoTime();
+
+        List<CompletableFuture<PackMatchingResultDTO>> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            int index = i;
+            MatchingRequestDTO request = requests.get(i);
+            results.add(matchSinglePack(request, useStableAlgorithm)
+                    .thenApply(response -> PackMatchingResultDTO.builder()
+                            .index(index)
+                            .packId(request.getPackId())
+                            // the local fallback answers without StableMatch, so it carries no matching id
+                            .status(response.getMatchingId() != null ? PackMatchingStatus.SUCCEEDED : PackMatchingStatus.FAILED)
+                            .response(response)
+                            .error(response.getMatchingId() != null ? null : ex.getMessage())
+                            .build()));
+        }
+
+        return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                .thenApply(done -> {
+                    List<PackMatchingResultDTO> packs = results.stream().map(CompletableFuture::join).toList();
+                    int succeeded = (int) packs.stream().filter(r -> r.getStatus() == PackMatchingStatus.SUCCEEDED).count();
+                    return BatchMatchingResponseDTO.builder()
+                            .results(packs)
+                            .succeeded(succeeded)
+                            .failed(packs.size() - succeeded)
+                            .durationMs((System.nanoTime() - start) / 1_000_000)
+                            .build();
+                });
+    }
+
+    /**
+     * Stable, then random, then the local empty response. Calls go through the client's proxy so every pack
+     * gets its own circuit breaker, retry and time limit, like a single-pack matching.
+     */
+    private CompletableFuture<MatchingResponseDTO> matchSinglePack(MatchingRequestDTO request, boolean useStableAlgorithm) {
+        StableMatchClient client = self.getObject();
+        if (!useStableAlgorithm) {
+            return client.createRandomMatching(request);
+        }
+        return client.createStableMatching(request)
+                .exceptionallyCompose(error -> createRandomMatchingLocalFallback(request, asException(error)));
+    }
+
+    private static Exception asException(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof Exception exception ? exception : new CompletionException(cause);
+    }
+}
@@ -1,11 +1,13 @@
 package com.example.prefschedule.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
@@ -21,4 +23,41 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Builds the StableMatch requests of an all-packs matching, one pack per task. Each task holds a database
+     * connection, so the pool stays well below the connection pool; when the queue is full the caller builds the pack itself.
+     * Only the request thread submits here, so the caller is never an HTTP client thread.
+     */
+    @Bean(name = "packBuildExecutor")
+    public Executor packBuildExecutor(
+            @Value("${prefschedule.matching.build-threads:4}") int buildThreads,
+            @Value("${prefschedule.matching.build-queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(buildThreads);
+        executor.setMaxPoolSize(buildThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("PackBuild-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Stores finished matchings as draft runs. Tasks are submitted from the HTTP client's event loop when a
+     * StableMatch call completes, so a full queue rejects the task instead of running the write on that thread.
+     */
+    @Bean(name = "matchingPersistExecutor")
+    public Executor matchingPersistExecutor(
+            @Value("${prefschedule.matching.persist-threads:2}") int persistThreads,
+            @Value("${prefschedule.matching.persist-queue-capacity:256}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(persistThreads);
+        executor.setMaxPoolSize(persistThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setThreadNamePrefix("MatchPersist-");
+        executor.initialize();
+        return executor;
+    }
 }
@@ -2,20 +2,33 @@ package com.example.prefschedule.controller;
 
 import com.example.prefschedule.dto.matching.AssignmentDTO;
 import com.example.prefschedule.dto.matching.MatchingResponseDTO;
+import com.example.prefschedule.exception.ResourceNotFoundException;
 import com.example.prefschedule.service.MatchingOrchestrationService;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.reactive.function.client.WebClientException;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/matching")
@@ -27,49 +40,39 @@ public class MatchingController {
 
     private final MatchingOrchestrationService orchestrationService;
 
+    @Value("${prefschedule.matching.pack-timeout:45s}")
+    private Duration packTimeout;
+
+    @Value("${prefschedule.matching.all-packs-timeout:90s}")
+    private Duration allPacksTimeout;
+
     @PostMapping("/pack/{packId}")
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_INSTRUCTOR')")
     @Operation(summary = "Perform matching for a pack",
             description = "Assigns students to courses in a specific pack using stable matching algorithm")
-    public ResponseEntity<MatchingResponseDTO> performMatchingForPack(
+    public CompletableFuture<ResponseEntity<MatchingResponseDTO>> performMatchingForPack(
             @PathVariable Long packId,
             @RequestParam(defaultValue = "true") boolean useStableAlgorithm) {
         log.info("Performing matching for pack ID: {} using {} algorithm",
                 packId,
                 useStableAlgorithm ? "stable" : "random");
 
-        try {
-            MatchingResponseDTO response = orchestrationService
-                    .performMatchingForPack(packId, useStableAlgorithm)
-                    .get(); // Block and wait for result
-
-            return ResponseEntity.ok(response);
-        } catch (Exception ex) {
-            log.error("Error performing matching for pack {}", packId, ex);
-            return ResponseEntity.internalServerError().build();
-        }
+        return respond(() -> orchestrationService.performMatchingForPack(packId, useStableAlgorithm),
+                packTimeout, "pack " + packId);
     }
 
     @PostMapping("/year/{year}/semester/{semester}")
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_INSTRUCTOR')")
     @Operation(summary = "Perform matching for all packs",
             description = "Assigns students to courses for all packs in a year and semester")
-    public ResponseEntity<Map<Long, MatchingResponseDTO>> performMatchingForAllPacks(
+    public CompletableFuture<ResponseEntity<Map<Long, MatchingResponseDTO>>> performMatchingForAllPacks(
             @PathVariable Integer year,
             @PathVariable Integer semester,
             @RequestParam(defaultValue = "true") boolean useStableAlgorithm) {
         log.info("Performing matching for all packs in year {} semester {}", year, semester);
 
-        try {
-            Map<Long, MatchingResponseDTO> results = orchestrationService
-                    .performMatchingForAllPacks(year, semester, useStableAlgorithm)
-                    .get();
-
-            return ResponseEntity.ok(results);
-        } catch (Exception ex) {
-            log.error("Error performing matching for year {} semester {}", year, semester, ex);
-            return ResponseEntity.internalServerError().build();
-        }
+        return respond(() -> orchestrationService.performMatchingForAllPacks(year, semester, useStableAlgorithm),
+                allPacksTimeout, "year " + year + " semester " + semester);
     }
 
     @GetMapping("/health")
@@ -78,4 +81,59 @@ public class MatchingController {
     public ResponseEntity<String> checkHealth() {
         return ResponseEntity.ok("Matching service is accessible");
     }
+
+    /**
+     * Hands the matching back to Spring MVC as an async result, so the servlet thread is released while
+     * StableMatch works. The response is bounded by {@code timeout}; failures are mapped by {@link #errorStatus}.
+     */
+    private <T> CompletableFuture<ResponseEntity<T>> respond(Supplier<CompletableFuture<T>> matching,
+                                                           Duration timeout, String target) {
+        CompletableFuture<T> future;
+        try {
+            future = matching.get();
+        } catch (RuntimeException ex) {
+            future = CompletableFuture.failedFuture(ex);
+        }
+
+        return future
+                .thenApply(ResponseEntity::ok)
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> {
+                    HttpStatus status = errorStatus(ex);
+                    if (status.is5xxServerError()) {
+                        log.error("Error performing matching for {}", target, ex);
+                    } else {
+                        log.warn("Matching for {} rejected: {}", target, ex.getMessage());
+                    }
+                    return ResponseEntity.status(status).build();
+                });
+    }
+
+    /**
+     * 404 for an unknown pack, 504 when StableMatch or the endpoint timed out, 503 when resilience4j
+     * refused the call, 502 for any other StableMatch error and 500 for the rest
+     */
+    static HttpStatus errorStatus(Throwable ex) {
+        Throwable cause = ex;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+
+        if (cause instanceof ResourceNotFoundException) {
+            return HttpStatus.NOT_FOUND;
+        }
+        if (cause instanceof TimeoutException) {
+            return HttpStatus.GATEWAY_TIMEOUT;
+        }
+        if (cause instanceof CallNotPermittedException
+                || cause instanceof RequestNotPermitted
+                || cause instanceof BulkheadFullException) {
+            return HttpStatus.SERVICE_UNAVAILABLE;
+        }
+        if (cause instanceof WebClientException) {
+            return HttpStatus.BAD_GATEWAY;
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
 }
\ No newline at end of file
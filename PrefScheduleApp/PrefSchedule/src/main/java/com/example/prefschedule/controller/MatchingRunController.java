@@ -0,0 +1,84 @@
+package com.example.prefschedule.controller;
+
+import com.example.prefschedule.dto.matching.AssignmentDTO;
+import com.example.prefschedule.dto.matching.MatchingRunDTO;
+import com.example.prefschedule.entity.MatchingRun;
+import com.example.prefschedule.service.MatchingRunService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/matching/runs")
+@RequiredArgsConstructor
+@Tag(name = "Matching runs", description = "Stored matching results and their publication")
+@SecurityRequirement(name = "bearerAuth")
+public class MatchingRunController {
+
+    private final MatchingRunService runService;
+
+    @GetMapping
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_INSTRUCTOR')")
+    @Operation(summary = "List the matching runs of a pack", description = "Newest first, drafts included")
+    public List<MatchingRunDTO> getRunsForPack(@RequestParam Long packId) {
+        return runService.getRunsForPack(packId).stream().map(this::toDTO).collect(Collectors.toList());
+    }
+
+    @GetMapping("/{runId}")
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_INSTRUCTOR')")
+    @Operation(summary = "Get a matching run")
+    public ResponseEntity<MatchingRunDTO> getRun(@PathVariable Long runId) {
+        return ResponseEntity.ok(toDTO(runService.getRun(runId)));
+    }
+
+    @GetMapping("/{runId}/assignments")
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_INSTRUCTOR')")
+    @Operation(summary = "Get the assignments of a matching run")
+    public List<AssignmentDTO> getAssignments(@PathVariable Long runId) {
+        return runService.getAssignments(runId);
+    }
+
+    @PostMapping("/{runId}/publish")
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN')")
+    @Operation(summary = "Publish a matching run",
+            description = "Makes the run the published matching of its pack; the previously published run is superseded")
+    public ResponseEntity<MatchingRunDTO> publish(@PathVariable Long runId) {
+        return ResponseEntity.ok(toDTO(runService.publish(runId)));
+    }
+
+    @GetMapping("/published")
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_INSTRUCTOR', 'ROLE_STUDENT')")
+    @Operation(summary = "Get the published assignments of a pack")
+    public List<AssignmentDTO> getPublishedAssignments(@RequestParam Long packId) {
+        return runService.getPublishedAssignments(packId);
+    }
+
+    @GetMapping("/published/student/{studentCode}")
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_INSTRUCTOR', 'ROLE_STUDENT')")
+    @Operation(summary = "Get a student's published assignments", description = "One assignment per pack with a published run")
+    public List<AssignmentDTO> getPublishedAssignmentsForStudent(@PathVariable String studentCode) {
+        return runService.getPublishedAssignmentsForStudent(studentCode);
+    }
+
+    private MatchingRunDTO toDTO(MatchingRun run) {
+        return MatchingRunDTO.builder()
+                .id(run.getId())
+                .packId(run.getPackId())
+                .stableMatchId(run.getStableMatchId())
+                .algorithm(run.getAlgorithm())
+                .status(run.getStatus())
+                .totalStudents(run.getTotalStudents())
+                .assignedStudents(run.getAssignedStudents())
+                .averagePreferenceRank(run.getAveragePreferenceRank())
+                .createdAt(run.getCreatedAt())
+                .publishedAt(run.getPublishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.prefschedule.dto.matching;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchMatchingRequestDTO {
+    private List<MatchingRequestDTO> packs;
+}
@@ -0,0 +1,18 @@
+package com.example.prefschedule.dto.matching;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchMatchingResponseDTO {
+    private List<PackMatchingResultDTO> results;
+    private Integer succeeded;
+    private Integer failed;
+    private Long durationMs;
+}
@@ -0,0 +1,58 @@
+package com.example.prefschedule.dto.matching;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Columnar assignments as StableMatch sends them with {@code layout=COLUMNAR}: row {@code i} assigns
+ * {@code studentCodes[i]} to {@code courseCodes[courseIndex[i]]}. A rank of -1 means the course is not
+ * on the student's list and a NaN score means no score.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColumnarAssignmentsDTO {
+    private String[] studentCodes;
+    private String[] courseCodes;
+    private int[] courseIndex;
+    private short[] preferenceRank;
+    private float[] studentScore;
+
+    public int size() {
+        return studentCodes != null ? studentCodes.length : 0;
+    }
+
+    /**
+     * Read-only view of the rows; an {@link AssignmentDTO} is only created for the row being read
+     * and is not kept, so iterating, e.g. to serialize, does not hold one object per assignment
+     */
+    public List<AssignmentDTO> asList() {
+        return new Rows();
+    }
+
+    private final class Rows extends AbstractList<AssignmentDTO> implements RandomAccess {
+
+        @Override
+        public AssignmentDTO get(int index) {
+            short rank = preferenceRank[index];
+            float score = studentScore[index];
+            return AssignmentDTO.builder()
+                    .studentCode(studentCodes[index])
+                    .courseCode(courseCodes[courseIndex[index]])
+                    .preferenceRank(rank >= 0 ? (int) rank : null)
+                    .studentScore(Float.isNaN(score) ? null : (double) score)
+                    .build();
+        }
+
+        @Override
+        public int size() {
+            return ColumnarAssignmentsDTO.this.size();
+        }
+    }
+}
@@ -14,4 +14,5 @@ public class MatchingRequestDTO {
     private List<StudentPreferenceDTO> studentPreferences;
     private List<CourseCapacityDTO> courses;
     private List<InstructorPreferenceDTO> instructorPreferences;
+    private Long packId;
 }
\ No newline at end of file
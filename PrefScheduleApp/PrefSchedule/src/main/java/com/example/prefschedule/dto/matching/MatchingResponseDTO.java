@@ -1,4 +1,6 @@
 package com.example.prefschedule.dto.matching;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,6 +13,32 @@ import java.util.Map;
 @NoArgsConstructor
 @AllArgsConstructor
 public class MatchingResponseDTO {
+    private String matchingId;
+    private Long packId;
+    private Long version;
     private List<AssignmentDTO> assignments;
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    private ColumnarAssignmentsDTO columns;
     private MatchingStatisticsDTO statistics;
-}
\ No newline at end of file
+    /**
+     * STABLE or RANDOM: the matching StableMatch actually ran, set by the client. A stable request answered by
+     * the random fallback says RANDOM; the local fallback response has none.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String algorithm;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long runId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private PackTimingsDTO timings;
+
+    /**
+     * The rows as received, or a view over {@code columns} when StableMatch answered in the columnar layout.
+     * Either way callers of PrefSchedule get the same {@code assignments} array.
+     */
+    public List<AssignmentDTO> getAssignments() {
+        return assignments == null && columns != null ? columns.asList() : assignments;
+    }
+}
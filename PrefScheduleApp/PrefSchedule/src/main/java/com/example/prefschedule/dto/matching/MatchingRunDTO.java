@@ -0,0 +1,25 @@
+package com.example.prefschedule.dto.matching;
+import com.example.prefschedule.entity.MatchingRunStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchingRunDTO {
+    private Long id;
+    private Long packId;
+    private String stableMatchId;
+    private String algorithm;
+    private MatchingRunStatus status;
+    private Integer totalStudents;
+    private Integer assignedStudents;
+    private Double averagePreferenceRank;
+    private LocalDateTime createdAt;
+    private LocalDateTime publishedAt;
+}
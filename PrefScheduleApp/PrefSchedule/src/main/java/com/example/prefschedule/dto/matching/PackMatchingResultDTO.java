@@ -0,0 +1,17 @@
+package com.example.prefschedule.dto.matching;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PackMatchingResultDTO {
+    private Integer index;
+    private Long packId;
+    private PackMatchingStatus status;
+    private MatchingResponseDTO response;
+    private String error;
+}
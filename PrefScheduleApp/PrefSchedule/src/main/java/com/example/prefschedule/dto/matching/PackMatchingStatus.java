@@ -0,0 +1,6 @@
+package com.example.prefschedule.dto.matching;
+
+public enum PackMatchingStatus {
+    SUCCEEDED,
+    FAILED
+}
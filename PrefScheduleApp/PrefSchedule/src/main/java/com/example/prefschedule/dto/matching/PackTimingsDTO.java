@@ -0,0 +1,20 @@
+package com.example.prefschedule.dto.matching;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Where the time of one pack went in an all-packs matching: building its request from the database,
+ * waiting for a free StableMatch slot, the StableMatch call itself and storing the run. Stages that did not run stay null.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PackTimingsDTO {
+    private Long buildMs;
+    private Long dispatchWaitMs;
+    private Long matchMs;
+    private Long persistMs;
+}
@@ -0,0 +1,41 @@
+package com.example.prefschedule.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * One student's course in a {@link MatchingRun}. Ids come from a pooled sequence so that a run's rows
+ * are inserted in JDBC batches; identity columns would force one round-trip per row.
+ */
+@Entity
+@Table(name = "matching_assignments",
+        indexes = {
+                @Index(name = "idx_matching_assignments_run", columnList = "run_id"),
+                @Index(name = "idx_matching_assignments_student", columnList = "student_code"),
+                @Index(name = "idx_matching_assignments_course", columnList = "course_code")
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchingAssignment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "matching_assignments_seq")
+    @SequenceGenerator(name = "matching_assignments_seq", sequenceName = "matching_assignments_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "run_id", nullable = false)
+    @ToString.Exclude
+    private MatchingRun run;
+
+    @Column(name = "student_code", nullable = false)
+    private String studentCode;
+
+    @Column(name = "course_code", nullable = false)
+    private String courseCode;
+
+    private Integer preferenceRank;
+    private Double studentScore;
+}
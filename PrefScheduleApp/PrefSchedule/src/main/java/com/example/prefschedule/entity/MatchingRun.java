@@ -0,0 +1,46 @@
+package com.example.prefschedule.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One matching of a pack as returned by StableMatch; its rows are {@link MatchingAssignment}s
+ */
+@Entity
+@Table(name = "matching_runs",
+        indexes = @Index(name = "idx_matching_runs_pack_status", columnList = "pack_id, status"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchingRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "pack_id", nullable = false)
+    private Long packId;
+
+    @Column(name = "stablematch_id")
+    private String stableMatchId;
+
+    @Column(nullable = false)
+    private String algorithm;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MatchingRunStatus status;
+
+    private Integer totalStudents;
+    private Integer assignedStudents;
+    private Double averagePreferenceRank;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+}
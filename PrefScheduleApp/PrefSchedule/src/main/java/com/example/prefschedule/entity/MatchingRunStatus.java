@@ -0,0 +1,18 @@
+package com.example.prefschedule.entity;
+
+public enum MatchingRunStatus {
+    /**
+     * Stored as received from StableMatch; not yet visible to students
+     */
+    DRAFT,
+
+    /**
+     * The run that currently decides who got which course in its pack
+     */
+    PUBLISHED,
+
+    /**
+     * Was published until a newer run of the same pack was
+     */
+    SUPERSEDED
+}
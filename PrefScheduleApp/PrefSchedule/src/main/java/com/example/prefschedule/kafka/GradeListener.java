@@ -3,8 +3,8 @@ package com.example.prefschedule.kafka;
 import com.example.prefschedule.dto.FullGradeEvent;
 import com.example.prefschedule.dto.GradeEvent;
 import com.example.prefschedule.entity.StudentGrade;
-import com.example.prefschedule.repository.CourseRepository;
 import com.example.prefschedule.repository.StudentGradeRepository;
+import com.example.prefschedule.service.CourseCatalog;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
@@ -16,14 +16,14 @@ public class GradeListener {
     StudentGradeRepository repo;
 
     @Autowired
-    CourseRepository courseRepo;
+    CourseCatalog courseCatalog;
 
     @KafkaListener(topics = "grades_topic", groupId = "prefschedule-group")
     public void consume(FullGradeEvent event){
         System.out.println("📩 Received: " + event);
 
         try {
-            Boolean isCompulsory = courseRepo.isCompulsory(event.getCourseCode());
+            Boolean isCompulsory = courseCatalog.isCompulsory(event.getCourseCode());
 
             if (isCompulsory == null) {
                 System.out.println("❌ Course not found: " + event.getCourseCode());
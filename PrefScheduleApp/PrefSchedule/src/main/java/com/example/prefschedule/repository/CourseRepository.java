@@ -30,6 +30,9 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     List<Course> findByNameContainingIgnoreCase(String name);
     List<Course> findByPackId(Long packId);
 
+    @Query("SELECT c FROM Course c JOIN FETCH c.pack LEFT JOIN FETCH c.instructor WHERE c.pack.id = :packId ORDER BY c.id")
+    List<Course> findByPackIdWithInstructor(@Param("packId") Long packId);
+
     @Query("SELECT c FROM Course c WHERE c.pack.id = :packId AND c.type = 'OPTIONAL'")
     List<Course> findOptionalCoursesByPackId(@Param("packId") Long packId);
     @Query("SELECT c FROM Course c WHERE c.pack.year = :year")
@@ -37,4 +40,18 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
 
     List<Course> findByInstructorId(Long instructorId);
 
+    /**
+     * Code, type, abbreviation and pack of every course, without loading the entities
+     */
+    @Query("SELECT c.code AS code, c.type AS type, c.abbr AS abbr, p.id AS packId " +
+            "FROM Course c LEFT JOIN c.pack p")
+    List<CatalogRow> findCatalogRows();
+
+    interface CatalogRow {
+        String getCode();
+        String getType();
+        String getAbbr();
+        Long getPackId();
+    }
+
 }
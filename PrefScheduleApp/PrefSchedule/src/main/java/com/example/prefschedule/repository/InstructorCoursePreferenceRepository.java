@@ -14,6 +14,9 @@ public interface InstructorCoursePreferenceRepository extends JpaRepository<Inst
 
     List<InstructorCoursePreference> findByCourseId(Long courseId);
 
+    @Query("SELECT icp FROM InstructorCoursePreference icp WHERE icp.course.pack.id = :packId")
+    List<InstructorCoursePreference> findByPackId(@Param("packId") Long packId);
+
     @Query("SELECT icp FROM InstructorCoursePreference icp WHERE icp.course.code = :courseCode")
     List<InstructorCoursePreference> findByCourseCode(@Param("courseCode") String courseCode);
 
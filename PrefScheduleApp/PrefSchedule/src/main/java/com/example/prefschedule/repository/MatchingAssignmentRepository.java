@@ -0,0 +1,23 @@
+package com.example.prefschedule.repository;
+
+import com.example.prefschedule.entity.MatchingAssignment;
+import com.example.prefschedule.entity.MatchingRunStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface MatchingAssignmentRepository extends JpaRepository<MatchingAssignment, Long> {
+
+    @Query("SELECT a FROM MatchingAssignment a WHERE a.run.id = :runId ORDER BY a.id")
+    List<MatchingAssignment> findByRunId(@Param("runId") Long runId);
+
+    /**
+     * The student's assignments in every published run, one per pack
+     */
+    @Query("SELECT a FROM MatchingAssignment a JOIN FETCH a.run r " +
+            "WHERE a.studentCode = :studentCode AND r.status = :status ORDER BY r.packId")
+    List<MatchingAssignment> findByStudentCodeAndRunStatus(@Param("studentCode") String studentCode,
+                                                           @Param("status") MatchingRunStatus status);
+}
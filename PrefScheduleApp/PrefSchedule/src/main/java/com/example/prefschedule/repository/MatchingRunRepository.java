@@ -0,0 +1,25 @@
+package com.example.prefschedule.repository;
+
+import com.example.prefschedule.entity.MatchingRun;
+import com.example.prefschedule.entity.MatchingRunStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface MatchingRunRepository extends JpaRepository<MatchingRun, Long> {
+    List<MatchingRun> findByPackIdOrderByCreatedAtDesc(Long packId);
+    Optional<MatchingRun> findFirstByPackIdAndStatus(Long packId, MatchingRunStatus status);
+
+    @Query("SELECT r.packId FROM MatchingRun r WHERE r.id = :id")
+    Optional<Long> findPackIdById(Long id);
+
+    /**
+     * Loads every run of the pack and write-locks them, in id order, until the transaction ends
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<MatchingRun> findByPackIdOrderByIdAsc(Long packId);
+}
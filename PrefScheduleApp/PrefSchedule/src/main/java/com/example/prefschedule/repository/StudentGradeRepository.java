@@ -2,6 +2,8 @@ package com.example.prefschedule.repository;
 
 import com.example.prefschedule.entity.StudentGrade;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -9,4 +11,20 @@ public interface StudentGradeRepository extends JpaRepository<StudentGrade, Long
     List<StudentGrade> findByStudentCode(String studentCode);
     List<StudentGrade> findByCourseCode(String courseCode);
     List<StudentGrade> findByStudentCodeAndCourseCode(String studentCode, String courseCode);
+
+    /**
+     * Grades of every student of the year in compulsory courses, with the course abbreviation, in insertion order
+     */
+    @Query("SELECT g.studentCode AS studentCode, c.abbr AS courseAbbr, g.grade AS grade " +
+            "FROM StudentGrade g, Course c " +
+            "WHERE c.code = g.courseCode AND c.type = 'COMPULSORY' " +
+            "AND g.studentCode IN (SELECT s.code FROM Student s WHERE s.year = :year) " +
+            "ORDER BY g.id")
+    List<CompulsoryGrade> findCompulsoryGradesByStudentYear(@Param("year") Integer year);
+
+    interface CompulsoryGrade {
+        String getStudentCode();
+        String getCourseAbbr();
+        Double getGrade();
+    }
 }
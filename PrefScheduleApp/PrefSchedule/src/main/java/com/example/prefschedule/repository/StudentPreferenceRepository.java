@@ -15,6 +15,12 @@ public interface StudentPreferenceRepository extends JpaRepository<StudentPrefer
             @Param("studentId") Long studentId,
             @Param("packId") Long packId);
 
+    @Query("SELECT sp FROM StudentPreference sp JOIN FETCH sp.student JOIN FETCH sp.course " +
+            "WHERE sp.course.pack.id = :packId AND sp.student.year = :year ORDER BY sp.id")
+    List<StudentPreference> findByPackIdAndStudentYear(
+            @Param("packId") Long packId,
+            @Param("year") Integer year);
+
     @Query("SELECT sp FROM StudentPreference sp WHERE sp.course.id = :courseId")
     List<StudentPreference> findByCourseId(@Param("courseId") Long courseId);
 }
@@ -0,0 +1,156 @@
+package com.example.prefschedule.service;
+
+import com.example.prefschedule.repository.CourseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory snapshot of the course catalog: code → (type, abbr, packId).
+ * The snapshot is immutable and replaced as a whole, so readers never lock. It is dropped whenever
+ * a course is saved or deleted through {@link CourseService}, rebuilt on the next lookup, and also
+ * reloaded on a schedule to pick up changes made behind the service's back.
+ * Codes missing from the snapshot are looked up in the database and counted as misses.
+ */
+@Service
+@Slf4j
+public class CourseCatalog {
+
+    public record Entry(String type, String abbr, Long packId) {
+        public boolean isCompulsory() {
+            return "COMPULSORY".equalsIgnoreCase(type);
+        }
+    }
+
+    private final CourseRepository courseRepository;
+    private final AtomicReference<Map<String, Entry>> snapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public CourseCatalog(CourseRepository courseRepository, MeterRegistry meterRegistry) {
+        this.courseRepository = courseRepository;
+
+        // Create lookup counters
+        this.hitCounter = Counter.builder("prefschedule.course.catalog.lookups")
+                .description("Course catalog lookups answered from the snapshot")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("prefschedule.course.catalog.lookups")
+                .description("Course catalog lookups that went to the database")
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        Gauge.builder("prefschedule.course.catalog.size", snapshot, ref -> {
+                    Map<String, Entry> current = ref.get();
+                    return current != null ? current.size() : 0;
+                })
+                .description("Courses in the current catalog snapshot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The catalog entry of the course, or empty when no course has that code
+     */
+    public Optional<Entry> find(String courseCode) {
+        Entry entry = current().get(courseCode);
+        if (entry != null) {
+            hitCounter.increment();
+            return Optional.of(entry);
+        }
+
+        missCounter.increment();
+        return courseRepository.findByCode(courseCode)
+                .map(course -> new Entry(course.getType(), course.getAbbr(),
+                        course.getPack() != null ? course.getPack().getId() : null));
+    }
+
+    /**
+     * Whether the course is compulsory, or null when no course has that code
+     */
+    public Boolean isCompulsory(String courseCode) {
+        return find(courseCode).map(Entry::isCompulsory).orElse(null);
+    }
+
+    /**
+     * Drops the snapshot; the next lookup loads a fresh one
+     */
+    public synchronized void invalidate() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    /**
+     * Reloads the snapshot; runs on a schedule as a safety net for changes that bypass {@link #invalidate()}.
+     * The interval is read by {@code @Scheduled}, which takes milliseconds or ISO-8601 ({@code PT10M}), not {@code 10m}.
+     */
+    @Scheduled(initialDelayString = "${prefschedule.course-catalog.refresh-interval:PT10M}",
+            fixedDelayString = "${prefschedule.course-catalog.refresh-interval:PT10M}")
+    public void refresh() {
+        long loadedGeneration = generation.get();
+        Map<String, Entry> loaded = load();
+        synchronized (this) {
+            if (generation.get() == loadedGeneration) {
+                snapshot.set(loaded);
+            }
+        }
+    }
+
+    private Map<String, Entry> current() {
+        Map<String, Entry> current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+
+        long loadedGeneration = generation.get();
+        Map<String, Entry> loaded = load();
+        // An invalidation during the load means the rows may already be stale; serve them once without keeping them
+        synchronized (this) {
+            if (generation.get() == loadedGeneration) {
+                snapshot.compareAndSet(null, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private Map<String, Entry> load() {
+        Map<String, Entry> entries = new HashMap<>();
+        for (CourseRepository.CatalogRow row : courseRepository.findCatalogRows()) {
+            if (row.getCode() != null) {
+                entries.put(row.getCode(), new Entry(row.getType(), row.getAbbr(), row.getPackId()));
+            }
+        }
+        log.debug("Loaded course catalog with {} courses", entries.size());
+        return Map.copyOf(entries);
+    }
+
+    /**
+     * Whether the snapshot is currently loaded
+     */
+    boolean isLoaded() {
+        return snapshot.get() != null;
+    }
+
+    /**
+     * Lookups answered from the snapshot
+     */
+    public double getHitCount() {
+        return hitCounter.count();
+    }
+
+    /**
+     * Lookups that went to the database
+     */
+    public double getMissCount() {
+        return missCounter.count();
+    }
+}
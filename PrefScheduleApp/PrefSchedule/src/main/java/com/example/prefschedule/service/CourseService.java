@@ -10,8 +10,10 @@ import java.util.Optional;
 public class CourseService {
 
     private final CourseRepository courseRepository;
-    public CourseService(CourseRepository courseRepository) {
+    private final CourseCatalog courseCatalog;
+    public CourseService(CourseRepository courseRepository, CourseCatalog courseCatalog) {
         this.courseRepository = courseRepository;
+        this.courseCatalog = courseCatalog;
     }
 
     public List<Course> getAll() {
@@ -19,7 +21,9 @@ public class CourseService {
     }
 
     public Course save(Course course) {
-        return courseRepository.save(course);
+        Course saved = courseRepository.save(course);
+        courseCatalog.invalidate();
+        return saved;
     }
 
     public void incrementGroup(Long id) {
@@ -33,6 +37,7 @@ public class CourseService {
 
     public void deleteById(Long id) {
         courseRepository.deleteById(id);
+        courseCatalog.invalidate();
     }
 
     public Optional<Course> findByCode(String code) {
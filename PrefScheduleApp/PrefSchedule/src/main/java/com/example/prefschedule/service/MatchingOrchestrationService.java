@@ -2,58 +2,78 @@ package com.example.prefschedule.service;
 import com.example.prefschedule.client.StableMatchClient;
 import com.example.prefschedule.dto.matching.*;
 import com.example.prefschedule.entity.*;
+import com.example.prefschedule.exception.ResourceNotFoundException;
 import com.example.prefschedule.repository.*;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class MatchingOrchestrationService {
 
     private final StableMatchClient stableMatchClient;
-    private final StudentRepository studentRepository;
-    private final CourseRepository courseRepository;
-    private final StudentPreferenceRepository studentPreferenceRepository;
-    private final InstructorCoursePreferenceRepository instructorPreferenceRepository;
-    private final StudentGradeRepository studentGradeRepository;
+    private final MatchingRequestBuilder requestBuilder;
     private final PackRepository packRepository;
+    private final MatchingRunService runService;
+    private final Executor packBuildExecutor;
+    private final Executor persistExecutor;
+    private final InFlightLimiter dispatchLimiter;
+
+    public MatchingOrchestrationService(StableMatchClient stableMatchClient,
+                                        MatchingRequestBuilder requestBuilder,
+                                        PackRepository packRepository,
+                                        MatchingRunService runService,
+                                        @Qualifier("packBuildExecutor") Executor packBuildExecutor,
+                                        @Qualifier("matchingPersistExecutor") Executor persistExecutor,
+                                        @Value("${prefschedule.matching.max-in-flight:4}") int maxInFlight) {
+        this.stableMatchClient = stableMatchClient;
+        this.requestBuilder = requestBuilder;
+        this.packRepository = packRepository;
+        this.runService = runService;
+        this.packBuildExecutor = packBuildExecutor;
+        this.persistExecutor = persistExecutor;
+        this.dispatchLimiter = new InFlightLimiter(maxInFlight);
+    }
 
+    /**
+     * Matches the pack and stores the result as a draft run; the response carries the run's id
+     */
     @Transactional(readOnly = true)
     public CompletableFuture<MatchingResponseDTO> performMatchingForPack(Long packId, boolean useStableAlgorithm) {
         log.info("Starting matching orchestration for pack ID: {}", packId);
 
-        List<Course> courses = courseRepository.findByPackId(packId);
-        if (courses.isEmpty()) {
-            log.warn("No courses found for pack ID: {}", packId);
-            return CompletableFuture.completedFuture(createEmptyResponse());
-        }
-
         Pack pack = packRepository.findById(packId)
-                .orElseThrow(() -> new RuntimeException("Pack not found"));
+                .orElseThrow(() -> new ResourceNotFoundException("Pack not found"));
 
-        List<Student> students = studentRepository.findByYear(pack.getYear());
-        if (students.isEmpty()) {
-            log.warn("No students found for year: {}", pack.getYear());
+        Optional<MatchingRequestDTO> request = requestBuilder.buildForPack(pack);
+        if (request.isEmpty()) {
             return CompletableFuture.completedFuture(createEmptyResponse());
         }
 
-        MatchingRequestDTO request = buildMatchingRequest(students, courses, pack);
-
-        if (useStableAlgorithm) {
-            return stableMatchClient.createStableMatching(request);
-        } else {
-            return stableMatchClient.createRandomMatching(request);
-        }
+        CompletableFuture<MatchingResponseDTO> matching = useStableAlgorithm
+                ? stableMatchClient.createStableMatching(request.get())
+                : stableMatchClient.createRandomMatching(request.get());
+        return matching.thenApplyAsync(response -> persist(pack.getId(), useStableAlgorithm, response, null),
+                persistExecutor);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Matches every pack of the year and semester as a pipeline. Each pack's request is built on the
+     * pack build executor in its own read-only transaction and sent to StableMatch as soon as it is ready,
+     * with at most {@code max-in-flight} matching calls running across all callers. Results are stored as
+     * draft runs on the persist executor, off the HTTP client's threads; a pack keeps its dispatch slot until
+     * its run is stored, so at most {@code max-in-flight} results wait to be written.
+     * Packs without courses or students, and packs whose build or matching fails, get an empty response.
+     * Every response carries the pack's build, dispatch wait and match timings.
+     */
     public CompletableFuture<Map<Long, MatchingResponseDTO>> performMatchingForAllPacks(
             Integer year, Integer semester, boolean useStableAlgorithm) {
         log.info("Starting matching for all packs in year {} semester {}", year, semester);
@@ -65,99 +85,98 @@ public class MatchingOrchestrationService {
             return CompletableFuture.completedFuture(Collections.emptyMap());
         }
 
-        Map<Long, CompletableFuture<MatchingResponseDTO>> futureMap = packs.stream()
-                .collect(Collectors.toMap(
-                        Pack::getId,
-                        pack -> performMatchingForPack(pack.getId(), useStableAlgorithm)
-                ));
-
-        CompletableFuture<Void> allFutures = CompletableFuture.allOf(
-                futureMap.values().toArray(new CompletableFuture[0])
-        );
-
-        return allFutures.thenApply(v ->
-                futureMap.entrySet().stream()
-                        .collect(Collectors.toMap(
-                                Map.Entry::getKey,
-                                entry -> entry.getValue().join()
-                        ))
-        );
-    }
-
-    private MatchingRequestDTO buildMatchingRequest(List<Student> students,
-                                                    List<Course> courses,
-                                                    Pack pack) {
-        List<StudentPreferenceDTO> studentPreferences = students.stream()
-                .map(student -> buildStudentPreference(student, courses, pack))
-                .collect(Collectors.toList());
-
-        List<CourseCapacityDTO> courseCapacities = courses.stream()
-                .map(course -> CourseCapacityDTO.builder()
-                        .courseCode(course.getCode())
-                        .capacity(course.getGroupCount() != null ? course.getGroupCount() * 30 : 30)
-                        .instructorId(course.getInstructor() != null ?
-                                course.getInstructor().getId().toString() : null)
-                        .build())
-                .collect(Collectors.toList());
-
-        List<InstructorPreferenceDTO> instructorPreferences = courses.stream()
-                .map(this::buildInstructorPreference)
-                .collect(Collectors.toList());
+        List<CompletableFuture<MatchingResponseDTO>> responses = new ArrayList<>(packs.size());
+        for (Pack pack : packs) {
+            responses.add(matchPack(pack, useStableAlgorithm));
+        }
 
-        return MatchingRequestDTO.builder()
-                .studentPreferences(studentPreferences)
-                .courses(courseCapacities)
-                .instructorPreferences(instructorPreferences)
-                .build();
+        return CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new))
+                .thenApply(done -> {
+                    Map<Long, MatchingResponseDTO> results = new LinkedHashMap<>();
+                    for (int i = 0; i < packs.size(); i++) {
+                        results.put(packs.get(i).getId(), responses.get(i).join());
+                    }
+                    return results;
+                });
     }
 
-    private StudentPreferenceDTO buildStudentPreference(Student student,
-                                                        List<Course> courses,
-                                                        Pack pack) {
-        List<StudentPreference> preferences = studentPreferenceRepository
-                .findByStudentIdAndCoursePackId(student.getId(), pack.getId());
+    private CompletableFuture<MatchingResponseDTO> matchPack(Pack pack, boolean useStableAlgorithm) {
+        PackTimingsDTO timings = new PackTimingsDTO();
+
+        return CompletableFuture
+                .supplyAsync(() -> {
+                    long buildStart = System.nanoTime();
+                    try {
+                        return requestBuilder.buildForPack(pack);
+                    } finally {
+                        timings.setBuildMs(elapsedMs(buildStart));
+                    }
+                }, packBuildExecutor)
+                .thenCompose(request -> {
+                    if (request.isEmpty()) {
+                        return CompletableFuture.completedFuture(createEmptyResponse());
+                    }
+                    long readyAt = System.nanoTime();
+                    return dispatchLimiter.submit(() -> {
+                        timings.setDispatchWaitMs(elapsedMs(readyAt));
+                        long dispatchedAt = System.nanoTime();
+                        CompletableFuture<MatchingResponseDTO> matching = useStableAlgorithm
+                                ? stableMatchClient.createStableMatching(request.get())
+                                : stableMatchClient.createRandomMatching(request.get());
+                        return matching
+                                .whenComplete((response, ex) -> timings.setMatchMs(elapsedMs(dispatchedAt)))
+                                .thenApplyAsync(response -> persist(pack.getId(), useStableAlgorithm, response, timings),
+                                        persistExecutor);
+                    });
+                })
+                .handle((response, ex) -> {
+                    if (ex != null) {
+                        log.warn("Matching failed for pack {}", pack.getId(), ex);
+                        response = createEmptyResponse();
+                    } else if (response == null) {
+                        response = createEmptyResponse();
+                    }
+                    response.setTimings(timings);
+                    log.debug("Pack {} matched: {}", pack.getId(), timings);
+                    return response;
+                });
+    }
 
-        Map<Long, Integer> courseOrderMap = new HashMap<>();
-        for (StudentPreference pref : preferences) {
-            courseOrderMap.put(pref.getCourse().getId(), pref.getPreferenceOrder());
+    /**
+     * Stores a StableMatch result as a draft run, labelled with the algorithm StableMatch actually ran, which
+     * is RANDOM when a stable request was answered by the random fallback. Local fallback responses carry no
+     * StableMatch id and are not stored; a failed write is logged and the response is returned without a run id.
+     */
+    private MatchingResponseDTO persist(Long packId, boolean useStableAlgorithm, MatchingResponseDTO response,
+                                        PackTimingsDTO timings) {
+        if (response == null || response.getMatchingId() == null) {
+            return response;
+        }
+        if (response.getAlgorithm() == null) {
+            log.warn("Matching {} of pack {} does not say which algorithm ran; not storing it",
+                    response.getMatchingId(), packId);
+            return response;
+        }
+        if (useStableAlgorithm && !"STABLE".equals(response.getAlgorithm())) {
+            log.warn("Stable matching of pack {} was answered by the {} fallback", packId, response.getAlgorithm());
         }
 
-        List<String> preferredCourses = courses.stream()
-                .sorted(Comparator.comparing(c -> courseOrderMap.getOrDefault(c.getId(), Integer.MAX_VALUE)))
-                .map(Course::getCode)
-                .collect(Collectors.toList());
-
-        List<StudentGrade> grades = studentGradeRepository.findByStudentCode(student.getCode());
-        Map<String, Double> courseGrades = new HashMap<>();
-
-        for (StudentGrade grade : grades) {
-            Course course = courseRepository.findByCode(grade.getCourseCode()).orElse(null);
-            if (course != null && "COMPULSORY".equals(course.getType())) {
-                courseGrades.put(course.getAbbr(), grade.getGrade());
+        long persistStart = System.nanoTime();
+        try {
+            MatchingRun run = runService.record(packId, response.getAlgorithm(), response);
+            response.setRunId(run.getId());
+        } catch (RuntimeException ex) {
+            log.error("Could not store the matching of pack {}", packId, ex);
+        } finally {
+            if (timings != null) {
+                timings.setPersistMs(elapsedMs(persistStart));
             }
         }
-
-        return StudentPreferenceDTO.builder()
-                .studentCode(student.getCode())
-                .preferredCourses(preferredCourses)
-                .courseGrades(courseGrades)
-                .build();
+        return response;
     }
 
-    private InstructorPreferenceDTO buildInstructorPreference(Course course) {
-        List<InstructorCoursePreference> preferences =
-                instructorPreferenceRepository.findByCourseId(course.getId());
-
-        Map<String, Double> gradeWeights = preferences.stream()
-                .collect(Collectors.toMap(
-                        InstructorCoursePreference::getCompulsoryCourseAbbr,
-                        InstructorCoursePreference::getWeightPercentage
-                ));
-
-        return InstructorPreferenceDTO.builder()
-                .courseCode(course.getCode())
-                .gradeWeights(gradeWeights)
-                .build();
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
     }
 
     private MatchingResponseDTO createEmptyResponse() {
@@ -0,0 +1,110 @@
+package com.example.prefschedule.service;
+
+import com.example.prefschedule.dto.matching.*;
+import com.example.prefschedule.entity.*;
+import com.example.prefschedule.repository.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the StableMatch request of a pack with a fixed number of set-based queries:
+ * the pack's courses, the students of its year, their preferences for the pack, their compulsory grades
+ * and the instructors' grade weights are each loaded at once and grouped in memory.
+ * The query count does not depend on how many students or courses the pack has.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MatchingRequestBuilder {
+
+    private final StudentRepository studentRepository;
+    private final CourseRepository courseRepository;
+    private final StudentPreferenceRepository studentPreferenceRepository;
+    private final InstructorCoursePreferenceRepository instructorPreferenceRepository;
+    private final StudentGradeRepository studentGradeRepository;
+
+    /**
+     * The matching request of the pack, or empty when the pack has no courses or its year has no students
+     */
+    @Transactional(readOnly = true)
+    public Optional<MatchingRequestDTO> buildForPack(Pack pack) {
+        List<Course> courses = courseRepository.findByPackIdWithInstructor(pack.getId());
+        if (courses.isEmpty()) {
+            log.warn("No courses found for pack ID: {}", pack.getId());
+            return Optional.empty();
+        }
+
+        List<Student> students = studentRepository.findByYear(pack.getYear());
+        if (students.isEmpty()) {
+            log.warn("No students found for year: {}", pack.getYear());
+            return Optional.empty();
+        }
+
+        Map<Long, Map<Long, Integer>> courseOrdersByStudent = new HashMap<>();
+        for (StudentPreference preference : studentPreferenceRepository
+                .findByPackIdAndStudentYear(pack.getId(), pack.getYear())) {
+            courseOrdersByStudent
+                    .computeIfAbsent(preference.getStudent().getId(), id -> new HashMap<>())
+                    .put(preference.getCourse().getId(), preference.getPreferenceOrder());
+        }
+
+        Map<String, Map<String, Double>> gradesByStudent = new HashMap<>();
+        for (StudentGradeRepository.CompulsoryGrade grade : studentGradeRepository
+                .findCompulsoryGradesByStudentYear(pack.getYear())) {
+            gradesByStudent
+                    .computeIfAbsent(grade.getStudentCode(), code -> new HashMap<>())
+                    .put(grade.getCourseAbbr(), grade.getGrade());
+        }
+
+        Map<Long, List<InstructorCoursePreference>> weightsByCourse = instructorPreferenceRepository
+                .findByPackId(pack.getId()).stream()
+                .collect(Collectors.groupingBy(preference -> preference.getCourse().getId()));
+
+        List<StudentPreferenceDTO> studentPreferences = new ArrayList<>(students.size());
+        for (Student student : students) {
+            Map<Long, Integer> courseOrder = courseOrdersByStudent.getOrDefault(student.getId(), Map.of());
+            List<String> preferredCourses = courses.stream()
+                    .sorted(Comparator.comparing(c -> courseOrder.getOrDefault(c.getId(), Integer.MAX_VALUE)))
+                    .map(Course::getCode)
+                    .collect(Collectors.toList());
+
+            studentPreferences.add(StudentPreferenceDTO.builder()
+                    .studentCode(student.getCode())
+                    .preferredCourses(preferredCourses)
+                    .courseGrades(gradesByStudent.getOrDefault(student.getCode(), new HashMap<>()))
+                    .build());
+        }
+
+        List<CourseCapacityDTO> courseCapacities = courses.stream()
+                .map(course -> CourseCapacityDTO.builder()
+                        .courseCode(course.getCode())
+                        .capacity(course.getGroupCount() != null ? course.getGroupCount() * 30 : 30)
+                        .instructorId(course.getInstructor() != null ?
+                                course.getInstructor().getId().toString() : null)
+                        .build())
+                .collect(Collectors.toList());
+
+        List<InstructorPreferenceDTO> instructorPreferences = courses.stream()
+                .map(course -> InstructorPreferenceDTO.builder()
+                        .courseCode(course.getCode())
+                        .gradeWeights(weightsByCourse.getOrDefault(course.getId(), List.of()).stream()
+                                .collect(Collectors.toMap(
+                                        InstructorCoursePreference::getCompulsoryCourseAbbr,
+                                        InstructorCoursePreference::getWeightPercentage
+                                )))
+                        .build())
+                .collect(Collectors.toList());
+
+        return Optional.of(MatchingRequestDTO.builder()
+                .studentPreferences(studentPreferences)
+                .courses(courseCapacities)
+                .instructorPreferences(instructorPreferences)
+                .packId(pack.getId())
+                .build());
+    }
+}
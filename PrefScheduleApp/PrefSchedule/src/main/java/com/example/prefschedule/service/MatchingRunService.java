@@ -0,0 +1,165 @@
+package com.example.prefschedule.service;
+
+import com.example.prefschedule.dto.matching.AssignmentDTO;
+import com.example.prefschedule.dto.matching.MatchingResponseDTO;
+import com.example.prefschedule.dto.matching.MatchingStatisticsDTO;
+import com.example.prefschedule.entity.MatchingAssignment;
+import com.example.prefschedule.entity.MatchingRun;
+import com.example.prefschedule.entity.MatchingRunStatus;
+import com.example.prefschedule.exception.ResourceNotFoundException;
+import com.example.prefschedule.repository.MatchingAssignmentRepository;
+import com.example.prefschedule.repository.MatchingRunRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the matchings PrefSchedule receives from StableMatch, so who got which course survives restarts
+ * of either service and older runs stay available. A run is stored as a draft and becomes the pack's
+ * answer once it is published.
+ */
+@Service
+@Slf4j
+public class MatchingRunService {
+
+    private final MatchingRunRepository runRepository;
+    private final MatchingAssignmentRepository assignmentRepository;
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public MatchingRunService(MatchingRunRepository runRepository,
+                              MatchingAssignmentRepository assignmentRepository,
+                              EntityManager entityManager,
+                              @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.runRepository = runRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Stores the response as a draft run of the pack. Assignments are flushed every {@code batch_size} rows,
+     * so Hibernate sends them as JDBC batches, and then detached to keep the session small for large packs.
+     */
+    @Transactional
+    public MatchingRun record(Long packId, String algorithm, MatchingResponseDTO response) {
+        MatchingStatisticsDTO statistics = response.getStatistics();
+        MatchingRun run = runRepository.save(MatchingRun.builder()
+                .packId(packId)
+                .stableMatchId(response.getMatchingId())
+                .algorithm(algorithm)
+                .status(MatchingRunStatus.DRAFT)
+                .totalStudents(statistics != null ? statistics.getTotalStudents() : null)
+                .assignedStudents(statistics != null ? statistics.getAssignedStudents() : null)
+                .averagePreferenceRank(statistics != null ? statistics.getAveragePreferenceRank() : null)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        List<AssignmentDTO> assignments = response.getAssignments();
+        if (assignments == null) {
+            return run;
+        }
+
+        int pending = 0;
+        for (AssignmentDTO assignment : assignments) {
+            entityManager.persist(MatchingAssignment.builder()
+                    .run(run)
+                    .studentCode(assignment.getStudentCode())
+                    .courseCode(assignment.getCourseCode())
+                    .preferenceRank(assignment.getPreferenceRank())
+                    .studentScore(assignment.getStudentScore())
+                    .build());
+            if (++pending == batchSize) {
+                entityManager.flush();
+                entityManager.clear();
+                pending = 0;
+            }
+        }
+        entityManager.flush();
+        log.info("Stored matching run {} of pack {} with {} assignments", run.getId(), packId, assignments.size());
+        return run;
+    }
+
+    /**
+     * Makes the run the published one of its pack; the previously published run becomes superseded.
+     * All runs of the pack are write-locked first, so concurrent publishes of one pack take turns and
+     * the pack never ends up with two published runs, not even when it had none before.
+     */
+    @Transactional
+    public MatchingRun publish(Long runId) {
+        Long packId = runRepository.findPackIdById(runId)
+                .orElseThrow(() -> new ResourceNotFoundException("Matching run not found"));
+        List<MatchingRun> runs = runRepository.findByPackIdOrderByIdAsc(packId);
+        MatchingRun run = runs.stream()
+                .filter(r -> r.getId().equals(runId))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Matching run not found"));
+        if (run.getStatus() == MatchingRunStatus.PUBLISHED) {
+            return run;
+        }
+
+        for (MatchingRun published : runs) {
+            if (published.getStatus() == MatchingRunStatus.PUBLISHED) {
+                published.setStatus(MatchingRunStatus.SUPERSEDED);
+            }
+        }
+        run.setStatus(MatchingRunStatus.PUBLISHED);
+        run.setPublishedAt(LocalDateTime.now());
+        log.info("Published matching run {} of pack {}", run.getId(), run.getPackId());
+        return run;
+    }
+
+    @Transactional(readOnly = true)
+    public MatchingRun getRun(Long runId) {
+        return runRepository.findById(runId)
+                .orElseThrow(() -> new ResourceNotFoundException("Matching run not found"));
+    }
+
+    @Transactional(readOnly = true)
+    public List<MatchingRun> getRunsForPack(Long packId) {
+        return runRepository.findByPackIdOrderByCreatedAtDesc(packId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<AssignmentDTO> getAssignments(Long runId) {
+        if (!runRepository.existsById(runId)) {
+            throw new ResourceNotFoundException("Matching run not found");
+        }
+        return toDTOs(assignmentRepository.findByRunId(runId));
+    }
+
+    /**
+     * The assignments of the pack's published run
+     */
+    @Transactional(readOnly = true)
+    public List<AssignmentDTO> getPublishedAssignments(Long packId) {
+        MatchingRun run = runRepository.findFirstByPackIdAndStatus(packId, MatchingRunStatus.PUBLISHED)
+                .orElseThrow(() -> new ResourceNotFoundException("No published matching for this pack"));
+        return toDTOs(assignmentRepository.findByRunId(run.getId()));
+    }
+
+    /**
+     * The student's course in every pack with a published run
+     */
+    @Transactional(readOnly = true)
+    public List<AssignmentDTO> getPublishedAssignmentsForStudent(String studentCode) {
+        return toDTOs(assignmentRepository.findByStudentCodeAndRunStatus(studentCode, MatchingRunStatus.PUBLISHED));
+    }
+
+    private static List<AssignmentDTO> toDTOs(List<MatchingAssignment> assignments) {
+        return assignments.stream()
+                .map(assignment -> AssignmentDTO.builder()
+                        .studentCode(assignment.getStudentCode())
+                        .courseCode(assignment.getCourseCode())
+                        .preferenceRank(assignment.getPreferenceRank())
+                        .studentScore(assignment.getStudentScore())
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.prefschedule.client;
+
+import com.example.prefschedule.dto.matching.MatchingRequestDTO;
+import com.example.prefschedule.dto.matching.MatchingResponseDTO;
+import com.example.prefschedule.dto.matching.StudentPreferenceDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.springboot3.circuitbreaker.autoconfigure.CircuitBreakerAutoConfiguration;
+import io.github.resilience4j.springboot3.retry.autoconfigure.RetryAutoConfiguration;
+import io.github.resilience4j.springboot3.timelimiter.autoconfigure.TimeLimiterAutoConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs the client against a stub StableMatch on a local HTTP server
+ */
+class StableMatchClientHttpTest {
+
+    private HttpServer stableMatch;
+    private final Queue<String> calls = new ConcurrentLinkedQueue<>();
+    private final Map<String, Response> responses = new ConcurrentHashMap<>();
+
+    private record Response(int status, String contentType, byte[] body) {
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stableMatch = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stableMatch.createContext("/api/matching", this::answer);
+        stableMatch.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stableMatch.stop(0);
+    }
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: With the JSON wire format a JSON response is decoded as JSON")
+    void testCreateRandomMatching_JsonResponse() throws Exception {
+        // Given
+        responses.put("/api/matching/random", json(200, "{\"matchingId\":\"random-1\",\"assignments\":[]}"));
+
+        // When
+        MatchingResponseDTO response = client(MatchingWireFormat.JSON).createRandomMatching(request())
+                .get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(calls).containsExactly("/api/matching/random");
+        assertThat(response.getMatchingId()).isEqualTo("random-1");
+        assertThat(response.getAssignments()).isEmpty();
+        assertThat(response.getAlgorithm()).isEqualTo("RANDOM");
+    }
+
+    @Test
+    @DisplayName("Happy Path: A stable matching that fails over to random is labelled RANDOM")
+    void testCreateStableMatching_FallbackIsLabelledRandom() {
+        // Given
+        responses.put("/api/matching/stable", json(500, "{}"));
+        responses.put("/api/matching/random", json(200, "{\"matchingId\":\"random-1\",\"assignments\":[]}"));
+
+        new ApplicationContextRunner()
+                // @Value needs Boot's converters for the DataSize settings
+                .withInitializer(context -> context.getBeanFactory()
+                        .setConversionService(ApplicationConversionService.getSharedInstance()))
+                .withConfiguration(AutoConfigurations.of(AopAutoConfiguration.class, JacksonAutoConfiguration.class,
+                        CircuitBreakerAutoConfiguration.class, RetryAutoConfiguration.class,
+                        TimeLimiterAutoConfiguration.class))
+                .withBean("taskExecutor", Executor.class, () -> Runnable::run)
+                .withBean(StableMatchClient.class)
+                .withPropertyValues(
+                        "stablematch.service.url=http://localhost:" + stableMatch.getAddress().getPort(),
+                        "stablematch.service.wire-format=JSON",
+                        "stablematch.service.response-layout=ROWS",
+                        "resilience4j.retry.instances.stableMatchService.maxAttempts=1")
+                .run(context -> {
+                    // When
+                    MatchingResponseDTO response = context.getBean(StableMatchClient.class)
+                            .createStableMatching(request())
+                            .get(10, TimeUnit.SECONDS);
+
+                    // Then
+                    assertThat(calls).containsExactly("/api/matching/stable", "/api/matching/random");
+                    assertThat(response.getMatchingId()).isEqualTo("random-1");
+                    assertThat(response.getAlgorithm()).isEqualTo("RANDOM");
+                });
+    }
+
+    @Test
+    @DisplayName("Happy Path: With the Smile wire format a Smile response is decoded as Smile")
+    void testCreateRandomMatching_SmileResponse() throws Exception {
+        // Given
+        byte[] smile = new ObjectMapper(new SmileFactory())
+                .writeValueAsBytes(Map.of("matchingId", "random-2", "assignments", List.of()));
+        responses.put("/api/matching/random", new Response(200, "application/x-jackson-smile", smile));
+
+        // When
+        MatchingResponseDTO response = client(MatchingWireFormat.SMILE).createRandomMatching(request())
+                .get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(response.getMatchingId()).isEqualTo("random-2");
+    }
+
+    @SuppressWarnings("unchecked")
+    private StableMatchClient client(MatchingWireFormat wireFormat) {
+        return new StableMatchClient("http://localhost:" + stableMatch.getAddress().getPort(), wireFormat,
+                MatchingResponseLayout.ROWS, DataSize.ofKilobytes(8), DataSize.ofMegabytes(64), new ObjectMapper(),
+                Runnable::run, mock(ObjectProvider.class));
+    }
+
+    private void answer(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        calls.add(path);
+        exchange.getRequestBody().readAllBytes();
+        Response response = responses.getOrDefault(path, json(404, "{}"));
+        exchange.getResponseHeaders().add("Content-Type", response.contentType());
+        exchange.sendResponseHeaders(response.status(), response.body().length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response.body());
+        }
+    }
+
+    private static Response json(int status, String body) {
+        return new Response(status, "application/json", body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MatchingRequestDTO request() {
+        return MatchingRequestDTO.builder()
+                .packId(1L)
+                .studentPreferences(List.of(StudentPreferenceDTO.builder().studentCode("STU1").build()))
+                .build();
+    }
+}
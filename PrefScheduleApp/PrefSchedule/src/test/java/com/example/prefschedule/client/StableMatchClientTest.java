@@ -0,0 +1,108 @@
+package com.example.prefschedule.client;
+
+import com.example.prefschedule.dto.matching.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StableMatchClientTest {
+
+    @Mock
+    private ObjectProvider<StableMatchClient> self;
+
+    @Mock
+    private StableMatchClient proxy;
+
+    private StableMatchClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = new StableMatchClient("http://localhost:1", MatchingWireFormat.JSON, MatchingResponseLayout.ROWS,
+                DataSize.ofKilobytes(8), DataSize.ofMegabytes(64), new ObjectMapper(), Runnable::run, self);
+        when(self.getObject()).thenReturn(proxy);
+    }
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: A failed batch call matches every pack on its own through the fallback chain")
+    void testBatchFallback_RetriesPacksIndividually() throws Exception {
+        // Given
+        List<MatchingRequestDTO> requests = List.of(request(1L, 2), request(2L, 3), request(3L, 1));
+        when(proxy.createStableMatching(requests.get(0)))
+                .thenReturn(CompletableFuture.completedFuture(response("m-1")));
+        when(proxy.createStableMatching(requests.get(1)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("random failed too")));
+        when(proxy.createStableMatching(requests.get(2)))
+                .thenReturn(CompletableFuture.completedFuture(response("m-3")));
+
+        // When
+        BatchMatchingResponseDTO batch = client
+                .createBatchMatchingFallback(requests, true, new IllegalStateException("batch timed out"))
+                .get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(batch.getSucceeded()).isEqualTo(2);
+        assertThat(batch.getFailed()).isEqualTo(1);
+        assertThat(batch.getResults()).extracting(PackMatchingResultDTO::getPackId, PackMatchingResultDTO::getStatus)
+                .containsExactly(
+                        tuple(1L, PackMatchingStatus.SUCCEEDED),
+                        tuple(2L, PackMatchingStatus.FAILED),
+                        tuple(3L, PackMatchingStatus.SUCCEEDED));
+        PackMatchingResultDTO failed = batch.getResults().get(1);
+        assertThat(failed.getIndex()).isEqualTo(1);
+        assertThat(failed.getError()).isEqualTo("batch timed out");
+        assertThat(failed.getResponse().getStatistics().getUnassignedStudents()).isEqualTo(3);
+        assertThat(batch.getResults().get(2).getResponse().getMatchingId()).isEqualTo("m-3");
+        verify(proxy, never()).createRandomMatching(any());
+    }
+
+    @Test
+    @DisplayName("Happy Path: A failed random batch call matches every pack with the random matching")
+    void testBatchFallback_RandomPacks() throws Exception {
+        // Given
+        List<MatchingRequestDTO> requests = List.of(request(1L, 2), request(2L, 2));
+        when(proxy.createRandomMatching(any(MatchingRequestDTO.class)))
+                .thenReturn(CompletableFuture.completedFuture(response("r")));
+
+        // When
+        BatchMatchingResponseDTO batch = client
+                .createBatchMatchingFallback(requests, false, new IllegalStateException("circuit open"))
+                .get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(batch.getSucceeded()).isEqualTo(2);
+        assertThat(batch.getFailed()).isZero();
+        verify(proxy, times(2)).createRandomMatching(any(MatchingRequestDTO.class));
+        verify(proxy, never()).createStableMatching(any());
+    }
+
+    private static MatchingRequestDTO request(Long packId, int students) {
+        List<StudentPreferenceDTO> preferences = new ArrayList<>();
+        for (int s = 0; s < students; s++) {
+            preferences.add(StudentPreferenceDTO.builder().studentCode("STU" + packId + s).build());
+        }
+        return MatchingRequestDTO.builder().packId(packId).studentPreferences(preferences).build();
+    }
+
+    private static MatchingResponseDTO response(String matchingId) {
+        return MatchingResponseDTO.builder().matchingId(matchingId).assignments(List.of()).build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.prefschedule.controller;
+
+import com.example.prefschedule.dto.matching.MatchingResponseDTO;
+import com.example.prefschedule.service.MatchingOrchestrationService;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the matching endpoints on a real Tomcat with a deliberately small thread pool and keeps many
+ * matchings in flight at once. While StableMatch "works", no servlet thread may be held: every request
+ * must have reached the service and the pool must still answer other requests.
+ */
+@SpringBootTest(classes = MatchingControllerLoadTest.WebApp.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.tomcat.threads.max=4",
+                "server.tomcat.threads.min-spare=4",
+                "spring.mvc.async.request-timeout=60s"
+        })
+class MatchingControllerLoadTest {
+
+    private static final int IN_FLIGHT = 40;
+
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({
+            ServletWebServerFactoryAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class,
+            JacksonAutoConfiguration.class,
+            TaskExecutionAutoConfiguration.class
+    })
+    @Import(MatchingController.class)
+    static class WebApp {
+    }
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @MockBean
+    private MatchingOrchestrationService orchestrationService;
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: Servlet thread usage stays flat while ten times more matchings than threads are in flight")
+    void testInFlightMatchingsDoNotHoldServletThreads() throws Exception {
+        // Given
+        Queue<CompletableFuture<MatchingResponseDTO>> pending = new ConcurrentLinkedQueue<>();
+        when(orchestrationService.performMatchingForPack(anyLong(), anyBoolean())).thenAnswer(invocation -> {
+            CompletableFuture<MatchingResponseDTO> matching = new CompletableFuture<>();
+            pending.add(matching);
+            return matching;
+        });
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        String baseUrl = "http://localhost:" + context.getWebServer().getPort() + "/api/matching";
+        ThreadPoolExecutor servletThreads = servletThreads();
+
+        // When
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < IN_FLIGHT; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/pack/" + i))
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        awaitPending(pending, IN_FLIGHT);
+        Thread.sleep(100);
+        int busyWhileInFlight = servletThreads.getActiveCount();
+        HttpResponse<String> health = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/health")).timeout(Duration.ofSeconds(2)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        pending.forEach(matching -> matching.complete(MatchingResponseDTO.builder().assignments(List.of()).build()));
+
+        // Then
+        assertThat(pending).hasSize(IN_FLIGHT);
+        assertThat(busyWhileInFlight).isLessThanOrEqualTo(1);
+        assertThat(health.statusCode()).isEqualTo(200);
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertThat(response.get(10, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+        }
+    }
+
+    private ThreadPoolExecutor servletThreads() {
+        TomcatWebServer webServer = (TomcatWebServer) context.getWebServer();
+        return (ThreadPoolExecutor) webServer.getTomcat().getConnector().getProtocolHandler().getExecutor();
+    }
+
+    /**
+     * With blocking handlers only as many requests as there are servlet threads would ever reach the service
+     */
+    private static void awaitPending(Queue<?> pending, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pending.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(pending).hasSize(expected);
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.prefschedule.controller;
+
+import com.example.prefschedule.dto.matching.MatchingResponseDTO;
+import com.example.prefschedule.dto.matching.MatchingStatisticsDTO;
+import com.example.prefschedule.exception.GlobalExceptionHandler;
+import com.example.prefschedule.exception.ResourceNotFoundException;
+import com.example.prefschedule.service.MatchingOrchestrationService;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = MatchingController.class,
+        excludeAutoConfiguration = {
+                org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class
+        },
+        properties = "prefschedule.matching.pack-timeout=200ms")
+@Import(GlobalExceptionHandler.class)
+class MatchingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private MatchingOrchestrationService orchestrationService;
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: Pack matching is answered asynchronously with the StableMatch result")
+    void testPerformMatchingForPack_Success() throws Exception {
+        // Given
+        MatchingResponseDTO response = MatchingResponseDTO.builder()
+                .assignments(List.of())
+                .statistics(MatchingStatisticsDTO.builder().totalStudents(3).assignedStudents(3).build())
+                .build();
+        when(orchestrationService.performMatchingForPack(1L, true))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/matching/pack/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statistics.totalStudents").value(3));
+    }
+
+    @Test
+    @DisplayName("Happy Path: All-packs matching returns the result of every pack")
+    void testPerformMatchingForAllPacks_Success() throws Exception {
+        // Given
+        when(orchestrationService.performMatchingForAllPacks(3, 1, true))
+                .thenReturn(CompletableFuture.completedFuture(Map.of(7L, MatchingResponseDTO.builder().build())));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/matching/year/3/semester/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.7").exists());
+    }
+
+    // ============ EDGE CASE TESTS ============
+
+    @Test
+    @DisplayName("Edge Case: An unknown pack is reported as 404")
+    void testPerformMatchingForPack_PackNotFound() throws Exception {
+        // Given
+        when(orchestrationService.performMatchingForPack(anyLong(), anyBoolean()))
+                .thenThrow(new ResourceNotFoundException("Pack not found"));
+
+        // When & Then
+        MvcResult result = mockMvc.perform(post("/api/matching/pack/99")).andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Edge Case: A matching that outlives the endpoint timeout is answered with 504")
+    void testPerformMatchingForPack_Timeout() throws Exception {
+        // Given
+        when(orchestrationService.performMatchingForPack(anyLong(), anyBoolean()))
+                .thenReturn(new CompletableFuture<>());
+
+        // When & Then
+        MvcResult result = mockMvc.perform(post("/api/matching/pack/1")).andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isGatewayTimeout());
+    }
+
+    @Test
+    @DisplayName("Edge Case: An open circuit breaker is reported as 503")
+    void testPerformMatchingForPack_CircuitOpen() throws Exception {
+        // Given
+        CallNotPermittedException open = CallNotPermittedException
+                .createCallNotPermittedException(CircuitBreaker.ofDefaults("stableMatchService"));
+        when(orchestrationService.performMatchingForPack(anyLong(), anyBoolean()))
+                .thenReturn(CompletableFuture.failedFuture(open));
+
+        // When & Then
+        MvcResult result = mockMvc.perform(post("/api/matching/pack/1")).andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @DisplayName("Edge Case: A StableMatch error response is reported as 502")
+    void testPerformMatchingForAllPacks_StableMatchError() throws Exception {
+        // Given
+        WebClientResponseException error = WebClientResponseException
+                .create(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Internal Server Error", null, null, null);
+        when(orchestrationService.performMatchingForAllPacks(anyInt(), anyInt(), anyBoolean()))
+                .thenReturn(CompletableFuture.failedFuture(error));
+
+        // When & Then
+        MvcResult result = mockMvc.perform(post("/api/matching/year/3/semester/1")).andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadGateway());
+    }
+}
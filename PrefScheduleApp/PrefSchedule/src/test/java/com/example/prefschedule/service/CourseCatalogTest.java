@@ -0,0 +1,184 @@
+package com.example.prefschedule.service;
+
+import com.example.prefschedule.config.SchedulingConfig;
+import com.example.prefschedule.entity.Course;
+import com.example.prefschedule.entity.Pack;
+import com.example.prefschedule.repository.CourseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTask;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseCatalogTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private CourseCatalog courseCatalog;
+
+    @BeforeEach
+    void setUp() {
+        courseCatalog = new CourseCatalog(courseRepository, new SimpleMeterRegistry());
+    }
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: Repeated lookups are answered from one snapshot load")
+    void testFind_ServedFromSnapshot() {
+        // Given
+        when(courseRepository.findCatalogRows()).thenReturn(List.of(
+                row("CS101", "COMPULSORY", "MATH", 1L),
+                row("OPT1", "OPTIONAL", "AI", 3L)));
+
+        // When
+        Boolean mathCompulsory = courseCatalog.isCompulsory("CS101");
+        Boolean aiCompulsory = courseCatalog.isCompulsory("OPT1");
+        Optional<CourseCatalog.Entry> ai = courseCatalog.find("OPT1");
+
+        // Then
+        assertThat(mathCompulsory).isTrue();
+        assertThat(aiCompulsory).isFalse();
+        assertThat(ai).contains(new CourseCatalog.Entry("OPTIONAL", "AI", 3L));
+        assertThat(courseCatalog.getHitCount()).isEqualTo(3.0);
+        assertThat(courseCatalog.getMissCount()).isZero();
+        verify(courseRepository, times(1)).findCatalogRows();
+        verify(courseRepository, never()).isCompulsory(any());
+    }
+
+    @Test
+    @DisplayName("Happy Path: Invalidating the catalog makes the next lookup see the new course")
+    void testInvalidate_ReloadsSnapshot() {
+        // Given
+        when(courseRepository.findCatalogRows())
+                .thenReturn(List.of(row("CS101", "COMPULSORY", "MATH", 1L)))
+                .thenReturn(List.of(row("CS101", "OPTIONAL", "MATH", 1L)));
+        assertThat(courseCatalog.isCompulsory("CS101")).isTrue();
+
+        // When
+        courseCatalog.invalidate();
+
+        // Then
+        assertThat(courseCatalog.isLoaded()).isFalse();
+        assertThat(courseCatalog.isCompulsory("CS101")).isFalse();
+        verify(courseRepository, times(2)).findCatalogRows();
+    }
+
+    @Test
+    @DisplayName("Happy Path: Saving or deleting a course through the service invalidates the catalog")
+    void testCourseService_InvalidatesCatalog() {
+        // Given
+        when(courseRepository.findCatalogRows()).thenReturn(List.of());
+        CourseService courseService = new CourseService(courseRepository, courseCatalog);
+        Course course = new Course();
+        when(courseRepository.save(course)).thenReturn(course);
+
+        // When
+        courseCatalog.refresh();
+        courseService.save(course);
+        boolean loadedAfterSave = courseCatalog.isLoaded();
+        courseCatalog.refresh();
+        courseService.deleteById(1L);
+
+        // Then
+        assertThat(loadedAfterSave).isFalse();
+        assertThat(courseCatalog.isLoaded()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Happy Path: The scheduled refresh registers with the interval from application.yml")
+    void testRefresh_ScheduledFromApplicationYml() throws IOException {
+        // Given
+        String interval = String.valueOf(applicationYml().getProperty("prefschedule.course-catalog.refresh-interval"));
+
+        // When & Then
+        schedulingContext()
+                .withPropertyValues("prefschedule.course-catalog.refresh-interval=" + interval)
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(refreshDelay(context.getBean(ScheduledTaskHolder.class))).isEqualTo(Duration.ofMinutes(10));
+                });
+    }
+
+    @Test
+    @DisplayName("Happy Path: The scheduled refresh registers with its default interval")
+    void testRefresh_ScheduledWithDefaultInterval() {
+        schedulingContext().run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(refreshDelay(context.getBean(ScheduledTaskHolder.class))).isEqualTo(Duration.ofMinutes(10));
+        });
+    }
+
+    // ============ EDGE CASE TESTS ============
+
+    @Test
+    @DisplayName("Edge Case: A code missing from the snapshot is looked up in the database and counted as a miss")
+    void testFind_MissFallsBackToDatabase() {
+        // Given
+        when(courseRepository.findCatalogRows()).thenReturn(List.of(row("CS101", "COMPULSORY", "MATH", 1L)));
+        Pack pack = new Pack(1, 1, "Compulsory");
+        pack.setId(1L);
+        Course created = new Course("COMPULSORY", "CS102", "OOP", "Programming", 1, null, null, pack);
+        when(courseRepository.findByCode("CS102")).thenReturn(Optional.of(created));
+        when(courseRepository.findByCode("NOPE")).thenReturn(Optional.empty());
+
+        // When
+        Boolean created102 = courseCatalog.isCompulsory("CS102");
+        Boolean unknown = courseCatalog.isCompulsory("NOPE");
+
+        // Then
+        assertThat(created102).isTrue();
+        assertThat(unknown).isNull();
+        assertThat(courseCatalog.getMissCount()).isEqualTo(2.0);
+        assertThat(courseCatalog.getHitCount()).isZero();
+    }
+
+    private ApplicationContextRunner schedulingContext() {
+        return new ApplicationContextRunner()
+                .withUserConfiguration(SchedulingConfig.class, CourseCatalog.class)
+                .withBean(CourseRepository.class, () -> courseRepository)
+                .withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+    }
+
+    private static Duration refreshDelay(ScheduledTaskHolder holder) {
+        return holder.getScheduledTasks().stream()
+                .map(ScheduledTask::getTask)
+                .filter(FixedDelayTask.class::isInstance)
+                .map(task -> ((FixedDelayTask) task).getIntervalDuration())
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("CourseCatalog.refresh() was not scheduled"));
+    }
+
+    private static PropertySource<?> applicationYml() throws IOException {
+        return new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yml")).get(0);
+    }
+
+    private static CourseRepository.CatalogRow row(String code, String type, String abbr, Long packId) {
+        return new CourseRepository.CatalogRow() {
+            public String getCode() { return code; }
+            public String getType() { return type; }
+            public String getAbbr() { return abbr; }
+            public Long getPackId() { return packId; }
+        };
+    }
+}
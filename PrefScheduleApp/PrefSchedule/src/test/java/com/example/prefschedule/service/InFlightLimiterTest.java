@@ -0,0 +1,95 @@
+package com.example.prefschedule.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InFlightLimiterTest {
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: Calls over the limit wait and start in FIFO order as running ones complete")
+    void testSubmit_QueuesOverLimit() {
+        // Given
+        InFlightLimiter limiter = new InFlightLimiter(2);
+        List<CompletableFuture<Integer>> calls = new ArrayList<>();
+        List<Integer> started = new ArrayList<>();
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            int id = i;
+            results.add(limiter.submit(() -> {
+                started.add(id);
+                CompletableFuture<Integer> call = new CompletableFuture<>();
+                calls.add(call);
+                return call;
+            }));
+        }
+        int inFlightBefore = limiter.getInFlight();
+        int waitingBefore = limiter.getWaiting();
+        calls.get(1).complete(1);
+        calls.get(0).complete(0);
+
+        // Then
+        assertThat(inFlightBefore).isEqualTo(2);
+        assertThat(waitingBefore).isEqualTo(3);
+        assertThat(started).containsExactly(0, 1, 2, 3);
+        assertThat(results.get(0)).isCompletedWithValue(0);
+        assertThat(results.get(1)).isCompletedWithValue(1);
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getWaiting()).isEqualTo(1);
+    }
+
+    // ============ EDGE CASE TESTS ============
+
+    @Test
+    @DisplayName("Edge Case: A long queue of calls that complete at once drains without deepening the stack")
+    void testSubmit_DrainsSynchronousCallsIteratively() throws Exception {
+        // Given
+        InFlightLimiter limiter = new InFlightLimiter(1);
+        CompletableFuture<Integer> blocker = new CompletableFuture<>();
+        limiter.submit(() -> blocker);
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            int id = i;
+            results.add(limiter.submit(() -> CompletableFuture.completedFuture(id)));
+        }
+
+        // When
+        blocker.complete(-1);
+
+        // Then
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        assertThat(results.get(49_999)).isCompletedWithValue(49_999);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getWaiting()).isZero();
+    }
+
+    @Test
+    @DisplayName("Edge Case: A call that throws releases its slot and fails only its own result")
+    void testSubmit_ThrowingCallReleasesSlot() {
+        // Given
+        InFlightLimiter limiter = new InFlightLimiter(1);
+
+        // When
+        CompletableFuture<Integer> failed = limiter.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+        CompletableFuture<Integer> next = limiter.submit(() -> CompletableFuture.completedFuture(2));
+
+        // Then
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(next).isCompletedWithValue(2);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThatThrownBy(() -> new InFlightLimiter(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.prefschedule.service;
+
+import com.example.prefschedule.client.StableMatchClient;
+import com.example.prefschedule.dto.matching.MatchingRequestDTO;
+import com.example.prefschedule.dto.matching.MatchingResponseDTO;
+import com.example.prefschedule.entity.MatchingRun;
+import com.example.prefschedule.entity.Pack;
+import com.example.prefschedule.repository.PackRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MatchingOrchestrationServiceTest {
+
+    @Mock
+    private StableMatchClient stableMatchClient;
+
+    @Mock
+    private MatchingRequestBuilder requestBuilder;
+
+    @Mock
+    private PackRepository packRepository;
+
+    @Mock
+    private MatchingRunService runService;
+
+    private ExecutorService packBuildExecutor;
+    private ExecutorService persistExecutor;
+    private List<Pack> packs;
+
+    @BeforeEach
+    void setUp() {
+        packBuildExecutor = Executors.newFixedThreadPool(3, runnable -> new Thread(runnable, "PackBuild-test"));
+        persistExecutor = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable, "MatchPersist-test"));
+        packs = List.of(pack(1L), pack(2L), pack(3L), pack(4L), pack(5L));
+        lenient().when(packRepository.findByYearAndSemester(3, 1)).thenReturn(packs);
+    }
+
+    @AfterEach
+    void tearDown() {
+        packBuildExecutor.shutdownNow();
+        persistExecutor.shutdownNow();
+    }
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: Packs are built and stored on their executors and at most max-in-flight matchings run at once")
+    void testPerformMatchingForAllPacks_BoundedPipeline() throws Exception {
+        // Given
+        Set<String> buildThreads = ConcurrentHashMap.newKeySet();
+        when(requestBuilder.buildForPack(any(Pack.class))).thenAnswer(invocation -> {
+            buildThreads.add(Thread.currentThread().getName());
+            Pack pack = invocation.getArgument(0);
+            return Optional.of(MatchingRequestDTO.builder().packId(pack.getId()).build());
+        });
+        Queue<CompletableFuture<MatchingResponseDTO>> running = new ConcurrentLinkedQueue<>();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(stableMatchClient.createStableMatching(any(MatchingRequestDTO.class))).thenAnswer(invocation -> {
+            MatchingRequestDTO request = invocation.getArgument(0);
+            CompletableFuture<MatchingResponseDTO> matching = new CompletableFuture<>();
+            running.add(matching);
+            maxRunning.accumulateAndGet((int) running.stream().filter(f -> !f.isDone()).count(), Math::max);
+            return matching.thenApply(ignored -> MatchingResponseDTO.builder()
+                    .matchingId("matching-" + request.getPackId())
+                    .algorithm("STABLE")
+                    .packId(request.getPackId())
+                    .assignments(List.of())
+                    .build());
+        });
+        Set<String> persistThreads = ConcurrentHashMap.newKeySet();
+        when(runService.record(any(), any(), any(MatchingResponseDTO.class))).thenAnswer(invocation -> {
+            persistThreads.add(Thread.currentThread().getName());
+            return MatchingRun.builder().id(100L + invocation.<Long>getArgument(0)).build();
+        });
+        MatchingOrchestrationService service = service(2);
+
+        // When
+        CompletableFuture<Map<Long, MatchingResponseDTO>> future = service.performMatchingForAllPacks(3, 1, true);
+        awaitStarted(running, 2);
+        Thread.sleep(50);
+        int startedBeforeAnyCompleted = running.size();
+        for (int completed = 0; completed < packs.size(); completed++) {
+            CompletableFuture<MatchingResponseDTO> next = awaitRunning(running);
+            next.complete(null);
+        }
+        Map<Long, MatchingResponseDTO> results = future.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(results).containsOnlyKeys(1L, 2L, 3L, 4L, 5L);
+        assertThat(results.values()).allSatisfy(response -> {
+            assertThat(response.getTimings()).isNotNull();
+            assertThat(response.getTimings().getBuildMs()).isNotNull();
+            assertThat(response.getTimings().getDispatchWaitMs()).isNotNull();
+            assertThat(response.getTimings().getMatchMs()).isNotNull();
+            assertThat(response.getTimings().getPersistMs()).isNotNull();
+        });
+        assertThat(results.get(3L).getPackId()).isEqualTo(3L);
+        assertThat(results.get(3L).getRunId()).isEqualTo(103L);
+        assertThat(startedBeforeAnyCompleted).isEqualTo(2);
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(buildThreads).containsOnly("PackBuild-test");
+        // the matchings were completed on the test thread, which must never run the store itself
+        assertThat(persistThreads).containsOnly("MatchPersist-test");
+        verify(stableMatchClient, times(5)).createStableMatching(any(MatchingRequestDTO.class));
+        verify(runService, times(5)).record(any(), eq("STABLE"), any(MatchingResponseDTO.class));
+    }
+
+    @Test
+    @DisplayName("Happy Path: A stable request answered by the random fallback is stored as a RANDOM run")
+    void testPerformMatchingForPack_RandomFallbackIsRecordedAsRandom() throws Exception {
+        // Given
+        Pack pack = packs.get(0);
+        MatchingRequestDTO request = MatchingRequestDTO.builder().packId(pack.getId()).build();
+        when(packRepository.findById(pack.getId())).thenReturn(Optional.of(pack));
+        when(requestBuilder.buildForPack(pack)).thenReturn(Optional.of(request));
+        when(stableMatchClient.createStableMatching(request)).thenReturn(CompletableFuture.completedFuture(
+                MatchingResponseDTO.builder().matchingId("random-1").algorithm("RANDOM").assignments(List.of()).build()));
+        when(runService.record(any(), any(), any(MatchingResponseDTO.class)))
+                .thenReturn(MatchingRun.builder().id(42L).build());
+
+        // When
+        MatchingResponseDTO response = service(2).performMatchingForPack(pack.getId(), true).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(response.getRunId()).isEqualTo(42L);
+        verify(runService).record(eq(pack.getId()), eq("RANDOM"), eq(response));
+        verify(runService, never()).record(any(), eq("STABLE"), any(MatchingResponseDTO.class));
+    }
+
+    // ============ EDGE CASE TESTS ============
+
+    @Test
+    @DisplayName("Edge Case: A pack whose build or matching fails gets an empty response without failing the others")
+    void testPerformMatchingForAllPacks_FailuresAreIsolated() throws Exception {
+        // Given
+        when(requestBuilder.buildForPack(any(Pack.class))).thenAnswer(invocation -> {
+            Pack pack = invocation.getArgument(0);
+            if (pack.getId() == 1L) {
+                throw new IllegalStateException("connection reset");
+            }
+            if (pack.getId() == 2L) {
+                return Optional.empty();
+            }
+            return Optional.of(MatchingRequestDTO.builder().packId(pack.getId()).build());
+        });
+        when(stableMatchClient.createRandomMatching(any(MatchingRequestDTO.class))).thenAnswer(invocation -> {
+            MatchingRequestDTO request = invocation.getArgument(0);
+            if (request.getPackId() == 3L) {
+                return CompletableFuture.failedFuture(new IllegalStateException("StableMatch down"));
+            }
+            return CompletableFuture.completedFuture(MatchingResponseDTO.builder()
+                    .packId(request.getPackId())
+                    .assignments(List.of())
+                    .build());
+        });
+        MatchingOrchestrationService service = service(1);
+
+        // When
+        Map<Long, MatchingResponseDTO> results = service.performMatchingForAllPacks(3, 1, false)
+                .get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(results).containsOnlyKeys(1L, 2L, 3L, 4L, 5L);
+        assertThat(results.get(1L).getAssignments()).isEmpty();
+        assertThat(results.get(1L).getTimings().getMatchMs()).isNull();
+        assertThat(results.get(2L).getTimings().getDispatchWaitMs()).isNull();
+        assertThat(results.get(3L).getPackId()).isNull();
+        assertThat(results.get(3L).getTimings().getMatchMs()).isNotNull();
+        assertThat(results.get(4L).getPackId()).isEqualTo(4L);
+        assertThat(results.get(5L).getPackId()).isEqualTo(5L);
+        verify(stableMatchClient, times(3)).createRandomMatching(any(MatchingRequestDTO.class));
+        verifyNoInteractions(runService);
+    }
+
+    private MatchingOrchestrationService service(int maxInFlight) {
+        return new MatchingOrchestrationService(stableMatchClient, requestBuilder, packRepository, runService,
+                packBuildExecutor, persistExecutor, maxInFlight);
+    }
+
+    private static void awaitStarted(Queue<?> running, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (running.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static CompletableFuture<MatchingResponseDTO> awaitRunning(
+            Queue<CompletableFuture<MatchingResponseDTO>> running) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            for (CompletableFuture<MatchingResponseDTO> matching : running) {
+                if (!matching.isDone()) {
+                    return matching;
+                }
+            }
+            Thread.sleep(5);
+        }
+        throw new AssertionError("No matching call started in time");
+    }
+
+    private static Pack pack(Long id) {
+        Pack pack = new Pack(3, 1, "Optional " + id);
+        pack.setId(id);
+        return pack;
+    }
+}
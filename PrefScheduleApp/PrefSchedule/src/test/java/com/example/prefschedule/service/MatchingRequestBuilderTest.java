@@ -0,0 +1,177 @@
+package com.example.prefschedule.service;
+
+import com.example.prefschedule.dto.matching.InstructorPreferenceDTO;
+import com.example.prefschedule.dto.matching.MatchingRequestDTO;
+import com.example.prefschedule.dto.matching.StudentPreferenceDTO;
+import com.example.prefschedule.entity.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:matching;NON_KEYWORDS=YEAR,VALUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MatchingRequestBuilder.class)
+class MatchingRequestBuilderTest {
+
+    @Autowired
+    private MatchingRequestBuilder requestBuilder;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Pack pack;
+    private Course optionalA;
+    private Course optionalB;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Instructor instructor = new Instructor();
+        instructor.setName("Ana Pop");
+        entityManager.persist(instructor);
+
+        Pack compulsoryPack = new Pack(1, 1, "Compulsory");
+        entityManager.persist(compulsoryPack);
+        entityManager.persist(new Course("COMPULSORY", "CS101", "MATH", "Mathematics", 1, null, instructor, compulsoryPack));
+        entityManager.persist(new Course("COMPULSORY", "CS102", "OOP", "Programming", 1, null, instructor, compulsoryPack));
+
+        pack = new Pack(3, 1, "Optional 1");
+        entityManager.persist(pack);
+        optionalA = new Course("OPTIONAL", "OPT1", "AI", "Artificial Intelligence", 2, null, instructor, pack);
+        optionalB = new Course("OPTIONAL", "OPT2", "WEB", "Web Technologies", 1, null, null, pack);
+        entityManager.persist(optionalA);
+        entityManager.persist(optionalB);
+        entityManager.persist(weight(optionalA, "MATH", 70.0));
+        entityManager.persist(weight(optionalA, "OOP", 30.0));
+        entityManager.persist(weight(optionalB, "OOP", 100.0));
+    }
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: The request carries each student's ordered preferences, compulsory grades and course weights")
+    void testBuildForPack_Content() {
+        // Given
+        addStudents(0, 2);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        MatchingRequestDTO request = requestBuilder.buildForPack(pack).orElseThrow();
+
+        // Then
+        assertThat(request.getPackId()).isEqualTo(pack.getId());
+        assertThat(request.getStudentPreferences()).hasSize(2);
+        StudentPreferenceDTO first = request.getStudentPreferences().get(0);
+        StudentPreferenceDTO second = request.getStudentPreferences().get(1);
+        assertThat(first.getPreferredCourses()).containsExactly("OPT2", "OPT1");
+        assertThat(second.getPreferredCourses()).containsExactly("OPT1", "OPT2");
+        assertThat(first.getCourseGrades()).isEqualTo(Map.of("MATH", 5.0, "OOP", 6.0));
+        assertThat(request.getCourses()).extracting("courseCode", "capacity")
+                .containsExactly(tuple("OPT1", 60), tuple("OPT2", 30));
+        InstructorPreferenceDTO weights = request.getInstructorPreferences().get(0);
+        assertThat(weights.getGradeWeights()).isEqualTo(Map.of("MATH", 70.0, "OOP", 30.0));
+    }
+
+    @Test
+    @DisplayName("Happy Path: The number of SQL statements does not grow with the number of students")
+    void testBuildForPack_ConstantQueryCount() {
+        // Given
+        addStudents(0, 5);
+        long smallPackQueries = countQueries();
+        addStudents(5, 100);
+
+        // When
+        long largePackQueries = countQueries();
+
+        // Then
+        assertThat(largePackQueries).isEqualTo(smallPackQueries);
+        assertThat(largePackQueries).isLessThanOrEqualTo(5);
+    }
+
+    // ============ EDGE CASE TESTS ============
+
+    @Test
+    @DisplayName("Edge Case: A pack whose year has no students yields no request")
+    void testBuildForPack_NoStudents() {
+        // Given
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        Optional<MatchingRequestDTO> request = requestBuilder.buildForPack(pack);
+
+        // Then
+        assertThat(request).isEmpty();
+    }
+
+    private long countQueries() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        MatchingRequestDTO request = requestBuilder.buildForPack(pack).orElseThrow();
+
+        assertThat(request.getStudentPreferences()).isNotEmpty();
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Students of the pack's year; even ones prefer OPT2 first, odd ones OPT1, each with two compulsory grades
+     */
+    private void addStudents(int from, int to) {
+        for (int i = from; i < to; i++) {
+            Student student = new Student("STU" + i, "Student " + i, null, 3);
+            entityManager.persist(student);
+            boolean even = i % 2 == 0;
+            entityManager.persist(new StudentPreference(student, optionalA, even ? 2 : 1));
+            entityManager.persist(new StudentPreference(student, optionalB, even ? 1 : 2));
+            entityManager.persist(grade(student.getCode(), "CS101", 5.0 + i));
+            entityManager.persist(grade(student.getCode(), "CS102", 6.0 + i));
+        }
+    }
+
+    private static StudentGrade grade(String studentCode, String courseCode, double value) {
+        StudentGrade grade = new StudentGrade();
+        grade.setStudentCode(studentCode);
+        grade.setCourseCode(courseCode);
+        grade.setGrade(value);
+        return grade;
+    }
+
+    private static InstructorCoursePreference weight(Course course, String abbr, double percentage) {
+        return InstructorCoursePreference.builder()
+                .course(course)
+                .compulsoryCourseAbbr(abbr)
+                .weightPercentage(percentage)
+                .build();
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.prefschedule.service;
+
+import com.example.prefschedule.dto.matching.AssignmentDTO;
+import com.example.prefschedule.dto.matching.MatchingResponseDTO;
+import com.example.prefschedule.dto.matching.MatchingStatisticsDTO;
+import com.example.prefschedule.entity.MatchingRun;
+import com.example.prefschedule.entity.MatchingRunStatus;
+import com.example.prefschedule.exception.ResourceNotFoundException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:matching-runs;NON_KEYWORDS=YEAR,VALUE;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MatchingRunService.class)
+class MatchingRunServiceTest {
+
+    @Autowired
+    private MatchingRunService runService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: A run's assignments are written in JDBC batches, not one statement per row")
+    void testRecord_BatchesInserts() {
+        // Given
+        MatchingResponseDTO response = response("m-1", 230);
+
+        // When
+        MatchingRun run = runService.record(7L, "STABLE", response);
+
+        // Then
+        assertThat(run.getId()).isNotNull();
+        assertThat(run.getStatus()).isEqualTo(MatchingRunStatus.DRAFT);
+        assertThat(run.getStableMatchId()).isEqualTo("m-1");
+        assertThat(run.getAssignedStudents()).isEqualTo(230);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(231);
+        // one run insert, five assignment batches and a handful of sequence calls
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+
+        List<AssignmentDTO> stored = runService.getAssignments(run.getId());
+        assertThat(stored).hasSize(230);
+        assertThat(stored.get(0)).isEqualTo(response.getAssignments().get(0));
+    }
+
+    @Test
+    @DisplayName("Happy Path: Publishing a run supersedes the pack's previously published run")
+    void testPublish_SupersedesPreviousRun() {
+        // Given
+        MatchingRun first = runService.record(7L, "STABLE", response("m-1", 3));
+        MatchingRun second = runService.record(7L, "RANDOM", response("m-2", 3));
+        MatchingRun otherPack = runService.record(8L, "STABLE", response("m-3", 2));
+        runService.publish(first.getId());
+        runService.publish(otherPack.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        MatchingRun published = runService.publish(second.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(published.getPublishedAt()).isNotNull();
+        assertThat(runService.getRun(first.getId()).getStatus()).isEqualTo(MatchingRunStatus.SUPERSEDED);
+        assertThat(runService.getRun(second.getId()).getStatus()).isEqualTo(MatchingRunStatus.PUBLISHED);
+        assertThat(runService.getRun(otherPack.getId()).getStatus()).isEqualTo(MatchingRunStatus.PUBLISHED);
+        assertThat(runService.getRunsForPack(7L)).extracting(MatchingRun::getId)
+                .containsExactlyInAnyOrder(first.getId(), second.getId());
+        assertThat(runService.getPublishedAssignmentsForStudent("STU1"))
+                .extracting(AssignmentDTO::getCourseCode)
+                .containsExactly("OPT2", "OPT2");
+    }
+
+    // ============ EDGE CASE TESTS ============
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Edge Case: Concurrent publishes of one pack take turns and leave a single published run")
+    void testPublish_ConcurrentPublishesAreSerialized() throws Exception {
+        // Given
+        MatchingRun first = runService.record(9L, "STABLE", response("m-9a", 2));
+        MatchingRun second = runService.record(9L, "RANDOM", response("m-9b", 2));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch firstPublished = new CountDownLatch(1);
+        CountDownLatch commitFirst = new CountDownLatch(1);
+
+        try {
+            // When
+            CompletableFuture<Void> publishFirst = CompletableFuture.runAsync(() ->
+                    transaction.executeWithoutResult(status -> {
+                        runService.publish(first.getId());
+                        firstPublished.countDown();
+                        await(commitFirst);
+                    }));
+            await(firstPublished);
+            CompletableFuture<MatchingRun> publishSecond = CompletableFuture.supplyAsync(() ->
+                    runService.publish(second.getId()));
+            Thread.sleep(300);
+            boolean secondWaited = !publishSecond.isDone();
+            commitFirst.countDown();
+            publishFirst.get(10, TimeUnit.SECONDS);
+            publishSecond.get(10, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(secondWaited).isTrue();
+            assertThat(runService.getRun(first.getId()).getStatus()).isEqualTo(MatchingRunStatus.SUPERSEDED);
+            assertThat(runService.getRun(second.getId()).getStatus()).isEqualTo(MatchingRunStatus.PUBLISHED);
+        } finally {
+            commitFirst.countDown();
+            transaction.executeWithoutResult(status -> {
+                List<Long> ids = List.of(first.getId(), second.getId());
+                entityManager.createQuery("DELETE FROM MatchingAssignment a WHERE a.run.id IN :ids")
+                        .setParameter("ids", ids).executeUpdate();
+                entityManager.createQuery("DELETE FROM MatchingRun r WHERE r.id IN :ids")
+                        .setParameter("ids", ids).executeUpdate();
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Edge Case: Unknown runs and packs without a published run are reported as not found")
+    void testNotFound() {
+        // Given
+        runService.record(7L, "STABLE", response("m-1", 2));
+
+        // When & Then
+        assertThatThrownBy(() -> runService.publish(999L)).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> runService.getAssignments(999L)).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> runService.getPublishedAssignments(7L)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MatchingResponseDTO response(String matchingId, int students) {
+        List<AssignmentDTO> assignments = new ArrayList<>(students);
+        for (int i = 0; i < students; i++) {
+            assignments.add(AssignmentDTO.builder()
+                    .studentCode("STU" + i)
+                    .courseCode("OPT" + (i % 3 + 1))
+                    .preferenceRank(i % 3)
+                    .studentScore(5.0 + i % 5)
+                    .build());
+        }
+        return MatchingResponseDTO.builder()
+                .matchingId(matchingId)
+                .assignments(assignments)
+                .statistics(MatchingStatisticsDTO.builder()
+                        .totalStudents(students)
+                        .assignedStudents(students)
+                        .unassignedStudents(0)
+                        .averagePreferenceRank(1.0)
+                        .build())
+                .build();
+    }
+}
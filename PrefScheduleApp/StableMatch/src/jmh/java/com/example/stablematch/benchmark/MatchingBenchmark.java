@@ -0,0 +1,130 @@
+package com.example.stablematch.benchmark;
+
+import com.example.stablematch.algorithm.MatchingInstance;
+import com.example.stablematch.algorithm.MatchingOutcome;
+import com.example.stablematch.algorithm.RankOptimalMatcher;
+import com.example.stablematch.algorithm.ScoreMatrix;
+import com.example.stablematch.algorithm.SyntheticRequestGenerator;
+import com.example.stablematch.dto.MatchingExecutionDTO;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.MatchingResponseDTO;
+import com.example.stablematch.dto.MatchingStatisticsDTO;
+import com.example.stablematch.dto.StabilityReportDTO;
+import com.example.stablematch.service.MatchingEngine;
+import com.example.stablematch.service.MatchingService;
+import com.example.stablematch.service.MetricsService;
+import com.example.stablematch.service.ScoringService;
+import com.example.stablematch.service.StabilityService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the StableMatch algorithms on seeded synthetic packs.
+ * <p>
+ * Run everything with {@code ./mvnw -P benchmark verify}; pass extra JMH options through
+ * {@code -Djmh.args="..."}, e.g. {@code -Djmh.args="stableMatching -p students=10000 -p engine=LEGACY"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class MatchingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int students;
+
+    @Param({"10", "50", "200"})
+    public int courses;
+
+    @Param({"UNIFORM", "SKEWED"})
+    public SyntheticRequestGenerator.Popularity popularity;
+
+    @Param({"PRIMITIVE"})
+    public MatchingEngine engine;
+
+    @Param({"42"})
+    public long seed;
+
+    private ForkJoinPool scoringPool;
+    private MatchingService matchingService;
+    private ScoringService scoringService;
+    private StabilityService stabilityService;
+    private MatchingRequestDTO request;
+    private MatchingInstance instance;
+    private MatchingResponseDTO stableResult;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MetricsService metricsService = new MetricsService(new SimpleMeterRegistry());
+        scoringPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        scoringService = new ScoringService(scoringPool, metricsService, 200_000, 4);
+        matchingService = new MatchingService(metricsService, scoringService);
+        stabilityService = new StabilityService(scoringPool, metricsService, 20_000, 1000);
+
+        request = SyntheticRequestGenerator.generate(seed, students, courses, popularity);
+        instance = MatchingInstance.from(request);
+        stableResult = matchingService.createStableMatching(request, engine);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scoringPool.shutdown();
+    }
+
+    @Benchmark
+    public MatchingResponseDTO stableMatching() {
+        return matchingService.createStableMatching(request, engine);
+    }
+
+    @Benchmark
+    public MatchingResponseDTO randomMatching() {
+        return matchingService.createRandomMatching(request);
+    }
+
+    @Benchmark
+    public MatchingResponseDTO optimalMatching() {
+        return matchingService.createOptimalMatching(request);
+    }
+
+    /**
+     * The min-cost flow solver alone, without building or scoring the response
+     */
+    @Benchmark
+    public MatchingOutcome optimalSolver() {
+        return RankOptimalMatcher.run(instance);
+    }
+
+    @Benchmark
+    public ScoreMatrix scoreBuilding() {
+        return scoringService.scoreAll(request, instance, new MatchingExecutionDTO());
+    }
+
+    /**
+     * Blocking-pair check of the stable result over every student
+     */
+    @Benchmark
+    public StabilityReportDTO stabilityCheck() {
+        return stabilityService.verify(request, stableResult.getAssignments(), null, null, 100);
+    }
+
+    /**
+     * Blocking-pair check of the stable result over a fixed sample of 1000 students
+     */
+    @Benchmark
+    public StabilityReportDTO stabilityCheckSampled() {
+        return stabilityService.verify(request, stableResult.getAssignments(), 1000, seed, 100);
+    }
+
+    @Benchmark
+    public MatchingStatisticsDTO statistics() {
+        return matchingService.calculateStatistics(
+                students,
+                stableResult.getAssignments(),
+                stableResult.getStatistics().getCourseAssignmentCounts());
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.stablematch.benchmark;
+
+import com.example.stablematch.StableMatchApplication;
+import com.example.stablematch.algorithm.SyntheticRequestGenerator;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.MatchingResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * End-to-end cost of the PrefSchedule to StableMatch wire format: encode, optional gzip, HTTP round trip
+ * to a local StableMatch, inflate and decode. Payload sizes are printed once per trial.
+ * <p>
+ * After the first call every request is served by the result cache, so the measured time is the
+ * wire and (de)serialization cost rather than the matching itself.
+ * Run with {@code ./mvnw -P benchmark verify -Djmh.args="WireFormatBenchmark"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    public enum Format {
+        JSON("application/json"),
+        SMILE("application/x-jackson-smile");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+    }
+
+    @Param({"10000", "50000"})
+    public int students;
+
+    @Param({"50"})
+    public int courses;
+
+    @Param({"JSON", "SMILE"})
+    public Format format;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    @Param({"42"})
+    public long seed;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private URI uri;
+    private ObjectMapper mapper;
+    private MatchingRequestDTO request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(StableMatchApplication.class)
+                .properties("server.port=0",
+                        "eureka.client.enabled=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.stablematch=WARN")
+                .run();
+        String port = context.getEnvironment().getProperty("local.server.port");
+        uri = URI.create("http://localhost:" + port + "/api/matching/stable?engine=PRIMITIVE");
+        httpClient = HttpClient.newHttpClient();
+
+        mapper = format == Format.SMILE
+                ? new ObjectMapper(SmileFactory.builder()
+                        .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                        .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                        .build())
+                : new ObjectMapper();
+        request = SyntheticRequestGenerator.generate(seed, students, courses, SyntheticRequestGenerator.Popularity.UNIFORM);
+
+        HttpResponse<byte[]> response = send();
+        byte[] requestBody = encode();
+        System.out.printf("%n%s gzip=%s students=%d: request %d bytes, response %d bytes on the wire%n",
+                format, gzip, students, requestBody.length, response.body().length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MatchingResponseDTO roundTrip() throws Exception {
+        HttpResponse<byte[]> response = send();
+        try (InputStream body = decode(response)) {
+            return mapper.readValue(body, MatchingResponseDTO.class);
+        }
+    }
+
+    private HttpResponse<byte[]> send() throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .header("Content-Type", format.contentType)
+                .header("Accept", format.contentType)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(encode()));
+        if (gzip) {
+            builder.header("Content-Encoding", "gzip").header("Accept-Encoding", "gzip");
+        }
+
+        HttpResponse<byte[]> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("StableMatch answered " + response.statusCode());
+        }
+        return response;
+    }
+
+    private byte[] encode() throws IOException {
+        byte[] body = mapper.writeValueAsBytes(request);
+        if (!gzip) {
+            return body;
+        }
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed) {
+            {
+                def.setLevel(Deflater.BEST_SPEED);
+            }
+        }) {
+            out.write(body);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static InputStream decode(HttpResponse<byte[]> response) throws IOException {
+        InputStream body = new ByteArrayInputStream(response.body());
+        boolean gzipped = response.headers().firstValue("Content-Encoding").filter("gzip"::equalsIgnoreCase).isPresent();
+        return gzipped ? new GZIPInputStream(body) : body;
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.stablematch.algorithm;
+
+import com.example.stablematch.dto.InstructorPreferenceDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Matching request held in flat arrays instead of nested DTOs, filled one value at a time by a streaming reader.
+ * Grades of student s are {@code gradeNames[gradeOffsets[s] .. gradeOffsets[s + 1])} with the matching
+ * {@code gradeValues}, where a grade name is an index into a table of interned abbreviations.
+ */
+public final class CompactMatchingRequest {
+
+    private final MatchingInstance instance;
+    private final List<InstructorPreferenceDTO> instructorPreferences;
+    private final String[] gradeNameTable;
+    private final int[] gradeOffsets;
+    private final int[] gradeNames;
+    private final double[] gradeValues;
+    private final Long packId;
+
+    private CompactMatchingRequest(MatchingInstance instance, List<InstructorPreferenceDTO> instructorPreferences,
+                                   String[] gradeNameTable, int[] gradeOffsets, int[] gradeNames,
+                                   double[] gradeValues, Long packId) {
+        this.instance = instance;
+        this.instructorPreferences = instructorPreferences;
+        this.gradeNameTable = gradeNameTable;
+        this.gradeOffsets = gradeOffsets;
+        this.gradeNames = gradeNames;
+        this.gradeValues = gradeValues;
+        this.packId = packId;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public MatchingInstance instance() {
+        return instance;
+    }
+
+    public List<InstructorPreferenceDTO> instructorPreferences() {
+        return instructorPreferences;
+    }
+
+    public Long packId() {
+        return packId;
+    }
+
+    public int gradeNameCount() {
+        return gradeNameTable.length;
+    }
+
+    public String gradeName(int name) {
+        return gradeNameTable[name];
+    }
+
+    public int gradeStart(int student) {
+        return gradeOffsets[student];
+    }
+
+    public int gradeEnd(int student) {
+        return gradeOffsets[student + 1];
+    }
+
+    public int gradeNameAt(int slot) {
+        return gradeNames[slot];
+    }
+
+    public double gradeValueAt(int slot) {
+        return gradeValues[slot];
+    }
+
+    /**
+     * Collects a request in any field order: preferred courses are interned by name and only
+     * resolved against the offered courses in {@link #build()}.
+     */
+    public static final class Builder {
+
+        private final List<String> courseCodes = new ArrayList<>();
+        private int[] capacities = new int[16];
+
+        private final Map<String, Integer> preferenceNameIds = new HashMap<>();
+        private final List<String> preferenceNames = new ArrayList<>();
+        private final Map<String, Integer> gradeNameIds = new HashMap<>();
+        private final List<String> gradeNameTable = new ArrayList<>();
+
+        private String[] studentCodes = new String[16];
+        private int[] prefOffsets = new int[17];
+        private int[] gradeOffsets = new int[17];
+        private int studentCount;
+
+        private int[] prefNames = new int[64];
+        private int prefCount;
+        private int[] gradeNames = new int[64];
+        private double[] gradeValues = new double[64];
+        private int gradeCount;
+
+        private List<InstructorPreferenceDTO> instructorPreferences = List.of();
+        private Long packId;
+        private boolean inStudent;
+
+        private Builder() {
+        }
+
+        public Builder addCourse(String courseCode, int capacity) {
+            if (courseCodes.size() == capacities.length) {
+                capacities = Arrays.copyOf(capacities, capacities.length * 2);
+            }
+            capacities[courseCodes.size()] = capacity;
+            courseCodes.add(courseCode);
+            return this;
+        }
+
+        public Builder instructorPreferences(List<InstructorPreferenceDTO> instructorPreferences) {
+            this.instructorPreferences = instructorPreferences;
+            return this;
+        }
+
+        public Builder packId(Long packId) {
+            this.packId = packId;
+            return this;
+        }
+
+        /**
+         * Opens the next student; its code, preferences and grades may follow in any order
+         */
+        public Builder beginStudent() {
+            if (studentCount + 1 == studentCodes.length) {
+                studentCodes = Arrays.copyOf(studentCodes, studentCodes.length * 2);
+                prefOffsets = Arrays.copyOf(prefOffsets, prefOffsets.length * 2);
+                gradeOffsets = Arrays.copyOf(gradeOffsets, gradeOffsets.length * 2);
+            }
+            prefOffsets[studentCount] = prefCount;
+            gradeOffsets[studentCount] = gradeCount;
+            studentCodes[studentCount] = null;
+            inStudent = true;
+            return this;
+        }
+
+        public Builder studentCode(String studentCode) {
+            requireStudent();
+            studentCodes[studentCount] = studentCode;
+            return this;
+        }
+
+        public Builder addPreference(String courseCode) {
+            requireStudent();
+            if (prefCount == prefNames.length) {
+                prefNames = Arrays.copyOf(prefNames, prefNames.length * 2);
+            }
+            prefNames[prefCount++] = intern(courseCode, preferenceNameIds, preferenceNames);
+            return this;
+        }
+
+        public Builder addGrade(String abbreviation, double grade) {
+            requireStudent();
+            if (gradeCount == gradeNames.length) {
+                gradeNames = Arrays.copyOf(gradeNames, gradeNames.length * 2);
+                gradeValues = Arrays.copyOf(gradeValues, gradeValues.length * 2);
+            }
+            gradeNames[gradeCount] = intern(abbreviation, gradeNameIds, gradeNameTable);
+            gradeValues[gradeCount] = grade;
+            gradeCount++;
+            return this;
+        }
+
+        /**
+         * Closes the current student. Like the request DTO it must have a code and at least one preferred course.
+         */
+        public Builder endStudent() {
+            requireStudent();
+            if (studentCodes[studentCount] == null) {
+                throw new IllegalArgumentException("Student " + studentCount + " has no studentCode");
+            }
+            if (prefCount == prefOffsets[studentCount]) {
+                throw new IllegalArgumentException("Student " + studentCodes[studentCount] + " has no preferred courses");
+            }
+            studentCount++;
+            prefOffsets[studentCount] = prefCount;
+            gradeOffsets[studentCount] = gradeCount;
+            inStudent = false;
+            return this;
+        }
+
+        public int studentCount() {
+            return studentCount;
+        }
+
+        public int courseCount() {
+            return courseCodes.size();
+        }
+
+        public CompactMatchingRequest build() {
+            if (inStudent) {
+                throw new IllegalStateException("Student " + studentCount + " was not closed");
+            }
+            if (studentCount == 0 || courseCodes.isEmpty() || instructorPreferences.isEmpty()) {
+                throw new IllegalArgumentException("studentPreferences, courses and instructorPreferences must not be empty");
+            }
+
+            Map<String, Integer> courseIds = new HashMap<>(courseCodes.size() * 2);
+            for (int c = 0; c < courseCodes.size(); c++) {
+                courseIds.putIfAbsent(courseCodes.get(c), c);
+            }
+            int[] nameToCourse = new int[preferenceNames.size()];
+            for (int name = 0; name < nameToCourse.length; name++) {
+                nameToCourse[name] = courseIds.getOrDefault(preferenceNames.get(name), -1);
+            }
+            int[] prefCourseIds = new int[prefCount];
+            for (int slot = 0; slot < prefCount; slot++) {
+                prefCourseIds[slot] = nameToCourse[prefNames[slot]];
+            }
+
+            MatchingInstance instance = MatchingInstance.of(
+                    Arrays.copyOf(studentCodes, studentCount),
+                    courseCodes.toArray(new String[0]),
+                    Arrays.copyOf(capacities, courseCodes.size()),
+                    Arrays.copyOf(prefOffsets, studentCount + 1),
+                    prefCourseIds);
+
+            return new CompactMatchingRequest(instance, instructorPreferences,
+                    gradeNameTable.toArray(new String[0]),
+                    Arrays.copyOf(gradeOffsets, studentCount + 1),
+                    Arrays.copyOf(gradeNames, gradeCount),
+                    Arrays.copyOf(gradeValues, gradeCount),
+                    packId);
+        }
+
+        private void requireStudent() {
+            if (!inStudent) {
+                throw new IllegalStateException("No student is open");
+            }
+        }
+
+        private static int intern(String name, Map<String, Integer> ids, List<String> table) {
+            Integer id = ids.get(name);
+            if (id == null) {
+                id = table.size();
+                ids.put(name, id);
+                table.add(name);
+            }
+            return id;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.stablematch.algorithm;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Student-proposing Gale-Shapley over int arrays.
+ * <p>
+ * Every course keeps its accepted students in a min-heap ordered by score and then by
+ * student index, so the student to displace is always at the root. Free students wait
+ * in an int ring buffer that is processed in the same FIFO order as
+ * {@code MatchingService#createStableMatching}. Courses prefer the lower student index
+ * among equal scores, like {@link RoundGaleShapleyEngine}, so tied scores resolve the same
+ * way on both engines. The LEGACY engine keeps the student a course already holds on a tie
+ * instead, so its assignments can differ from these when scores tie.
+ */
+public final class GaleShapleyEngine {
+
+    /**
+     * The interrupt flag is polled once every 65536 proposals
+     */
+    public static final long INTERRUPT_CHECK_MASK = 0xFFFF;
+
+    private static final int INITIAL_HEAP_SIZE = 8;
+
+    private final MatchingInstance instance;
+    private final ScoreMatrix scores;
+
+    private final int[] nextSlot;
+    private final int[] assignedCourse;
+    private final int[] assignedRank;
+    private final int[] acceptSeq;
+    private final int[][] heaps;
+    private final int[] heapSize;
+    private int seq;
+
+    private GaleShapleyEngine(MatchingInstance instance, ScoreMatrix scores) {
+        int studentCount = instance.studentCount();
+        int courseCount = instance.courseCount();
+
+        this.instance = instance;
+        this.scores = scores;
+        this.nextSlot = new int[studentCount];
+        this.assignedCourse = new int[studentCount];
+        this.assignedRank = new int[studentCount];
+        this.acceptSeq = new int[studentCount];
+        this.heaps = new int[courseCount][];
+        this.heapSize = new int[courseCount];
+
+        Arrays.fill(assignedCourse, -1);
+        Arrays.fill(assignedRank, -1);
+        for (int s = 0; s < studentCount; s++) {
+            nextSlot[s] = instance.prefStart(s);
+        }
+        for (int c = 0; c < courseCount; c++) {
+            heaps[c] = new int[Math.min(instance.capacity(c), INITIAL_HEAP_SIZE)];
+        }
+    }
+
+    public static MatchingOutcome run(MatchingInstance instance, ScoreMatrix scores) {
+        return new GaleShapleyEngine(instance, scores).execute();
+    }
+
+    private MatchingOutcome execute() {
+        int studentCount = instance.studentCount();
+        int[] queue = new int[studentCount];
+        for (int s = 0; s < studentCount; s++) {
+            queue[s] = s;
+        }
+        int head = 0;
+        int tail = 0;
+        int queued = studentCount;
+        long proposals = 0;
+        long rejections = 0;
+        long displacements = 0;
+
+        while (queued > 0) {
+            int student = queue[head];
+            head = head + 1 == studentCount ? 0 : head + 1;
+            queued--;
+
+            int slot = nextSlot[student];
+            if (slot >= instance.prefEnd(student)) {
+                continue;
+            }
+            nextSlot[student] = slot + 1;
+            if ((++proposals & INTERRUPT_CHECK_MASK) == 0 && Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Stable matching interrupted");
+            }
+
+            int course = instance.prefCourse(slot);
+            int capacity = instance.capacity(course);
+            int rejected;
+
+            if (heapSize[course] < capacity) {
+                accept(student, course, slot);
+                push(course, student);
+                continue;
+            }
+
+            if (capacity > 0 && worse(heaps[course][0], student, course)) {
+                rejected = heaps[course][0];
+                displacements++;
+                assignedCourse[rejected] = -1;
+                assignedRank[rejected] = -1;
+                accept(student, course, slot);
+                heaps[course][0] = student;
+                siftDown(course, 0);
+            } else {
+                rejected = student;
+            }
+
+            rejections++;
+            queue[tail] = rejected;
+            tail = tail + 1 == studentCount ? 0 : tail + 1;
+            queued++;
+        }
+
+        return buildOutcome(proposals, rejections, displacements);
+    }
+
+    private void accept(int student, int course, int slot) {
+        assignedCourse[student] = course;
+        assignedRank[student] = instance.prefRank(slot);
+        acceptSeq[student] = seq++;
+    }
+
+    private void push(int course, int student) {
+        int[] heap = heaps[course];
+        int size = heapSize[course];
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, (int) Math.min((long) size * 2, instance.capacity(course)));
+            heaps[course] = heap;
+        }
+        heap[size] = student;
+        heapSize[course] = size + 1;
+        siftUp(course, size);
+    }
+
+    private void siftUp(int course, int index) {
+        int[] heap = heaps[course];
+        int student = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!worse(student, heap[parent], course)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = student;
+    }
+
+    private void siftDown(int course, int index) {
+        int[] heap = heaps[course];
+        int size = heapSize[course];
+        int student = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && worse(heap[right], heap[child], course)) {
+                child = right;
+            }
+            if (!worse(heap[child], student, course)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = student;
+    }
+
+    /**
+     * Lower score first; among equal scores the higher student index is the worse one
+     */
+    private boolean worse(int a, int b, int course) {
+        int cmp = Double.compare(scores.score(a, course), scores.score(b, course));
+        return cmp < 0 || (cmp == 0 && a > b);
+    }
+
+    private MatchingOutcome buildOutcome(long proposals, long rejections, long displacements) {
+        int courseCount = instance.courseCount();
+        int[] memberOffsets = new int[courseCount + 1];
+        for (int c = 0; c < courseCount; c++) {
+            memberOffsets[c + 1] = memberOffsets[c] + heapSize[c];
+        }
+
+        int[] members = new int[memberOffsets[courseCount]];
+        for (int c = 0; c < courseCount; c++) {
+            int size = heapSize[c];
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                int student = heaps[c][i];
+                keys[i] = ((long) acceptSeq[student] << 32) | student;
+            }
+            Arrays.sort(keys);
+            for (int i = 0; i < size; i++) {
+                members[memberOffsets[c] + i] = (int) keys[i];
+            }
+        }
+
+        return new MatchingOutcome(assignedCourse, assignedRank, memberOffsets, members,
+                proposals, rejections, displacements);
+    }
+}
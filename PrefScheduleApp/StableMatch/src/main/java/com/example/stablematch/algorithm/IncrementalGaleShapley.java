@@ -0,0 +1,400 @@
+package com.example.stablematch.algorithm;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Repairs a previous stable matching after a small change to the instance.
+ * <p>
+ * Students keep their previous course unless they are reset (changed preferences or grades)
+ * or their course was rescored (changed instructor weights). Every course that ends up with
+ * free seats recalls the best students it rejected earlier who still rank it above their
+ * current course; that may free a seat elsewhere, which is then filled the same way.
+ * Reset and evicted students re-enter the usual proposal loop. Courses order students by
+ * score and then by student index, as the full-run engines do. Invariant: every course a
+ * student ranks above its current position is full of students it ranks higher.
+ */
+public final class IncrementalGaleShapley {
+
+    private static final int INITIAL_HEAP_SIZE = 8;
+
+    private final MatchingInstance instance;
+    private final ScoreMatrix scores;
+
+    // assigned slot for matched students, next slot to propose to for free ones
+    private final int[] currentSlot;
+    private final int[] assignedCourse;
+    private final int[] assignedRank;
+    private final int[] acceptSeq;
+    private final int[][] heaps;
+    private final int[] heapSize;
+    private final int[] heapPos;
+    private final int[] queue;
+    private final boolean[] queued;
+    private int head;
+    private int tail;
+    private int queuedCount;
+    private int seq;
+    private long proposals;
+    private long rejections;
+    private long displacements;
+
+    // students listing course c, lazily sorted by descending score: listed[listedOffsets[c] .. listedOffsets[c + 1])
+    private int[] listedOffsets;
+    private int[] listedStudents;
+    private int[] listedSlots;
+    private boolean[] listedSorted;
+
+    private IncrementalGaleShapley(MatchingInstance instance, ScoreMatrix scores) {
+        int studentCount = instance.studentCount();
+        int courseCount = instance.courseCount();
+
+        this.instance = instance;
+        this.scores = scores;
+        this.currentSlot = new int[studentCount];
+        this.assignedCourse = new int[studentCount];
+        this.assignedRank = new int[studentCount];
+        this.acceptSeq = new int[studentCount];
+        this.heaps = new int[courseCount][];
+        this.heapSize = new int[courseCount];
+        this.heapPos = new int[studentCount];
+        this.queue = new int[Math.max(1, studentCount)];
+        this.queued = new boolean[studentCount];
+
+        Arrays.fill(assignedCourse, -1);
+        Arrays.fill(assignedRank, -1);
+        for (int c = 0; c < courseCount; c++) {
+            heaps[c] = new int[Math.max(0, Math.min(instance.capacity(c), INITIAL_HEAP_SIZE))];
+        }
+    }
+
+    /**
+     * @param previousCourse  course of every student in the previous matching, -1 when unassigned
+     * @param acceptanceOrder previously assigned students in the order they were accepted
+     * @param resetStudent    students whose preferences or grades changed
+     * @param rescoredCourse  courses whose instructor weights changed
+     */
+    public static MatchingOutcome repair(MatchingInstance instance, ScoreMatrix scores,
+                                         int[] previousCourse, int[] acceptanceOrder,
+                                         boolean[] resetStudent, boolean[] rescoredCourse) {
+        return new IncrementalGaleShapley(instance, scores)
+                .execute(previousCourse, acceptanceOrder, resetStudent, rescoredCourse);
+    }
+
+    private MatchingOutcome execute(int[] previousCourse, int[] acceptanceOrder,
+                                    boolean[] resetStudent, boolean[] rescoredCourse) {
+        int studentCount = instance.studentCount();
+        int courseCount = instance.courseCount();
+
+        for (int s = 0; s < studentCount; s++) {
+            int course = previousCourse[s];
+            if (resetStudent[s]) {
+                currentSlot[s] = instance.prefStart(s);
+                enqueue(s);
+            } else if (course < 0) {
+                currentSlot[s] = instance.prefEnd(s);
+            } else {
+                currentSlot[s] = slotOf(s, course);
+                if (rescoredCourse[course]) {
+                    // Proposes to the rescored course again, competing on the new scores
+                    enqueue(s);
+                }
+            }
+        }
+
+        for (int s : acceptanceOrder) {
+            int course = previousCourse[s];
+            if (!resetStudent[s] && course >= 0 && !rescoredCourse[course]) {
+                accept(s, course, currentSlot[s]);
+            }
+        }
+
+        Deque<Integer> vacancies = new ArrayDeque<>();
+        for (int c = 0; c < courseCount; c++) {
+            while (heapSize[c] > instance.capacity(c)) {
+                int evicted = removeAt(c, 0);
+                currentSlot[evicted]++;
+                enqueue(evicted);
+            }
+            if (heapSize[c] < instance.capacity(c)) {
+                vacancies.push(c);
+            }
+        }
+        fillVacancies(vacancies);
+
+        proposeUntilStable();
+
+        return buildOutcome();
+    }
+
+    /**
+     * Gives free seats to the best students the course rejected earlier; every recalled
+     * student frees its previous seat, which is queued for the same treatment
+     */
+    private void fillVacancies(Deque<Integer> vacancies) {
+        while (!vacancies.isEmpty()) {
+            int course = vacancies.pop();
+            while (heapSize[course] < instance.capacity(course)) {
+                int slot = bestRejectedSlot(course);
+                if (slot < 0) {
+                    break;
+                }
+                int student = listedStudents[slot];
+                int previous = assignedCourse[student];
+                if (previous >= 0) {
+                    removeAt(previous, heapPos[student]);
+                    vacancies.push(previous);
+                }
+                proposals++;
+                accept(student, course, listedSlots[slot]);
+            }
+        }
+    }
+
+    private void proposeUntilStable() {
+        while (queuedCount > 0) {
+            int student = queue[head];
+            head = head + 1 == queue.length ? 0 : head + 1;
+            queuedCount--;
+            queued[student] = false;
+
+            // Recalled while waiting in the queue
+            if (assignedCourse[student] >= 0) {
+                continue;
+            }
+
+            int slot = currentSlot[student];
+            if (slot >= instance.prefEnd(student)) {
+                continue;
+            }
+            if ((++proposals & GaleShapleyEngine.INTERRUPT_CHECK_MASK) == 0 && Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Stable matching repair interrupted");
+            }
+
+            int course = instance.prefCourse(slot);
+            int capacity = instance.capacity(course);
+
+            if (heapSize[course] < capacity) {
+                accept(student, course, slot);
+                continue;
+            }
+
+            if (capacity > 0 && worse(heaps[course][0], student, course)) {
+                int rejected = removeAt(course, 0);
+                currentSlot[rejected]++;
+                enqueue(rejected);
+                accept(student, course, slot);
+                displacements++;
+            } else {
+                currentSlot[student] = slot + 1;
+                enqueue(student);
+            }
+            rejections++;
+        }
+    }
+
+    private int slotOf(int student, int course) {
+        for (int slot = instance.prefStart(student); slot < instance.prefEnd(student); slot++) {
+            if (instance.prefCourse(slot) == course) {
+                return slot;
+            }
+        }
+        throw new IllegalArgumentException("Student " + instance.studentCode(student)
+                + " was assigned to " + instance.courseCode(course) + " which is not in its preferences");
+    }
+
+    /**
+     * Returns the listed position of the highest scored student that ranks the course
+     * above its current position, or -1 when there is none
+     */
+    private int bestRejectedSlot(int course) {
+        if (listedOffsets == null) {
+            buildListedIndex();
+        }
+        int from = listedOffsets[course];
+        int to = listedOffsets[course + 1];
+        if (!listedSorted[course]) {
+            sortListed(course, from, to);
+            listedSorted[course] = true;
+        }
+        // Students only move down while they are rejected, so a rejected student may become eligible later;
+        // vacancies are rare, so the scan restarts from the best student every time
+        for (int i = from; i < to; i++) {
+            int student = listedStudents[i];
+            if (listedSlots[i] < currentSlot[student]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void buildListedIndex() {
+        int courseCount = instance.courseCount();
+        int studentCount = instance.studentCount();
+        listedOffsets = new int[courseCount + 1];
+        listedSorted = new boolean[courseCount];
+
+        for (int s = 0; s < studentCount; s++) {
+            for (int slot = instance.prefStart(s); slot < instance.prefEnd(s); slot++) {
+                listedOffsets[instance.prefCourse(slot) + 1]++;
+            }
+        }
+        for (int c = 0; c < courseCount; c++) {
+            listedOffsets[c + 1] += listedOffsets[c];
+        }
+
+        int[] cursor = Arrays.copyOf(listedOffsets, courseCount);
+        listedStudents = new int[listedOffsets[courseCount]];
+        listedSlots = new int[listedOffsets[courseCount]];
+        for (int s = 0; s < studentCount; s++) {
+            for (int slot = instance.prefStart(s); slot < instance.prefEnd(s); slot++) {
+                int i = cursor[instance.prefCourse(slot)]++;
+                listedStudents[i] = s;
+                listedSlots[i] = slot;
+            }
+        }
+    }
+
+    private void sortListed(int course, int from, int to) {
+        Integer[] order = new Integer[to - from];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = from + i;
+        }
+        Arrays.sort(order, (a, b) -> {
+            int cmp = Double.compare(scores.score(listedStudents[b], course), scores.score(listedStudents[a], course));
+            return cmp != 0 ? cmp : Integer.compare(listedStudents[a], listedStudents[b]);
+        });
+
+        int[] students = new int[order.length];
+        int[] slots = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            students[i] = listedStudents[order[i]];
+            slots[i] = listedSlots[order[i]];
+        }
+        System.arraycopy(students, 0, listedStudents, from, students.length);
+        System.arraycopy(slots, 0, listedSlots, from, slots.length);
+    }
+
+    private void enqueue(int student) {
+        if (queued[student]) {
+            return;
+        }
+        queued[student] = true;
+        queue[tail] = student;
+        tail = tail + 1 == queue.length ? 0 : tail + 1;
+        queuedCount++;
+    }
+
+    private void accept(int student, int course, int slot) {
+        assignedCourse[student] = course;
+        assignedRank[student] = instance.prefRank(slot);
+        currentSlot[student] = slot;
+        acceptSeq[student] = seq++;
+
+        int[] heap = heaps[course];
+        int size = heapSize[course];
+        if (size == heap.length) {
+            // Seeding may briefly exceed a capacity that shrank, so the heap can outgrow it by the excess
+            heap = Arrays.copyOf(heap, (int) Math.max(size + 1L, Math.min((long) size * 2, instance.capacity(course))));
+            heaps[course] = heap;
+        }
+        heap[size] = student;
+        heapPos[student] = size;
+        heapSize[course] = size + 1;
+        siftUp(course, size);
+    }
+
+    /**
+     * Removes the student at a heap index and marks it unassigned
+     */
+    private int removeAt(int course, int index) {
+        int[] heap = heaps[course];
+        int student = heap[index];
+        int last = --heapSize[course];
+        if (index != last) {
+            int moved = heap[last];
+            heap[index] = moved;
+            heapPos[moved] = index;
+            siftDown(course, index);
+            if (heap[index] == moved) {
+                siftUp(course, index);
+            }
+        }
+        assignedCourse[student] = -1;
+        assignedRank[student] = -1;
+        return student;
+    }
+
+    private void siftUp(int course, int index) {
+        int[] heap = heaps[course];
+        int student = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!worse(student, heap[parent], course)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            heapPos[heap[index]] = index;
+            index = parent;
+        }
+        heap[index] = student;
+        heapPos[student] = index;
+    }
+
+    private void siftDown(int course, int index) {
+        int[] heap = heaps[course];
+        int size = heapSize[course];
+        int student = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && worse(heap[right], heap[child], course)) {
+                child = right;
+            }
+            if (!worse(heap[child], student, course)) {
+                break;
+            }
+            heap[index] = heap[child];
+            heapPos[heap[index]] = index;
+            index = child;
+        }
+        heap[index] = student;
+        heapPos[student] = index;
+    }
+
+    /**
+     * Lower score first; among equal scores the higher student index is the worse one
+     */
+    private boolean worse(int a, int b, int course) {
+        int cmp = Double.compare(scores.score(a, course), scores.score(b, course));
+        return cmp < 0 || (cmp == 0 && a > b);
+    }
+
+    private MatchingOutcome buildOutcome() {
+        int courseCount = instance.courseCount();
+        int[] memberOffsets = new int[courseCount + 1];
+        for (int c = 0; c < courseCount; c++) {
+            memberOffsets[c + 1] = memberOffsets[c] + heapSize[c];
+        }
+
+        int[] members = new int[memberOffsets[courseCount]];
+        for (int c = 0; c < courseCount; c++) {
+            int size = heapSize[c];
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                int student = heaps[c][i];
+                keys[i] = ((long) acceptSeq[student] << 32) | student;
+            }
+            Arrays.sort(keys);
+            for (int i = 0; i < size; i++) {
+                members[memberOffsets[c] + i] = (int) keys[i];
+            }
+        }
+
+        return new MatchingOutcome(assignedCourse, assignedRank, memberOffsets, members,
+                proposals, rejections, displacements);
+    }
+}
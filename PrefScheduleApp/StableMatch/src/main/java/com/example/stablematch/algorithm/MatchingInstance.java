@@ -0,0 +1,199 @@
+package com.example.stablematch.algorithm;
+
+import com.example.stablematch.dto.CourseCapacityDTO;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.StudentPreferenceDTO;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interned, array-based view of a matching request.
+ * Students and courses are addressed by their position in the request;
+ * preference lists are stored as one flattened int array with per-student offsets.
+ */
+public final class MatchingInstance {
+
+    private final String[] studentCodes;
+    private final String[] courseCodes;
+    private final int[] capacities;
+    private final Map<String, Integer> courseIndex;
+
+    // preferences of student s live in [prefOffsets[s], prefOffsets[s + 1])
+    private final int[] prefOffsets;
+    private final int[] prefCourses;
+    private final int[] prefRanks;
+
+    private MatchingInstance(String[] studentCodes, String[] courseCodes, int[] capacities,
+                             Map<String, Integer> courseIndex,
+                             int[] prefOffsets, int[] prefCourses, int[] prefRanks) {
+        this.studentCodes = studentCodes;
+        this.courseCodes = courseCodes;
+        this.capacities = capacities;
+        this.courseIndex = courseIndex;
+        this.prefOffsets = prefOffsets;
+        this.prefCourses = prefCourses;
+        this.prefRanks = prefRanks;
+    }
+
+    /**
+     * Interns the request. Preferred courses that are not offered are skipped and repeated
+     * courses keep only their first occurrence, so the stored rank always equals
+     * {@code preferredCourses.indexOf(courseCode)}.
+     */
+    public static MatchingInstance from(MatchingRequestDTO request) {
+        List<CourseCapacityDTO> courses = request.getCourses();
+        int courseCount = courses.size();
+        String[] courseCodes = new String[courseCount];
+        int[] capacities = new int[courseCount];
+        Map<String, Integer> courseIndex = new HashMap<>(courseCount * 2);
+
+        for (int c = 0; c < courseCount; c++) {
+            CourseCapacityDTO course = courses.get(c);
+            if (courseIndex.putIfAbsent(course.getCourseCode(), c) != null) {
+                throw new IllegalArgumentException("Duplicate course code: " + course.getCourseCode());
+            }
+            courseCodes[c] = course.getCourseCode();
+            capacities[c] = Math.max(0, course.getCapacity());
+        }
+
+        List<StudentPreferenceDTO> students = request.getStudentPreferences();
+        int studentCount = students.size();
+        String[] studentCodes = new String[studentCount];
+        int[] prefOffsets = new int[studentCount + 1];
+
+        int totalPreferences = 0;
+        for (StudentPreferenceDTO student : students) {
+            totalPreferences += student.getPreferredCourses().size();
+        }
+
+        int[] prefCourses = new int[totalPreferences];
+        int[] prefRanks = new int[totalPreferences];
+        int[] lastSeenBy = new int[courseCount];
+        int cursor = 0;
+
+        for (int s = 0; s < studentCount; s++) {
+            StudentPreferenceDTO student = students.get(s);
+            studentCodes[s] = student.getStudentCode();
+            prefOffsets[s] = cursor;
+
+            List<String> preferred = student.getPreferredCourses();
+            for (int rank = 0; rank < preferred.size(); rank++) {
+                Integer c = courseIndex.get(preferred.get(rank));
+                if (c == null || lastSeenBy[c] == s + 1) {
+                    continue;
+                }
+                lastSeenBy[c] = s + 1;
+                prefCourses[cursor] = c;
+                prefRanks[cursor] = rank;
+                cursor++;
+            }
+        }
+        prefOffsets[studentCount] = cursor;
+
+        return new MatchingInstance(studentCodes, courseCodes, capacities, courseIndex,
+                prefOffsets, prefCourses, prefRanks);
+    }
+
+    /**
+     * Interns a request that was already read into arrays. The raw preference list of student s is
+     * {@code prefCourseIds[prefOffsets[s] .. prefOffsets[s + 1])}, holding course ids or -1 for courses
+     * that are not offered; those and repeated courses are skipped exactly as in {@link #from}.
+     */
+    public static MatchingInstance of(String[] studentCodes, String[] courseCodes, int[] courseCapacities,
+                                      int[] prefOffsets, int[] prefCourseIds) {
+        int courseCount = courseCodes.length;
+        int[] capacities = new int[courseCount];
+        Map<String, Integer> courseIndex = new HashMap<>(courseCount * 2);
+
+        for (int c = 0; c < courseCount; c++) {
+            if (courseIndex.putIfAbsent(courseCodes[c], c) != null) {
+                throw new IllegalArgumentException("Duplicate course code: " + courseCodes[c]);
+            }
+            capacities[c] = Math.max(0, courseCapacities[c]);
+        }
+
+        int studentCount = studentCodes.length;
+        int[] offsets = new int[studentCount + 1];
+        int[] prefCourses = new int[prefOffsets[studentCount]];
+        int[] prefRanks = new int[prefOffsets[studentCount]];
+        int[] lastSeenBy = new int[courseCount];
+        int cursor = 0;
+
+        for (int s = 0; s < studentCount; s++) {
+            offsets[s] = cursor;
+
+            for (int slot = prefOffsets[s]; slot < prefOffsets[s + 1]; slot++) {
+                int c = prefCourseIds[slot];
+                if (c < 0 || lastSeenBy[c] == s + 1) {
+                    continue;
+                }
+                lastSeenBy[c] = s + 1;
+                prefCourses[cursor] = c;
+                prefRanks[cursor] = slot - prefOffsets[s];
+                cursor++;
+            }
+        }
+        offsets[studentCount] = cursor;
+
+        return new MatchingInstance(studentCodes, courseCodes, capacities, courseIndex,
+                offsets, prefCourses, prefRanks);
+    }
+
+    public int studentCount() {
+        return studentCodes.length;
+    }
+
+    public int courseCount() {
+        return courseCodes.length;
+    }
+
+    public String studentCode(int student) {
+        return studentCodes[student];
+    }
+
+    public String courseCode(int course) {
+        return courseCodes[course];
+    }
+
+    public int capacity(int course) {
+        return capacities[course];
+    }
+
+    /**
+     * Returns the course id for a code, or -1 when the course is not part of the request
+     */
+    public int courseId(String courseCode) {
+        Integer c = courseIndex.get(courseCode);
+        return c != null ? c : -1;
+    }
+
+    /**
+     * Returns the index of a course in the student's original preference list, or -1 when not listed
+     */
+    public int rankOf(int student, int course) {
+        for (int slot = prefOffsets[student]; slot < prefOffsets[student + 1]; slot++) {
+            if (prefCourses[slot] == course) {
+                return prefRanks[slot];
+            }
+        }
+        return -1;
+    }
+
+    public int prefStart(int student) {
+        return prefOffsets[student];
+    }
+
+    public int prefEnd(int student) {
+        return prefOffsets[student + 1];
+    }
+
+    public int prefCourse(int slot) {
+        return prefCourses[slot];
+    }
+
+    public int prefRank(int slot) {
+        return prefRanks[slot];
+    }
+}
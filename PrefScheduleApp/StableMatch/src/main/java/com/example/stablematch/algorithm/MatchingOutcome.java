@@ -0,0 +1,105 @@
+package com.example.stablematch.algorithm;
+
+/**
+ * Result of an array-based matching engine.
+ * Members of course c are {@code members[memberOffsets[c] .. memberOffsets[c + 1])}, in acceptance order.
+ */
+public final class MatchingOutcome {
+
+    private final int[] assignedCourse;
+    private final int[] assignedRank;
+    private final int[] memberOffsets;
+    private final int[] members;
+    private final long proposals;
+    private final long rejections;
+    private final long displacements;
+    private final long[] roundNanos;
+
+    public MatchingOutcome(int[] assignedCourse, int[] assignedRank,
+                           int[] memberOffsets, int[] members, long proposals) {
+        this(assignedCourse, assignedRank, memberOffsets, members, proposals, 0, 0);
+    }
+
+    public MatchingOutcome(int[] assignedCourse, int[] assignedRank,
+                           int[] memberOffsets, int[] members,
+                           long proposals, long rejections, long displacements) {
+        this(assignedCourse, assignedRank, memberOffsets, members, proposals, rejections, displacements, new long[0]);
+    }
+
+    public MatchingOutcome(int[] assignedCourse, int[] assignedRank,
+                           int[] memberOffsets, int[] members,
+                           long proposals, long rejections, long displacements, long[] roundNanos) {
+        this.assignedCourse = assignedCourse;
+        this.assignedRank = assignedRank;
+        this.memberOffsets = memberOffsets;
+        this.members = members;
+        this.proposals = proposals;
+        this.rejections = rejections;
+        this.displacements = displacements;
+        this.roundNanos = roundNanos;
+    }
+
+    /**
+     * Returns the course id of a student, or -1 when the student is unassigned
+     */
+    public int assignedCourse(int student) {
+        return assignedCourse[student];
+    }
+
+    /**
+     * Returns the index of the assigned course in the student's original preference list,
+     * or -1 when the course is not on that list or the student is unassigned
+     */
+    public int assignedRank(int student) {
+        return assignedRank[student];
+    }
+
+    public int courseCount() {
+        return memberOffsets.length - 1;
+    }
+
+    public int memberStart(int course) {
+        return memberOffsets[course];
+    }
+
+    public int memberEnd(int course) {
+        return memberOffsets[course + 1];
+    }
+
+    public int member(int index) {
+        return members[index];
+    }
+
+    public int assignedCount() {
+        return members.length;
+    }
+
+    public long proposals() {
+        return proposals;
+    }
+
+    /**
+     * Proposals that left a student free: either the proposer was refused or it displaced a member
+     */
+    public long rejections() {
+        return rejections;
+    }
+
+    /**
+     * Accepted students that were later pushed out by a better proposer
+     */
+    public long displacements() {
+        return displacements;
+    }
+
+    /**
+     * Proposal rounds run by a round-based engine, 0 for engines that handle one proposal at a time
+     */
+    public int rounds() {
+        return roundNanos.length;
+    }
+
+    public long roundNanos(int round) {
+        return roundNanos[round];
+    }
+}
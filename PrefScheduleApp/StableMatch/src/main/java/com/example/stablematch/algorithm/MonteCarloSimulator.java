@@ -0,0 +1,302 @@
+package com.example.stablematch.algorithm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Runs many seeded matchings of one instance and aggregates where students and courses end up.
+ * <p>
+ * Every run draws from its own {@link SplittableRandom}, split off the root stream in run order
+ * before any worker starts, so the totals depend only on the seed and not on how runs are spread
+ * over workers. A worker allocates its arrays once and reuses them for all of its runs, and adds
+ * every run to per-student and per-course counters as soon as it ends; individual runs are not kept.
+ * <p>
+ * A random run is {@link RandomMatcher}. A perturbed stable run is student-proposing Gale-Shapley
+ * where every student's scores are shifted by one Gaussian draw of standard deviation {@code noise},
+ * as if grades were measured with that much error; with no noise every run is the stable matching.
+ */
+public final class MonteCarloSimulator {
+
+    private final MatchingInstance instance;
+    private final ScoreMatrix scores;
+    private final int topK;
+    private final double noise;
+    private volatile boolean cancelled;
+
+    private MonteCarloSimulator(MatchingInstance instance, ScoreMatrix scores, int topK, double noise) {
+        this.instance = instance;
+        this.scores = scores;
+        this.topK = topK;
+        this.noise = noise;
+    }
+
+    /**
+     * Runs {@code runs} random matchings on up to {@code workers} tasks of {@code pool}
+     */
+    public static SimulationSummary runRandom(MatchingInstance instance, int runs, int topK, long seed,
+                                              ForkJoinPool pool, int workers) {
+        return new MonteCarloSimulator(instance, null, topK, 0.0).execute(runs, seed, pool, workers);
+    }
+
+    /**
+     * Runs {@code runs} stable matchings over scores perturbed per student, on up to {@code workers} tasks of {@code pool}
+     */
+    public static SimulationSummary runPerturbedStable(MatchingInstance instance, ScoreMatrix scores, int runs,
+                                                       int topK, double noise, long seed,
+                                                       ForkJoinPool pool, int workers) {
+        return new MonteCarloSimulator(instance, scores, topK, noise).execute(runs, seed, pool, workers);
+    }
+
+    private SimulationSummary execute(int runs, long seed, ForkJoinPool pool, int workers) {
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] streams = new SplittableRandom[runs];
+        for (int run = 0; run < runs; run++) {
+            streams[run] = root.split();
+        }
+
+        int tasks = Math.max(1, Math.min(workers, runs));
+        List<Future<Worker>> futures = new ArrayList<>(tasks);
+        for (int t = 0; t < tasks; t++) {
+            int from = (int) ((long) runs * t / tasks);
+            int to = (int) ((long) runs * (t + 1) / tasks);
+            futures.add(pool.submit(() -> {
+                Worker worker = scores != null ? new StableWorker() : new RandomWorker();
+                for (int run = from; run < to; run++) {
+                    if (cancelled) {
+                        throw new CancellationException("Simulation cancelled");
+                    }
+                    worker.run(streams[run]);
+                    worker.record();
+                }
+                return worker;
+            }));
+        }
+
+        // Pool workers are not interrupted with the caller, so they stop on the cancelled flag instead
+        Worker total = null;
+        try {
+            for (Future<Worker> future : futures) {
+                Worker worker = future.get();
+                total = total == null ? worker : total.add(worker);
+            }
+        } catch (InterruptedException e) {
+            cancelled = true;
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Simulation interrupted");
+        } catch (ExecutionException e) {
+            cancelled = true;
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+
+        return new SimulationSummary(runs, topK, total.topKRuns, total.listedRuns, total.unassignedRuns,
+                total.rankSums, total.filledRuns, total.loadSums);
+    }
+
+    /**
+     * Preallocated state of one worker plus its running totals
+     */
+    private abstract class Worker {
+
+        final int[] assignedCourse = new int[instance.studentCount()];
+
+        final int[] topKRuns = new int[instance.studentCount()];
+        final int[] listedRuns = new int[instance.studentCount()];
+        final int[] unassignedRuns = new int[instance.studentCount()];
+        final long[] rankSums = new long[instance.studentCount()];
+        final int[] filledRuns = new int[instance.courseCount()];
+        final long[] loadSums = new long[instance.courseCount()];
+        final int[] load = new int[instance.courseCount()];
+
+        /**
+         * Leaves one matching in {@code assignedCourse}
+         */
+        abstract void run(SplittableRandom random);
+
+        void record() {
+            Arrays.fill(load, 0);
+            for (int s = 0; s < assignedCourse.length; s++) {
+                int course = assignedCourse[s];
+                if (course < 0) {
+                    unassignedRuns[s]++;
+                    continue;
+                }
+                load[course]++;
+                int rank = instance.rankOf(s, course);
+                if (rank >= 0) {
+                    listedRuns[s]++;
+                    rankSums[s] += rank;
+                    if (rank < topK) {
+                        topKRuns[s]++;
+                    }
+                }
+            }
+            for (int c = 0; c < load.length; c++) {
+                loadSums[c] += load[c];
+                if (load[c] >= instance.capacity(c)) {
+                    filledRuns[c]++;
+                }
+            }
+        }
+
+        Worker add(Worker other) {
+            for (int s = 0; s < topKRuns.length; s++) {
+                topKRuns[s] += other.topKRuns[s];
+                listedRuns[s] += other.listedRuns[s];
+                unassignedRuns[s] += other.unassignedRuns[s];
+                rankSums[s] += other.rankSums[s];
+            }
+            for (int c = 0; c < filledRuns.length; c++) {
+                filledRuns[c] += other.filledRuns[c];
+                loadSums[c] += other.loadSums[c];
+            }
+            return this;
+        }
+    }
+
+    private final class RandomWorker extends Worker {
+
+        private final int[] order = new int[instance.studentCount()];
+        private final int[] remaining = new int[instance.courseCount()];
+        private final int[] open = new int[instance.courseCount()];
+
+        @Override
+        void run(SplittableRandom random) {
+            for (int s = 0; s < order.length; s++) {
+                order[s] = s;
+            }
+            RandomMatcher.assign(instance, random, order, remaining, open, assignedCourse);
+        }
+    }
+
+    /**
+     * Gale-Shapley with one min-heap region per course in a shared array; a course never holds
+     * more students than its capacity or than the students listing it, which bounds its region.
+     * Equal scores go to the lower student index, as in {@link GaleShapleyEngine}
+     */
+    private final class StableWorker extends Worker {
+
+        private final double[] shift = new double[instance.studentCount()];
+        private final int[] nextSlot = new int[instance.studentCount()];
+        private final int[] queue = new int[instance.studentCount()];
+        private final int[] heapOffsets = new int[instance.courseCount() + 1];
+        private final int[] heapSize = new int[instance.courseCount()];
+        private final int[] heaps;
+
+        private StableWorker() {
+            int[] listers = new int[instance.courseCount()];
+            for (int s = 0; s < instance.studentCount(); s++) {
+                for (int slot = instance.prefStart(s); slot < instance.prefEnd(s); slot++) {
+                    listers[instance.prefCourse(slot)]++;
+                }
+            }
+            for (int c = 0; c < listers.length; c++) {
+                heapOffsets[c + 1] = heapOffsets[c] + Math.min(listers[c], instance.capacity(c));
+            }
+            heaps = new int[heapOffsets[listers.length]];
+        }
+
+        @Override
+        void run(SplittableRandom random) {
+            int studentCount = instance.studentCount();
+            for (int s = 0; s < studentCount; s++) {
+                shift[s] = noise > 0 ? noise * random.nextGaussian() : 0.0;
+                nextSlot[s] = instance.prefStart(s);
+                queue[s] = s;
+            }
+            Arrays.fill(assignedCourse, -1);
+            Arrays.fill(heapSize, 0);
+
+            int head = 0;
+            int tail = 0;
+            int queued = studentCount;
+            while (queued > 0) {
+                int student = queue[head];
+                head = head + 1 == studentCount ? 0 : head + 1;
+                queued--;
+
+                int slot = nextSlot[student];
+                if (slot >= instance.prefEnd(student)) {
+                    continue;
+                }
+                nextSlot[student] = slot + 1;
+
+                int course = instance.prefCourse(slot);
+                int rejected = student;
+                if (heapSize[course] < instance.capacity(course)) {
+                    assignedCourse[student] = course;
+                    push(course, student);
+                    continue;
+                }
+                if (instance.capacity(course) > 0) {
+                    int root = heaps[heapOffsets[course]];
+                    if (worse(root, student, course)) {
+                        assignedCourse[root] = -1;
+                        assignedCourse[student] = course;
+                        heaps[heapOffsets[course]] = student;
+                        siftDown(course);
+                        rejected = root;
+                    }
+                }
+
+                queue[tail] = rejected;
+                tail = tail + 1 == studentCount ? 0 : tail + 1;
+                queued++;
+            }
+        }
+
+        private double score(int student, int course) {
+            return scores.score(student, course) + shift[student];
+        }
+
+        private void push(int course, int student) {
+            int base = heapOffsets[course];
+            int index = heapSize[course]++;
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!worse(student, heaps[base + parent], course)) {
+                    break;
+                }
+                heaps[base + index] = heaps[base + parent];
+                index = parent;
+            }
+            heaps[base + index] = student;
+        }
+
+        private void siftDown(int course) {
+            int base = heapOffsets[course];
+            int size = heapSize[course];
+            int student = heaps[base];
+            int index = 0;
+            int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                if (child + 1 < size && worse(heaps[base + child + 1], heaps[base + child], course)) {
+                    child++;
+                }
+                if (!worse(heaps[base + child], student, course)) {
+                    break;
+                }
+                heaps[base + index] = heaps[base + child];
+                index = child;
+            }
+            heaps[base + index] = student;
+        }
+
+        /**
+         * Lower score first; among equal scores the higher student index is the worse one
+         */
+        private boolean worse(int a, int b, int course) {
+            int cmp = Double.compare(score(a, course), score(b, course));
+            return cmp < 0 || (cmp == 0 && a > b);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.stablematch.algorithm;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join scoring over fixed-size student chunks.
+ * Every cell is computed exactly as in the sequential path, so the results are bit-identical;
+ * chunks only decide which thread writes which rows.
+ */
+public final class ParallelScoring {
+
+    private ParallelScoring() {
+    }
+
+    /**
+     * Number of chunks {@code items} is split into when every chunk holds at most {@code chunkSize} items
+     */
+    public static int chunkCount(int items, int chunkSize) {
+        return items == 0 ? 0 : (items + chunkSize - 1) / chunkSize;
+    }
+
+    /**
+     * Fills the full score matrix on {@code pool}, one task per chunk of {@code chunkSize} students
+     */
+    public static ScoreMatrix buildMatrix(ScoringIndex scoring, int studentCount,
+                                          ForkJoinPool pool, int chunkSize) {
+        ScoreMatrix matrix = new ScoreMatrix(studentCount, scoring.courseCount());
+        int chunks = chunkCount(studentCount, chunkSize);
+        if (chunks > 0) {
+            pool.invoke(new ChunkTask(0, chunks, chunkSize, studentCount,
+                    (from, to) -> scoring.fillRows(matrix, from, to)));
+        }
+        return matrix;
+    }
+
+    /**
+     * Scores {@code (students[i], courses[i])} pairs on {@code pool}, one task per chunk of {@code chunkSize} pairs
+     */
+    public static double[] scorePairs(ScoringIndex scoring, int[] students, int[] courses,
+                                      ForkJoinPool pool, int chunkSize) {
+        double[] scores = new double[students.length];
+        int chunks = chunkCount(students.length, chunkSize);
+        if (chunks > 0) {
+            pool.invoke(new ChunkTask(0, chunks, chunkSize, students.length, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    scores[i] = scoring.score(students[i], courses[i]);
+                }
+            }));
+        }
+        return scores;
+    }
+
+    /**
+     * Scores {@code (students[i], courses[i])} pairs on the calling thread
+     */
+    public static double[] scorePairs(ScoringIndex scoring, int[] students, int[] courses) {
+        double[] scores = new double[students.length];
+        for (int i = 0; i < students.length; i++) {
+            scores[i] = scoring.score(students[i], courses[i]);
+        }
+        return scores;
+    }
+
+    @FunctionalInterface
+    private interface RangeAction {
+        void apply(int from, int to);
+    }
+
+    /**
+     * Splits a range of chunk indexes in halves until a single chunk is left
+     */
+    private static final class ChunkTask extends RecursiveAction {
+
+        private final int fromChunk;
+        private final int toChunk;
+        private final int chunkSize;
+        private final int items;
+        private final RangeAction action;
+
+        private ChunkTask(int fromChunk, int toChunk, int chunkSize, int items, RangeAction action) {
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.chunkSize = chunkSize;
+            this.items = items;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk == 1) {
+                int from = fromChunk * chunkSize;
+                action.apply(from, Math.min(items, from + chunkSize));
+                return;
+            }
+
+            int mid = (fromChunk + toChunk) >>> 1;
+            invokeAll(new ChunkTask(fromChunk, mid, chunkSize, items, action),
+                    new ChunkTask(mid, toChunk, chunkSize, items, action));
+        }
+    }
+}
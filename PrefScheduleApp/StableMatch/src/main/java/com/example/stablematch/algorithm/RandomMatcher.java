@@ -0,0 +1,96 @@
+package com.example.stablematch.algorithm;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Random assignment that samples only among courses with remaining capacity.
+ * <p>
+ * Open courses sit in a dense array; a course that fills up is swap-removed in O(1),
+ * so each student costs one random draw no matter how many courses are already full.
+ * Students are visited in a Fisher-Yates shuffled order and every open course is equally
+ * likely, the same distribution as shuffling all courses and taking the first one with room.
+ */
+public final class RandomMatcher {
+
+    private RandomMatcher() {
+    }
+
+    public static MatchingOutcome run(MatchingInstance instance, SplittableRandom random) {
+        int studentCount = instance.studentCount();
+        int courseCount = instance.courseCount();
+
+        int[] order = new int[studentCount];
+        for (int s = 0; s < studentCount; s++) {
+            order[s] = s;
+        }
+        int[] assignedCourse = new int[studentCount];
+        assign(instance, random, order, new int[courseCount], new int[courseCount], assignedCourse);
+
+        int[] assignedRank = new int[studentCount];
+        int[] courseCounts = new int[courseCount];
+        for (int s = 0; s < studentCount; s++) {
+            int course = assignedCourse[s];
+            assignedRank[s] = course >= 0 ? instance.rankOf(s, course) : -1;
+            if (course >= 0) {
+                courseCounts[course]++;
+            }
+        }
+
+        int[] memberOffsets = new int[courseCount + 1];
+        for (int c = 0; c < courseCount; c++) {
+            memberOffsets[c + 1] = memberOffsets[c] + courseCounts[c];
+        }
+
+        // Members of each course are listed in the order they were drawn
+        int[] members = new int[memberOffsets[courseCount]];
+        int[] cursor = Arrays.copyOf(memberOffsets, courseCount);
+        for (int i = 0; i < studentCount; i++) {
+            int student = order[i];
+            int course = assignedCourse[student];
+            if (course >= 0) {
+                members[cursor[course]++] = student;
+            }
+        }
+
+        return new MatchingOutcome(assignedCourse, assignedRank, memberOffsets, members, 0);
+    }
+
+    /**
+     * Draws one assignment into caller-owned arrays, so repeated draws allocate nothing.
+     * {@code order} must hold a permutation of the students and is left holding the visiting order;
+     * {@code remaining} and {@code open} need one slot per course and are overwritten.
+     */
+    static void assign(MatchingInstance instance, SplittableRandom random, int[] order,
+                       int[] remaining, int[] open, int[] assignedCourse) {
+        int studentCount = instance.studentCount();
+        int courseCount = instance.courseCount();
+
+        int openCount = 0;
+        for (int c = 0; c < courseCount; c++) {
+            remaining[c] = instance.capacity(c);
+            if (remaining[c] > 0) {
+                open[openCount++] = c;
+            }
+        }
+
+        for (int i = studentCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+
+        Arrays.fill(assignedCourse, -1);
+        for (int i = 0; i < studentCount && openCount > 0; i++) {
+            int student = order[i];
+            int slot = random.nextInt(openCount);
+            int course = open[slot];
+            assignedCourse[student] = course;
+
+            if (--remaining[course] == 0) {
+                open[slot] = open[--openCount];
+            }
+        }
+    }
+}
@@ -0,0 +1,421 @@
+package com.example.stablematch.algorithm;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Assignment that places as many students as capacities allow and, among those assignments,
+ * minimizes the sum of preference ranks. Students are only placed on courses from their own list.
+ * <p>
+ * This is primal-dual min-cost flow on source -> student -> course -> sink, with each student edge
+ * costing its preference rank. Students are never materialised as graph nodes: a residual path only
+ * passes through a student when it moves that student from one course to another, so the search runs
+ * over courses alone. The cheapest move from course c to course d is the top of a lazy heap of the
+ * students currently on c, keyed by {@code rank(d) - rank(c)}, and the cheapest entry into c is the
+ * head of c's list of free students sorted by rank.
+ * <p>
+ * Each phase runs a dense Dijkstra over courses with reduced costs, raises the course potentials and
+ * then augments along zero reduced cost paths until none is left. A student that was placed stays
+ * placed, so the free lists only shrink.
+ */
+public final class RankOptimalMatcher {
+
+    /**
+     * The interrupt flag is polled once every 4096 augmenting paths
+     */
+    public static final long INTERRUPT_CHECK_MASK = 0xFFF;
+
+    private static final long INF = Long.MAX_VALUE / 4;
+    /**
+     * Rank changes are stored offset in the upper 32 bits of a heap entry; 2^30 keeps the entry positive
+     */
+    private static final long DELTA_OFFSET = 1L << 30;
+
+    private final MatchingInstance instance;
+    private final int studentCount;
+    private final int courseCount;
+    private final int sink;
+
+    private final int[] assignedCourse;
+    private final int[] assignedRank;
+    private final int[] load;
+    private final long[] potential;
+
+    private final int[] freeOffsets;
+    private final int[] freeStudents;
+    private final int[] freeRanks;
+    private final int[] freeHead;
+
+    private final LongHeap[] moves;
+
+    private final long[] dist;
+    private final boolean[] settled;
+    private final int[] parent;
+    private final int[] visited;
+    private final int[] dead;
+    private int stamp;
+    private int deadStamp;
+
+    private long moved;
+
+    private RankOptimalMatcher(MatchingInstance instance) {
+        this.instance = instance;
+        this.studentCount = instance.studentCount();
+        this.courseCount = instance.courseCount();
+        this.sink = courseCount;
+
+        this.assignedCourse = new int[studentCount];
+        this.assignedRank = new int[studentCount];
+        this.load = new int[courseCount];
+        this.potential = new long[courseCount + 1];
+        Arrays.fill(assignedCourse, -1);
+        Arrays.fill(assignedRank, -1);
+
+        int slots = studentCount == 0 ? 0 : instance.prefEnd(studentCount - 1);
+        this.freeOffsets = new int[courseCount + 1];
+        this.freeStudents = new int[slots];
+        this.freeRanks = new int[freeStudents.length];
+        this.freeHead = new int[courseCount];
+        buildFreeLists();
+
+        this.moves = new LongHeap[courseCount * courseCount];
+        this.dist = new long[courseCount + 1];
+        this.settled = new boolean[courseCount + 1];
+        this.parent = new int[courseCount];
+        this.visited = new int[courseCount];
+        this.dead = new int[courseCount];
+    }
+
+    /**
+     * Runs the matcher. In the outcome {@code proposals} counts augmenting paths and {@code displacements}
+     * counts students moved to another course to make room; members of a course are in student order.
+     */
+    public static MatchingOutcome run(MatchingInstance instance) {
+        return new RankOptimalMatcher(instance).execute();
+    }
+
+    /**
+     * Sorts every course's candidates by rank, then by student, with two stable counting sorts
+     */
+    private void buildFreeLists() {
+        int slots = freeStudents.length;
+        int maxRank = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            maxRank = Math.max(maxRank, instance.prefRank(slot));
+        }
+
+        int[] slotStudent = new int[slots];
+        for (int s = 0; s < studentCount; s++) {
+            for (int slot = instance.prefStart(s); slot < instance.prefEnd(s); slot++) {
+                slotStudent[slot] = s;
+            }
+        }
+
+        int[] rankOffsets = new int[maxRank + 2];
+        for (int slot = 0; slot < slots; slot++) {
+            rankOffsets[instance.prefRank(slot) + 1]++;
+        }
+        for (int r = 0; r <= maxRank; r++) {
+            rankOffsets[r + 1] += rankOffsets[r];
+        }
+        int[] byRank = new int[slots];
+        for (int slot = 0; slot < slots; slot++) {
+            byRank[rankOffsets[instance.prefRank(slot)]++] = slot;
+        }
+
+        for (int slot = 0; slot < slots; slot++) {
+            freeOffsets[instance.prefCourse(slot) + 1]++;
+        }
+        for (int c = 0; c < courseCount; c++) {
+            freeOffsets[c + 1] += freeOffsets[c];
+        }
+        int[] fill = Arrays.copyOf(freeOffsets, courseCount);
+        for (int slot : byRank) {
+            int index = fill[instance.prefCourse(slot)]++;
+            freeStudents[index] = slotStudent[slot];
+            freeRanks[index] = instance.prefRank(slot);
+        }
+        System.arraycopy(freeOffsets, 0, freeHead, 0, courseCount);
+    }
+
+    private MatchingOutcome execute() {
+        long paths = 0;
+
+        while (shortestPaths()) {
+            deadStamp++;
+            long phasePaths = 0;
+            while (augment()) {
+                phasePaths++;
+                if ((++paths & INTERRUPT_CHECK_MASK) == 0 && Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException("Rank-optimal matching interrupted");
+                }
+            }
+            if (phasePaths == 0) {
+                throw new IllegalStateException("Shortest path found but no zero reduced cost path to augment");
+            }
+        }
+
+        return buildOutcome(paths);
+    }
+
+    /**
+     * Dense Dijkstra from the source over courses with reduced costs. When the sink is reachable the
+     * potentials are raised so that every shortest path has zero reduced cost, and true is returned.
+     */
+    private boolean shortestPaths() {
+        Arrays.fill(dist, INF);
+        Arrays.fill(settled, false);
+        for (int c = 0; c < courseCount; c++) {
+            int rank = freeMinRank(c);
+            if (rank >= 0) {
+                dist[c] = rank - potential[c];
+            }
+        }
+
+        while (true) {
+            int u = -1;
+            for (int v = 0; v <= courseCount; v++) {
+                if (!settled[v] && dist[v] < INF && (u < 0 || dist[v] < dist[u])) {
+                    u = v;
+                }
+            }
+            if (u < 0 || u == sink) {
+                break;
+            }
+            settled[u] = true;
+
+            if (load[u] < instance.capacity(u)) {
+                relax(sink, dist[u] + potential[u] - potential[sink]);
+            }
+            for (int v = 0; v < courseCount; v++) {
+                if (v != u && !settled[v]) {
+                    long delta = cheapestMove(u, v);
+                    if (delta < INF) {
+                        relax(v, dist[u] + delta + potential[u] - potential[v]);
+                    }
+                }
+            }
+        }
+
+        long sinkDist = dist[sink];
+        if (sinkDist >= INF) {
+            return false;
+        }
+        for (int v = 0; v <= courseCount; v++) {
+            potential[v] += Math.min(dist[v], sinkDist);
+        }
+        return true;
+    }
+
+    private void relax(int v, long candidate) {
+        if (candidate < dist[v]) {
+            dist[v] = candidate;
+        }
+    }
+
+    /**
+     * Finds one zero reduced cost path from the source to the sink and moves the students along it.
+     * Courses a search gave up on stay skipped for the rest of the phase, as in a blocking flow;
+     * since moving students can reopen such a course, a failed search is retried once without them.
+     */
+    private boolean augment() {
+        if (augmentAvoidingDead()) {
+            return true;
+        }
+        deadStamp++;
+        return augmentAvoidingDead();
+    }
+
+    private boolean augmentAvoidingDead() {
+        stamp++;
+        for (int c = 0; c < courseCount; c++) {
+            int rank = freeMinRank(c);
+            if (visited[c] != stamp && dead[c] != deadStamp && rank >= 0 && rank - potential[c] == 0) {
+                parent[c] = -1;
+                int end = search(c);
+                if (end >= 0) {
+                    apply(end);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Depth-first search for a course with room at zero reduced cost; returns that course or -1
+     */
+    private int search(int u) {
+        visited[u] = stamp;
+        if (load[u] < instance.capacity(u) && potential[u] == potential[sink]) {
+            return u;
+        }
+        for (int v = 0; v < courseCount; v++) {
+            if (visited[v] != stamp && dead[v] != deadStamp) {
+                long delta = cheapestMove(u, v);
+                if (delta < INF && delta + potential[u] - potential[v] == 0) {
+                    parent[v] = u;
+                    int end = search(v);
+                    if (end >= 0) {
+                        return end;
+                    }
+                }
+            }
+        }
+        dead[u] = deadStamp;
+        return -1;
+    }
+
+    /**
+     * Moves one student along each edge of the path ending at {@code end}, starting from the course
+     * that takes a free student. Students are picked before anything moves, since every move changes the heaps.
+     */
+    private void apply(int end) {
+        int length = 0;
+        for (int c = end; c >= 0; c = parent[c]) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int c = end, i = length - 1; c >= 0; c = parent[c], i--) {
+            path[i] = c;
+        }
+
+        int[] movers = new int[length - 1];
+        for (int i = 0; i < length - 1; i++) {
+            movers[i] = (int) moves[path[i] * courseCount + path[i + 1]].peek();
+        }
+        int entrant = freeStudents[freeHead[path[0]]];
+
+        for (int i = 0; i < length - 1; i++) {
+            load[path[i]]--;
+            place(movers[i], path[i + 1]);
+        }
+        place(entrant, path[0]);
+        moved += length - 1;
+    }
+
+    private void place(int student, int course) {
+        int rank = instance.rankOf(student, course);
+        assignedCourse[student] = course;
+        assignedRank[student] = rank;
+        load[course]++;
+
+        for (int slot = instance.prefStart(student); slot < instance.prefEnd(student); slot++) {
+            int other = instance.prefCourse(slot);
+            if (other != course) {
+                LongHeap heap = moves[course * courseCount + other];
+                if (heap == null) {
+                    heap = new LongHeap();
+                    moves[course * courseCount + other] = heap;
+                }
+                heap.push(((instance.prefRank(slot) - rank + DELTA_OFFSET) << 32) | student);
+            }
+        }
+    }
+
+    /**
+     * Lowest rank among the free students listing the course, or -1 when none is left
+     */
+    private int freeMinRank(int course) {
+        int head = freeHead[course];
+        int end = freeOffsets[course + 1];
+        while (head < end && assignedCourse[freeStudents[head]] >= 0) {
+            head++;
+        }
+        freeHead[course] = head;
+        return head < end ? freeRanks[head] : -1;
+    }
+
+    /**
+     * Cheapest rank change for moving a student currently on {@code from} to {@code to}, or INF
+     */
+    private long cheapestMove(int from, int to) {
+        LongHeap heap = moves[from * courseCount + to];
+        if (heap == null) {
+            return INF;
+        }
+        while (heap.size() > 0) {
+            long top = heap.peek();
+            if (assignedCourse[(int) top] == from) {
+                return (top >>> 32) - DELTA_OFFSET;
+            }
+            heap.pop();
+        }
+        return INF;
+    }
+
+    private MatchingOutcome buildOutcome(long paths) {
+        int[] memberOffsets = new int[courseCount + 1];
+        for (int s = 0; s < studentCount; s++) {
+            if (assignedCourse[s] >= 0) {
+                memberOffsets[assignedCourse[s] + 1]++;
+            }
+        }
+        for (int c = 0; c < courseCount; c++) {
+            memberOffsets[c + 1] += memberOffsets[c];
+        }
+
+        int[] members = new int[memberOffsets[courseCount]];
+        int[] fill = Arrays.copyOf(memberOffsets, courseCount);
+        for (int s = 0; s < studentCount; s++) {
+            if (assignedCourse[s] >= 0) {
+                members[fill[assignedCourse[s]]++] = s;
+            }
+        }
+
+        return new MatchingOutcome(assignedCourse, assignedRank, memberOffsets, members, paths, 0, moved);
+    }
+
+    /**
+     * Binary min-heap of longs; stale entries are dropped by the reader
+     */
+    private static final class LongHeap {
+
+        private long[] items = new long[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        long peek() {
+            return items[0];
+        }
+
+        void push(long item) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            int index = size++;
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (items[parent] <= item) {
+                    break;
+                }
+                items[index] = items[parent];
+                index = parent;
+            }
+            items[index] = item;
+        }
+
+        void pop() {
+            long last = items[--size];
+            int index = 0;
+            int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                if (child + 1 < size && items[child + 1] < items[child]) {
+                    child++;
+                }
+                if (items[child] >= last) {
+                    break;
+                }
+                items[index] = items[child];
+                index = child;
+            }
+            if (size > 0) {
+                items[index] = last;
+            }
+        }
+    }
+}
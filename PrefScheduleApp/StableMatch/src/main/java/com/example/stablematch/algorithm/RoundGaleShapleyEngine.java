@@ -0,0 +1,305 @@
+package com.example.stablematch.algorithm;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Round-based student-proposing Gale-Shapley over int arrays.
+ * <p>
+ * Every round all free students propose to their next course at once. Proposals are bucketed by
+ * course, and each course then merges its bucket into its min-heap of accepted students on its own;
+ * a student is touched by exactly one course per round, so courses resolve in parallel without locks.
+ * Refused and displaced students form the free list of the next round.
+ * <p>
+ * Courses rank students by score and, among equal scores, prefer the lower student index. With that
+ * strict order, shared with {@link GaleShapleyEngine}, the student-optimal stable matching does not
+ * depend on the order of proposals, so both engines produce the same assignments, tied scores included.
+ * Members of a course are listed by the round they were accepted in, then by student index.
+ */
+public final class RoundGaleShapleyEngine {
+
+    /**
+     * Rounds with fewer proposals than this are resolved on the calling thread
+     */
+    public static final int PARALLEL_ROUND_THRESHOLD = 4096;
+
+    private static final int INITIAL_HEAP_SIZE = 8;
+
+    private final MatchingInstance instance;
+    private final ScoreMatrix scores;
+    private final ForkJoinPool pool;
+
+    private final int[] nextSlot;
+    private final int[] assignedCourse;
+    private final int[] assignedRank;
+    private final int[] acceptRound;
+    private final int[][] heaps;
+    private final int[] heapSize;
+
+    private final int[] bucketOffsets;
+    private final int[] buckets;
+    private final int[] refused;
+    private final int[] displaced;
+    private int round;
+
+    private RoundGaleShapleyEngine(MatchingInstance instance, ScoreMatrix scores, ForkJoinPool pool) {
+        int studentCount = instance.studentCount();
+        int courseCount = instance.courseCount();
+
+        this.instance = instance;
+        this.scores = scores;
+        this.pool = pool;
+        this.nextSlot = new int[studentCount];
+        this.assignedCourse = new int[studentCount];
+        this.assignedRank = new int[studentCount];
+        this.acceptRound = new int[studentCount];
+        this.heaps = new int[courseCount][];
+        this.heapSize = new int[courseCount];
+        this.bucketOffsets = new int[courseCount + 1];
+        this.buckets = new int[studentCount];
+        this.refused = new int[courseCount];
+        this.displaced = new int[courseCount];
+
+        Arrays.fill(assignedCourse, -1);
+        Arrays.fill(assignedRank, -1);
+        for (int s = 0; s < studentCount; s++) {
+            nextSlot[s] = instance.prefStart(s);
+        }
+        for (int c = 0; c < courseCount; c++) {
+            heaps[c] = new int[Math.min(instance.capacity(c), INITIAL_HEAP_SIZE)];
+        }
+    }
+
+    /**
+     * Runs the rounds on {@code pool}; rounds below {@link #PARALLEL_ROUND_THRESHOLD} proposals stay sequential
+     */
+    public static MatchingOutcome run(MatchingInstance instance, ScoreMatrix scores, ForkJoinPool pool) {
+        return new RoundGaleShapleyEngine(instance, scores, pool).execute();
+    }
+
+    private MatchingOutcome execute() {
+        int studentCount = instance.studentCount();
+        int courseCount = instance.courseCount();
+        int[] free = new int[studentCount];
+        int[] proposers = new int[studentCount];
+        int[] targets = new int[studentCount];
+        for (int s = 0; s < studentCount; s++) {
+            free[s] = s;
+        }
+        int freeCount = studentCount;
+        long proposals = 0;
+        long rejections = 0;
+        long displacements = 0;
+        long[] roundNanos = new long[16];
+
+        while (freeCount > 0) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Stable matching interrupted");
+            }
+            long roundStart = System.nanoTime();
+
+            // Every free student with courses left proposes to the next one
+            Arrays.fill(bucketOffsets, 0);
+            int proposalCount = 0;
+            for (int i = 0; i < freeCount; i++) {
+                int student = free[i];
+                int slot = nextSlot[student];
+                if (slot >= instance.prefEnd(student)) {
+                    continue;
+                }
+                nextSlot[student] = slot + 1;
+                int course = instance.prefCourse(slot);
+                proposers[proposalCount] = student;
+                targets[proposalCount] = course;
+                proposalCount++;
+                bucketOffsets[course + 1]++;
+            }
+            if (proposalCount == 0) {
+                break;
+            }
+
+            // Partition the proposals by course
+            for (int c = 0; c < courseCount; c++) {
+                bucketOffsets[c + 1] += bucketOffsets[c];
+            }
+            int[] fill = Arrays.copyOf(bucketOffsets, courseCount);
+            for (int i = 0; i < proposalCount; i++) {
+                buckets[fill[targets[i]]++] = proposers[i];
+            }
+
+            if (proposalCount >= PARALLEL_ROUND_THRESHOLD && pool.getParallelism() > 1) {
+                pool.invoke(new ResolveTask(0, courseCount));
+            } else {
+                for (int c = 0; c < courseCount; c++) {
+                    resolve(c);
+                }
+            }
+
+            // Refused and displaced students were written to the front of each bucket
+            freeCount = 0;
+            for (int c = 0; c < courseCount; c++) {
+                System.arraycopy(buckets, bucketOffsets[c], free, freeCount, refused[c]);
+                freeCount += refused[c];
+                displacements += displaced[c];
+            }
+            proposals += proposalCount;
+            rejections += freeCount;
+
+            if (round == roundNanos.length) {
+                roundNanos = Arrays.copyOf(roundNanos, round * 2);
+            }
+            roundNanos[round++] = System.nanoTime() - roundStart;
+        }
+
+        return buildOutcome(proposals, rejections, displacements, Arrays.copyOf(roundNanos, round));
+    }
+
+    /**
+     * Merges the proposals of one course into its heap. Every student leaving the course, refused
+     * or displaced, is written back over the already consumed part of the bucket.
+     */
+    private void resolve(int course) {
+        int from = bucketOffsets[course];
+        int to = bucketOffsets[course + 1];
+        int capacity = instance.capacity(course);
+        int out = from;
+        int pushedOut = 0;
+
+        for (int i = from; i < to; i++) {
+            int student = buckets[i];
+            if (heapSize[course] < capacity) {
+                accept(student, course);
+                push(course, student);
+                continue;
+            }
+
+            if (capacity > 0 && worse(heaps[course][0], student, course)) {
+                int rejected = heaps[course][0];
+                pushedOut++;
+                assignedCourse[rejected] = -1;
+                assignedRank[rejected] = -1;
+                accept(student, course);
+                heaps[course][0] = student;
+                siftDown(course, 0);
+                buckets[out++] = rejected;
+            } else {
+                buckets[out++] = student;
+            }
+        }
+
+        refused[course] = out - from;
+        displaced[course] = pushedOut;
+    }
+
+    private void accept(int student, int course) {
+        assignedCourse[student] = course;
+        assignedRank[student] = instance.prefRank(nextSlot[student] - 1);
+        acceptRound[student] = round;
+    }
+
+    private void push(int course, int student) {
+        int[] heap = heaps[course];
+        int size = heapSize[course];
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, (int) Math.min((long) size * 2, instance.capacity(course)));
+            heaps[course] = heap;
+        }
+        heap[size] = student;
+        heapSize[course] = size + 1;
+        siftUp(course, size);
+    }
+
+    private void siftUp(int course, int index) {
+        int[] heap = heaps[course];
+        int student = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!worse(student, heap[parent], course)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = student;
+    }
+
+    private void siftDown(int course, int index) {
+        int[] heap = heaps[course];
+        int size = heapSize[course];
+        int student = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && worse(heap[right], heap[child], course)) {
+                child = right;
+            }
+            if (!worse(heap[child], student, course)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = student;
+    }
+
+    /**
+     * Lower score first; among equal scores the higher student index is the worse one
+     */
+    private boolean worse(int a, int b, int course) {
+        int cmp = Double.compare(scores.score(a, course), scores.score(b, course));
+        return cmp < 0 || (cmp == 0 && a > b);
+    }
+
+    private MatchingOutcome buildOutcome(long proposals, long rejections, long displacements, long[] roundNanos) {
+        int courseCount = instance.courseCount();
+        int[] memberOffsets = new int[courseCount + 1];
+        for (int c = 0; c < courseCount; c++) {
+            memberOffsets[c + 1] = memberOffsets[c] + heapSize[c];
+        }
+
+        int[] members = new int[memberOffsets[courseCount]];
+        for (int c = 0; c < courseCount; c++) {
+            int size = heapSize[c];
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                int student = heaps[c][i];
+                keys[i] = ((long) acceptRound[student] << 32) | student;
+            }
+            Arrays.sort(keys);
+            for (int i = 0; i < size; i++) {
+                members[memberOffsets[c] + i] = (int) keys[i];
+            }
+        }
+
+        return new MatchingOutcome(assignedCourse, assignedRank, memberOffsets, members,
+                proposals, rejections, displacements, roundNanos);
+    }
+
+    /**
+     * Splits a range of courses in halves until a single course is left
+     */
+    private final class ResolveTask extends RecursiveAction {
+
+        private final int fromCourse;
+        private final int toCourse;
+
+        private ResolveTask(int fromCourse, int toCourse) {
+            this.fromCourse = fromCourse;
+            this.toCourse = toCourse;
+        }
+
+        @Override
+        protected void compute() {
+            if (toCourse - fromCourse == 1) {
+                resolve(fromCourse);
+                return;
+            }
+
+            int mid = (fromCourse + toCourse) >>> 1;
+            invokeAll(new ResolveTask(fromCourse, mid), new ResolveTask(mid, toCourse));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.stablematch.algorithm;
+
+/**
+ * Dense students x courses score table, stored row-major (one row per student).
+ */
+public final class ScoreMatrix {
+
+    private final int studentCount;
+    private final int courseCount;
+    private final double[] scores;
+
+    public ScoreMatrix(int studentCount, int courseCount) {
+        this.studentCount = studentCount;
+        this.courseCount = courseCount;
+        this.scores = new double[Math.multiplyExact(studentCount, courseCount)];
+    }
+
+    public int studentCount() {
+        return studentCount;
+    }
+
+    public int courseCount() {
+        return courseCount;
+    }
+
+    public double score(int student, int course) {
+        return scores[student * courseCount + course];
+    }
+
+    public void set(int student, int course, double score) {
+        scores[student * courseCount + course] = score;
+    }
+}
@@ -0,0 +1,275 @@
+package com.example.stablematch.algorithm;
+
+import com.example.stablematch.dto.InstructorPreferenceDTO;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.StudentPreferenceDTO;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Instructor grade weights compiled once per request.
+ * <p>
+ * Every compulsory-course abbreviation gets an ordinal and every course keeps a sparse weight
+ * vector over those ordinals, in the iteration order of its {@code gradeWeights} map. A student's
+ * grades become a dense row indexed by ordinal ({@code NaN} where the grade is missing), so a
+ * score is a short dot product that accumulates in exactly the same order as the per-pair lookup
+ * it replaces and therefore yields bit-identical doubles. Grades are read either from the request DTOs
+ * or from the flat arrays of a {@link CompactMatchingRequest}, with the same result.
+ */
+public final class ScoringIndex {
+
+    private static final int[] NO_ORDINALS = new int[0];
+    private static final double[] NO_WEIGHTS = new double[0];
+
+    private final Grades grades;
+    private final String[] abbreviations;
+    private final int[][] courseOrdinals;
+    private final double[][] courseWeights;
+
+    private ScoringIndex(Grades grades, String[] abbreviations,
+                         int[][] courseOrdinals, double[][] courseWeights) {
+        this.grades = grades;
+        this.abbreviations = abbreviations;
+        this.courseOrdinals = courseOrdinals;
+        this.courseWeights = courseWeights;
+    }
+
+    /**
+     * Compiles the instructor preferences of a request. When a course has several preference
+     * entries the first one wins, as in the original linear lookup.
+     */
+    public static ScoringIndex compile(MatchingRequestDTO request, MatchingInstance instance) {
+        List<StudentPreferenceDTO> students = request.getStudentPreferences();
+        return compile(request.getInstructorPreferences(), instance,
+                (abbreviations, ordinals) -> new DtoGrades(students, abbreviations, ordinals));
+    }
+
+    /**
+     * Compiles the instructor preferences of a request read into arrays
+     */
+    public static ScoringIndex compile(CompactMatchingRequest request) {
+        return compile(request.instructorPreferences(), request.instance(),
+                (abbreviations, ordinals) -> new CompactGrades(request, ordinals));
+    }
+
+    private static ScoringIndex compile(List<InstructorPreferenceDTO> preferences, MatchingInstance instance,
+                                        BiFunction<String[], Map<String, Integer>, Grades> grades) {
+        int courseCount = instance.courseCount();
+        InstructorPreferenceDTO[] byCourse = new InstructorPreferenceDTO[courseCount];
+
+        for (InstructorPreferenceDTO preference : preferences) {
+            int c = instance.courseId(preference.getCourseCode());
+            if (c >= 0 && byCourse[c] == null) {
+                byCourse[c] = preference;
+            }
+        }
+
+        Map<String, Integer> ordinals = new HashMap<>();
+        int[][] courseOrdinals = new int[courseCount][];
+        double[][] courseWeights = new double[courseCount][];
+
+        for (int c = 0; c < courseCount; c++) {
+            Map<String, Double> weights = byCourse[c] != null ? byCourse[c].getGradeWeights() : null;
+            if (weights == null || weights.isEmpty()) {
+                courseOrdinals[c] = NO_ORDINALS;
+                courseWeights[c] = NO_WEIGHTS;
+                continue;
+            }
+
+            int[] ords = new int[weights.size()];
+            double[] values = new double[weights.size()];
+            int k = 0;
+            for (Map.Entry<String, Double> weight : weights.entrySet()) {
+                ords[k] = ordinals.computeIfAbsent(weight.getKey(), key -> ordinals.size());
+                values[k] = weight.getValue();
+                k++;
+            }
+            courseOrdinals[c] = ords;
+            courseWeights[c] = values;
+        }
+
+        String[] abbreviations = new String[ordinals.size()];
+        ordinals.forEach((abbr, ordinal) -> abbreviations[ordinal] = abbr);
+
+        return new ScoringIndex(grades.apply(abbreviations, ordinals), abbreviations,
+                courseOrdinals, courseWeights);
+    }
+
+    public int abbreviationCount() {
+        return abbreviations.length;
+    }
+
+    public int courseCount() {
+        return courseOrdinals.length;
+    }
+
+    /**
+     * Fills the full students x courses matrix on the calling thread
+     */
+    public ScoreMatrix buildMatrix() {
+        ScoreMatrix matrix = new ScoreMatrix(grades.studentCount(), courseCount());
+        fillRows(matrix, 0, grades.studentCount());
+        return matrix;
+    }
+
+    /**
+     * Fills the matrix rows of students in {@code [fromStudent, toStudent)}.
+     * Uses a private grade row, so disjoint ranges can be filled concurrently.
+     */
+    public void fillRows(ScoreMatrix matrix, int fromStudent, int toStudent) {
+        double[] row = new double[abbreviations.length];
+        int courseCount = courseCount();
+
+        for (int s = fromStudent; s < toStudent; s++) {
+            grades.load(s, row);
+            for (int c = 0; c < courseCount; c++) {
+                matrix.set(s, c, dot(row, c));
+            }
+        }
+    }
+
+    /**
+     * Scores a single (student, course) pair without building a dense row
+     */
+    public double score(int student, int course) {
+        int[] ords = courseOrdinals[course];
+        double[] weights = courseWeights[course];
+        double weightedSum = 0.0;
+        double totalWeight = 0.0;
+
+        for (int k = 0; k < ords.length; k++) {
+            double grade = grades.grade(student, ords[k]);
+            if (!Double.isNaN(grade)) {
+                weightedSum += grade * weights[k];
+                totalWeight += weights[k];
+            }
+        }
+
+        return totalWeight > 0 ? weightedSum / totalWeight : 0.0;
+    }
+
+    private double dot(double[] row, int course) {
+        int[] ords = courseOrdinals[course];
+        double[] weights = courseWeights[course];
+        double weightedSum = 0.0;
+        double totalWeight = 0.0;
+
+        for (int k = 0; k < ords.length; k++) {
+            double grade = row[ords[k]];
+            if (!Double.isNaN(grade)) {
+                weightedSum += grade * weights[k];
+                totalWeight += weights[k];
+            }
+        }
+
+        return totalWeight > 0 ? weightedSum / totalWeight : 0.0;
+    }
+
+    /**
+     * Source of student grades, addressed by abbreviation ordinal
+     */
+    private interface Grades {
+
+        int studentCount();
+
+        /**
+         * Writes the student's grades into a row indexed by ordinal, leaving missing grades as {@code NaN}
+         */
+        void load(int student, double[] row);
+
+        /**
+         * Returns the student's grade for an ordinal, or {@code NaN} when it is missing
+         */
+        double grade(int student, int ordinal);
+    }
+
+    private static final class DtoGrades implements Grades {
+
+        private final List<StudentPreferenceDTO> students;
+        private final String[] abbreviations;
+        private final Map<String, Integer> abbreviationOrdinals;
+
+        private DtoGrades(List<StudentPreferenceDTO> students, String[] abbreviations,
+                          Map<String, Integer> abbreviationOrdinals) {
+            this.students = students;
+            this.abbreviations = abbreviations;
+            this.abbreviationOrdinals = abbreviationOrdinals;
+        }
+
+        @Override
+        public int studentCount() {
+            return students.size();
+        }
+
+        @Override
+        public void load(int student, double[] row) {
+            Arrays.fill(row, Double.NaN);
+            Map<String, Double> grades = students.get(student).getCourseGrades();
+            if (grades == null) {
+                return;
+            }
+
+            for (Map.Entry<String, Double> grade : grades.entrySet()) {
+                Integer ordinal = abbreviationOrdinals.get(grade.getKey());
+                if (ordinal != null && grade.getValue() != null) {
+                    row[ordinal] = grade.getValue();
+                }
+            }
+        }
+
+        @Override
+        public double grade(int student, int ordinal) {
+            Map<String, Double> grades = students.get(student).getCourseGrades();
+            Double grade = grades != null ? grades.get(abbreviations[ordinal]) : null;
+            return grade != null ? grade : Double.NaN;
+        }
+    }
+
+    /**
+     * Grades of a compact request; each interned abbreviation is mapped to its ordinal once,
+     * and a repeated abbreviation keeps its last value, as a map would
+     */
+    private static final class CompactGrades implements Grades {
+
+        private final CompactMatchingRequest request;
+        private final int[] nameOrdinals;
+
+        private CompactGrades(CompactMatchingRequest request, Map<String, Integer> abbreviationOrdinals) {
+            this.request = request;
+            this.nameOrdinals = new int[request.gradeNameCount()];
+            for (int name = 0; name < nameOrdinals.length; name++) {
+                nameOrdinals[name] = abbreviationOrdinals.getOrDefault(request.gradeName(name), -1);
+            }
+        }
+
+        @Override
+        public int studentCount() {
+            return request.instance().studentCount();
+        }
+
+        @Override
+        public void load(int student, double[] row) {
+            Arrays.fill(row, Double.NaN);
+            for (int slot = request.gradeStart(student); slot < request.gradeEnd(student); slot++) {
+                int ordinal = nameOrdinals[request.gradeNameAt(slot)];
+                if (ordinal >= 0) {
+                    row[ordinal] = request.gradeValueAt(slot);
+                }
+            }
+        }
+
+        @Override
+        public double grade(int student, int ordinal) {
+            for (int slot = request.gradeEnd(student) - 1; slot >= request.gradeStart(student); slot--) {
+                if (nameOrdinals[request.gradeNameAt(slot)] == ordinal) {
+                    return request.gradeValueAt(slot);
+                }
+            }
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.stablematch.algorithm;
+
+/**
+ * Per-student and per-course totals of a {@link MonteCarloSimulator} run.
+ * Counts are numbers of runs; divide by {@link #runs()} for probabilities.
+ */
+public final class SimulationSummary {
+
+    private final int runs;
+    private final int topK;
+    private final int[] topKRuns;
+    private final int[] listedRuns;
+    private final int[] unassignedRuns;
+    private final long[] rankSums;
+    private final int[] filledRuns;
+    private final long[] loadSums;
+
+    SimulationSummary(int runs, int topK, int[] topKRuns, int[] listedRuns, int[] unassignedRuns,
+                      long[] rankSums, int[] filledRuns, long[] loadSums) {
+        this.runs = runs;
+        this.topK = topK;
+        this.topKRuns = topKRuns;
+        this.listedRuns = listedRuns;
+        this.unassignedRuns = unassignedRuns;
+        this.rankSums = rankSums;
+        this.filledRuns = filledRuns;
+        this.loadSums = loadSums;
+    }
+
+    public int runs() {
+        return runs;
+    }
+
+    public int topK() {
+        return topK;
+    }
+
+    /**
+     * Runs in which the student got one of its first {@code topK} courses
+     */
+    public int topKRuns(int student) {
+        return topKRuns[student];
+    }
+
+    /**
+     * Runs in which the student got a course from its own list
+     */
+    public int listedRuns(int student) {
+        return listedRuns[student];
+    }
+
+    public int unassignedRuns(int student) {
+        return unassignedRuns[student];
+    }
+
+    /**
+     * Sum of the preference ranks the student got, over the runs counted by {@link #listedRuns}
+     */
+    public long rankSum(int student) {
+        return rankSums[student];
+    }
+
+    /**
+     * Runs that left the course without a free seat
+     */
+    public int filledRuns(int course) {
+        return filledRuns[course];
+    }
+
+    /**
+     * Sum of the course's assigned students over all runs
+     */
+    public long loadSum(int course) {
+        return loadSums[course];
+    }
+}
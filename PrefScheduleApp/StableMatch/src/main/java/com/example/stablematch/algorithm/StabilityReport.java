@@ -0,0 +1,104 @@
+package com.example.stablematch.algorithm;
+
+/**
+ * Result of a {@link StabilityVerifier} run.
+ * Listed blocking pair i is student {@code blockingStudent(i)} with course {@code blockingCourse(i)}.
+ */
+public final class StabilityReport {
+
+    private final int checkedStudents;
+    private final int totalStudents;
+    private final long blockingPairs;
+    private final int blockingStudents;
+    private final int overCapacityCourses;
+    private final int[] reportedStudents;
+    private final int[] reportedCourses;
+    private final double[] reportedScores;
+    private final int[] loads;
+    private final double[] weakestScores;
+
+    StabilityReport(int checkedStudents, int totalStudents, long blockingPairs, int blockingStudents,
+                    int overCapacityCourses, int[] reportedStudents, int[] reportedCourses,
+                    double[] reportedScores, int[] loads, double[] weakestScores) {
+        this.checkedStudents = checkedStudents;
+        this.totalStudents = totalStudents;
+        this.blockingPairs = blockingPairs;
+        this.blockingStudents = blockingStudents;
+        this.overCapacityCourses = overCapacityCourses;
+        this.reportedStudents = reportedStudents;
+        this.reportedCourses = reportedCourses;
+        this.reportedScores = reportedScores;
+        this.loads = loads;
+        this.weakestScores = weakestScores;
+    }
+
+    /**
+     * True when no checked student takes part in a blocking pair and no course is over capacity
+     */
+    public boolean isStable() {
+        return blockingPairs == 0 && overCapacityCourses == 0;
+    }
+
+    public boolean isSampled() {
+        return checkedStudents < totalStudents;
+    }
+
+    public int checkedStudents() {
+        return checkedStudents;
+    }
+
+    public int totalStudents() {
+        return totalStudents;
+    }
+
+    /**
+     * Blocking pairs among the checked students, including those beyond the reported ones
+     */
+    public long blockingPairs() {
+        return blockingPairs;
+    }
+
+    /**
+     * Checked students that take part in at least one blocking pair
+     */
+    public int blockingStudents() {
+        return blockingStudents;
+    }
+
+    public int overCapacityCourses() {
+        return overCapacityCourses;
+    }
+
+    public int reportedCount() {
+        return reportedStudents.length;
+    }
+
+    public int blockingStudent(int index) {
+        return reportedStudents[index];
+    }
+
+    public int blockingCourse(int index) {
+        return reportedCourses[index];
+    }
+
+    /**
+     * Score of the blocking student for the blocking course
+     */
+    public double blockingScore(int index) {
+        return reportedScores[index];
+    }
+
+    /**
+     * Number of students assigned to a course
+     */
+    public int load(int course) {
+        return loads[course];
+    }
+
+    /**
+     * Lowest score among the members of a course, or positive infinity when it has none
+     */
+    public double weakestScore(int course) {
+        return weakestScores[course];
+    }
+}
@@ -0,0 +1,278 @@
+package com.example.stablematch.algorithm;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Checks an assignment for blocking pairs.
+ * <p>
+ * A student s and a course c block the assignment when s lists c above its assigned course (or is
+ * unassigned) and c either has a free seat or scores s strictly higher than its weakest member.
+ * This checks weak stability only: a student tied with the weakest member never blocks, whichever
+ * way the engine that built the assignment breaks ties. A course's weakest score is computed once,
+ * so every student costs one pass over the courses it prefers to its own, O(S * C) in the worst
+ * case. Students are checked in parallel chunks, and a sample of the students can be checked
+ * instead of all of them.
+ */
+public final class StabilityVerifier {
+
+    /**
+     * Source of the course score of a student, such as {@link ScoreMatrix#score} or {@link ScoringIndex#score}
+     */
+    @FunctionalInterface
+    public interface PairScores {
+        double score(int student, int course);
+    }
+
+    private final MatchingInstance instance;
+    private final PairScores scores;
+    private final int[] assignedCourse;
+    private final int[] assignedRank;
+    private final int[] load;
+    private final double[] weakest;
+    private final int maxReported;
+
+    private StabilityVerifier(MatchingInstance instance, PairScores scores, int[] assignedCourse, int maxReported) {
+        this.instance = instance;
+        this.scores = scores;
+        this.assignedCourse = assignedCourse;
+        this.assignedRank = new int[instance.studentCount()];
+        this.load = new int[instance.courseCount()];
+        this.weakest = new double[instance.courseCount()];
+        this.maxReported = maxReported;
+    }
+
+    /**
+     * Checks every student, or only {@code students} when it is not null. {@code assignedCourse} holds a
+     * course id or -1 per student. At most {@code maxReported} blocking pairs are listed, in student order;
+     * all of them are counted. Runs on {@code pool} in chunks of {@code chunkSize} students, or on the
+     * calling thread when {@code pool} is null.
+     */
+    public static StabilityReport verify(MatchingInstance instance, PairScores scores, int[] assignedCourse,
+                                         int[] students, int maxReported, ForkJoinPool pool, int chunkSize) {
+        if (assignedCourse.length != instance.studentCount()) {
+            throw new IllegalArgumentException("Expected " + instance.studentCount()
+                    + " assignments, got " + assignedCourse.length);
+        }
+        return new StabilityVerifier(instance, scores, assignedCourse, maxReported)
+                .execute(students, pool, Math.max(1, chunkSize));
+    }
+
+    /**
+     * Draws {@code sampleSize} distinct students in increasing order, uniformly, with selection sampling
+     */
+    public static int[] sample(int studentCount, int sampleSize, long seed) {
+        int size = Math.min(Math.max(sampleSize, 0), studentCount);
+        int[] sample = new int[size];
+        SplittableRandom random = new SplittableRandom(seed);
+        int taken = 0;
+        for (int s = 0; s < studentCount && taken < size; s++) {
+            if (random.nextInt(studentCount - s) < size - taken) {
+                sample[taken++] = s;
+            }
+        }
+        return sample;
+    }
+
+    private StabilityReport execute(int[] students, ForkJoinPool pool, int chunkSize) {
+        int studentCount = instance.studentCount();
+        int courseCount = instance.courseCount();
+
+        // The rank and score of every assigned student, then the weakest member score of every course
+        double[] memberScore = new double[studentCount];
+        range(0, studentCount, pool, chunkSize, (from, to) -> {
+            for (int s = from; s < to; s++) {
+                int course = assignedCourse[s];
+                if (course >= 0) {
+                    assignedRank[s] = rankOf(s, course);
+                    memberScore[s] = scores.score(s, course);
+                } else {
+                    assignedRank[s] = Integer.MAX_VALUE;
+                }
+            }
+        });
+
+        Arrays.fill(weakest, Double.POSITIVE_INFINITY);
+        for (int s = 0; s < studentCount; s++) {
+            int course = assignedCourse[s];
+            if (course >= 0) {
+                load[course]++;
+                weakest[course] = Math.min(weakest[course], memberScore[s]);
+            }
+        }
+        int overCapacity = 0;
+        for (int c = 0; c < courseCount; c++) {
+            if (load[c] > instance.capacity(c)) {
+                overCapacity++;
+            }
+        }
+
+        int checked = students != null ? students.length : studentCount;
+        Partial result = checked == 0 ? new Partial(0)
+                : pool != null && checked > chunkSize
+                ? pool.invoke(new CheckTask(students, 0, checked, chunkSize))
+                : check(students, 0, checked);
+
+        return new StabilityReport(checked, studentCount, result.pairs, result.students, overCapacity,
+                Arrays.copyOf(result.reportedStudents, result.reported),
+                Arrays.copyOf(result.reportedCourses, result.reported),
+                Arrays.copyOf(result.reportedScores, result.reported),
+                load, weakest);
+    }
+
+    /**
+     * Checks positions {@code [from, to)} of the student list
+     */
+    private Partial check(int[] students, int from, int to) {
+        Partial partial = new Partial(maxReported);
+        for (int i = from; i < to; i++) {
+            int student = students != null ? students[i] : i;
+            int ownRank = assignedRank[student];
+            boolean blocking = false;
+
+            for (int slot = instance.prefStart(student); slot < instance.prefEnd(student); slot++) {
+                if (instance.prefRank(slot) >= ownRank) {
+                    continue;
+                }
+                int course = instance.prefCourse(slot);
+                boolean open = load[course] < instance.capacity(course);
+                double score = scores.score(student, course);
+                if (open || score > weakest[course]) {
+                    blocking = true;
+                    partial.add(student, course, score);
+                }
+            }
+            if (blocking) {
+                partial.students++;
+            }
+        }
+        return partial;
+    }
+
+    /**
+     * Rank of a course on the student's list; a course the student did not list ranks below all of them
+     */
+    private int rankOf(int student, int course) {
+        int rank = instance.rankOf(student, course);
+        return rank >= 0 ? rank : Integer.MAX_VALUE;
+    }
+
+    private static void range(int from, int to, ForkJoinPool pool, int chunkSize, RangeAction action) {
+        if (pool == null || to - from <= chunkSize) {
+            action.apply(from, to);
+        } else {
+            pool.invoke(new RangeTask(from, to, chunkSize, action));
+        }
+    }
+
+    @FunctionalInterface
+    private interface RangeAction {
+        void apply(int from, int to);
+    }
+
+    /**
+     * Splits a range of students in halves until it fits in one chunk
+     */
+    private static final class RangeTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final RangeAction action;
+
+        private RangeTask(int from, int to, int chunkSize, RangeAction action) {
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                action.apply(from, to);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, mid, chunkSize, action), new RangeTask(mid, to, chunkSize, action));
+        }
+    }
+
+    /**
+     * Blocking pairs of a run of students: all of them counted, the first {@code capacity} listed
+     */
+    private static final class Partial {
+
+        private final int[] reportedStudents;
+        private final int[] reportedCourses;
+        private final double[] reportedScores;
+        private int reported;
+        private long pairs;
+        private int students;
+
+        private Partial(int capacity) {
+            this.reportedStudents = new int[capacity];
+            this.reportedCourses = new int[capacity];
+            this.reportedScores = new double[capacity];
+        }
+
+        private void add(int student, int course, double score) {
+            pairs++;
+            if (reported < reportedStudents.length) {
+                reportedStudents[reported] = student;
+                reportedCourses[reported] = course;
+                reportedScores[reported] = score;
+                reported++;
+            }
+        }
+
+        /**
+         * Appends a partial that covers the students right after this one
+         */
+        private Partial merge(Partial next) {
+            int take = Math.min(next.reported, reportedStudents.length - reported);
+            System.arraycopy(next.reportedStudents, 0, reportedStudents, reported, take);
+            System.arraycopy(next.reportedCourses, 0, reportedCourses, reported, take);
+            System.arraycopy(next.reportedScores, 0, reportedScores, reported, take);
+            reported += take;
+            pairs += next.pairs;
+            students += next.students;
+            return this;
+        }
+    }
+
+    /**
+     * Splits a range of student positions in halves until it fits in one chunk
+     */
+    private final class CheckTask extends RecursiveTask<Partial> {
+
+        private final int[] students;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        private CheckTask(int[] students, int from, int to, int chunkSize) {
+            this.students = students;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (to - from <= chunkSize) {
+                return check(students, from, to);
+            }
+
+            int mid = (from + to) >>> 1;
+            CheckTask right = new CheckTask(students, mid, to, chunkSize);
+            right.fork();
+            Partial left = new CheckTask(students, from, mid, chunkSize).compute();
+            return left.merge(right.join());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.stablematch.algorithm;
+
+import com.example.stablematch.dto.CourseCapacityDTO;
+import com.example.stablematch.dto.InstructorPreferenceDTO;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.StudentPreferenceDTO;
+
+import java.util.*;
+
+/**
+ * Seeded synthetic matching requests shaped like the ones PrefSchedule sends:
+ * every student ranks every course of the pack and has grades for the compulsory courses.
+ */
+public final class SyntheticRequestGenerator {
+
+    private static final String[] ABBREVIATIONS = {"MATH", "OOP", "ALG", "DB", "OS", "NET", "LOG", "PA"};
+
+    /**
+     * How course popularity is distributed across students' preference lists
+     */
+    public enum Popularity {
+        /**
+         * Every course is equally likely at every rank
+         */
+        UNIFORM,
+
+        /**
+         * Zipf-like popularity: a few courses are ranked first by most students
+         */
+        SKEWED
+    }
+
+    private SyntheticRequestGenerator() {
+    }
+
+    /**
+     * Generates a request with total capacity of roughly 110% of the student count
+     */
+    public static MatchingRequestDTO generate(long seed, int studentCount, int courseCount, Popularity popularity) {
+        SplittableRandom random = new SplittableRandom(seed);
+
+        List<CourseCapacityDTO> courses = new ArrayList<>(courseCount);
+        List<InstructorPreferenceDTO> instructorPreferences = new ArrayList<>(courseCount);
+        String[] courseCodes = new String[courseCount];
+        int capacity = Math.max(1, (int) Math.ceil(studentCount * 1.1 / courseCount));
+
+        for (int c = 0; c < courseCount; c++) {
+            courseCodes[c] = "CO" + c;
+            courses.add(CourseCapacityDTO.builder()
+                    .courseCode(courseCodes[c])
+                    .capacity(capacity)
+                    .build());
+
+            Map<String, Double> weights = new LinkedHashMap<>();
+            int weightCount = 1 + random.nextInt(3);
+            for (int k = 0; k < weightCount; k++) {
+                weights.put(ABBREVIATIONS[random.nextInt(ABBREVIATIONS.length)], (double) (10 + random.nextInt(91)));
+            }
+            instructorPreferences.add(InstructorPreferenceDTO.builder()
+                    .courseCode(courseCodes[c])
+                    .gradeWeights(weights)
+                    .build());
+        }
+
+        double[] popularityWeights = new double[courseCount];
+        for (int c = 0; c < courseCount; c++) {
+            popularityWeights[c] = popularity == Popularity.SKEWED ? 1.0 / (c + 1) : 1.0;
+        }
+
+        List<StudentPreferenceDTO> students = new ArrayList<>(studentCount);
+        double[] keys = new double[courseCount];
+        Integer[] order = new Integer[courseCount];
+
+        for (int s = 0; s < studentCount; s++) {
+            // Weighted sampling without replacement: sort by u^(1/w), largest first
+            for (int c = 0; c < courseCount; c++) {
+                keys[c] = Math.log(random.nextDouble()) / popularityWeights[c];
+                order[c] = c;
+            }
+            Arrays.sort(order, (a, b) -> Double.compare(keys[b], keys[a]));
+
+            List<String> preferred = new ArrayList<>(courseCount);
+            for (int c = 0; c < courseCount; c++) {
+                preferred.add(courseCodes[order[c]]);
+            }
+
+            Map<String, Double> grades = new HashMap<>();
+            for (String abbr : ABBREVIATIONS) {
+                if (random.nextInt(10) != 0) {
+                    grades.put(abbr, 5.0 + random.nextInt(501) / 100.0);
+                }
+            }
+
+            students.add(StudentPreferenceDTO.builder()
+                    .studentCode(String.format("STU%06d", s))
+                    .preferredCourses(preferred)
+                    .courseGrades(grades)
+                    .build());
+        }
+
+        return MatchingRequestDTO.builder()
+                .studentPreferences(students)
+                .courses(courses)
+                .instructorPreferences(instructorPreferences)
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.stablematch.config;
+
+import com.example.stablematch.service.MatchingAdmission;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+@Configuration
+public class AdmissionControlConfig {
+
+    /**
+     * Admission runs ahead of the gzip filter, so a rejected request is never inflated or parsed,
+     * but after the observation filter, so rejections still show up in {@code http.server.requests}
+     */
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+            MatchingAdmission admission,
+            @Value("${stablematch.admission.retry-after:1s}") Duration retryAfter) {
+        FilterRegistrationBean<AdmissionControlFilter> registration =
+                new FilterRegistrationBean<>(new AdmissionControlFilter(admission, retryAfter.toSeconds()));
+        registration.addUrlPatterns("/api/matching/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
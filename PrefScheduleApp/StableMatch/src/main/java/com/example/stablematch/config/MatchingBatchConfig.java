@@ -0,0 +1,30 @@
+package com.example.stablematch.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class MatchingBatchConfig {
+
+    /**
+     * Fixed-size pool that matches the packs of batch requests in parallel.
+     * When the queue is full the request thread matches the pack itself, which slows
+     * the caller down instead of failing packs.
+     */
+    @Bean(name = "matchingBatchExecutor")
+    public ThreadPoolTaskExecutor matchingBatchExecutor(@Value("${stablematch.batch.workers:4}") int workers,
+                                                        @Value("${stablematch.batch.queue-capacity:256}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("MatchingBatch-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.stablematch.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class MatchingJobConfig {
+
+    /**
+     * Fixed-size worker pool for background matching jobs.
+     * The queue is bounded, so a burst of submissions is rejected instead of piling up in memory.
+     */
+    @Bean(name = "matchingJobExecutor")
+    public ThreadPoolTaskExecutor matchingJobExecutor(@Value("${stablematch.jobs.workers:2}") int workers,
+                                                      @Value("${stablematch.jobs.queue-capacity:16}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("MatchingJob-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.stablematch.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class ScoringConfig {
+
+    /**
+     * Dedicated pool for score computation, kept apart from the common pool
+     * so large requests cannot starve Tomcat or other parallel streams
+     */
+    @Bean(name = "scoringPool", destroyMethod = "shutdown")
+    public ForkJoinPool scoringPool(@Value("${stablematch.scoring.parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+
+        return new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("Scoring-" + counter.incrementAndGet());
+            return thread;
+        }, null, false);
+    }
+}
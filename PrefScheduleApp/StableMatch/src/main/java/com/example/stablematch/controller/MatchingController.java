@@ -1,20 +1,46 @@
 package com.example.stablematch.controller;
 
 import com.example.stablematch.dto.AssignmentDTO;
+import com.example.stablematch.dto.BatchMatchingRequestDTO;
+import com.example.stablematch.dto.BatchMatchingResponseDTO;
+import com.example.stablematch.dto.ColumnarAssignmentsDTO;
+import com.example.stablematch.dto.MatchingDeltaDTO;
 import com.example.stablematch.dto.MatchingRequestDTO;
 import com.example.stablematch.dto.MatchingResponseDTO;
+import com.example.stablematch.dto.PackMatchingResultDTO;
+import com.example.stablematch.dto.SimulationResponseDTO;
+import com.example.stablematch.dto.StabilityCheckRequestDTO;
+import com.example.stablematch.dto.StabilityReportDTO;
+import com.example.stablematch.service.MatchingAlgorithm;
+import com.example.stablematch.service.MatchingBatchService;
+import com.example.stablematch.service.MatchingEngine;
+import com.example.stablematch.service.MatchingResponseLayout;
+import com.example.stablematch.service.MatchingResultCache;
+import com.example.stablematch.service.MatchingResultRegistry;
 import com.example.stablematch.service.MatchingService;
+import com.example.stablematch.service.MatchingStreamCodec;
+import com.example.stablematch.service.SimulationMode;
+import com.example.stablematch.service.SimulationService;
+import com.example.stablematch.service.StabilityService;
+import com.example.stablematch.service.StoredMatching;
+import com.example.stablematch.service.StreamedMatching;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/matching")
@@ -24,60 +50,227 @@ import java.util.stream.Collectors;
 public class MatchingController {
 
     private final MatchingService matchingService;
-    private MatchingResponseDTO lastMatchingResult;
+    private final MatchingResultRegistry resultRegistry;
+    private final MatchingResultCache resultCache;
+    private final MatchingStreamCodec streamCodec;
+    private final MatchingBatchService batchService;
+    private final StabilityService stabilityService;
+    private final SimulationService simulationService;
 
     @PostMapping("/stable")
     @Operation(summary = "Create stable matching",
             description = "Creates a stable matching between students and courses using Gale-Shapley algorithm")
     public ResponseEntity<MatchingResponseDTO> createStableMatching(
-            @Valid @RequestBody MatchingRequestDTO request) {
-        log.info("Received stable matching request for {} students",
-                request.getStudentPreferences().size());
+            @Valid @RequestBody MatchingRequestDTO request,
+            @RequestParam(defaultValue = "LEGACY") MatchingEngine engine,
+            @RequestParam(defaultValue = "ROWS") MatchingResponseLayout layout) {
+        log.info("Received stable matching request for {} students using {} engine",
+                request.getStudentPreferences().size(), engine);
 
-        MatchingResponseDTO response = matchingService.createStableMatching(request);
-        lastMatchingResult = response;
+        MatchingResponseDTO response = resultCache.stable(request, engine,
+                () -> matchingService.createStableMatching(request, engine));
+        resultRegistry.register(request, response);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED).body(withLayout(response, layout));
     }
 
     @PostMapping("/random")
     @Operation(summary = "Create random matching",
-            description = "Creates a random matching between students and courses")
+            description = "Creates a random matching between students and courses; pass a seed to make it reproducible")
     public ResponseEntity<MatchingResponseDTO> createRandomMatching(
-            @Valid @RequestBody MatchingRequestDTO request) {
+            @Valid @RequestBody MatchingRequestDTO request,
+            @RequestParam(required = false) Long seed,
+            @RequestParam(defaultValue = "ROWS") MatchingResponseLayout layout) {
         log.info("Received random matching request for {} students",
                 request.getStudentPreferences().size());
 
-        MatchingResponseDTO response = matchingService.createRandomMatching(request);
-        lastMatchingResult = response;
+        MatchingResponseDTO response = resultCache.random(request, seed,
+                () -> matchingService.createRandomMatching(request, seed));
+        resultRegistry.register(request.getPackId(), response);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(withLayout(response, layout));
+    }
+
+    @PostMapping("/optimal")
+    @Operation(summary = "Create rank-optimal matching",
+            description = "Assigns as many students as the capacities allow and, among those matchings, "
+                    + "minimizes the total preference rank, using min-cost flow")
+    public ResponseEntity<MatchingResponseDTO> createOptimalMatching(
+            @Valid @RequestBody MatchingRequestDTO request,
+            @RequestParam(defaultValue = "ROWS") MatchingResponseLayout layout) {
+        log.info("Received rank-optimal matching request for {} students",
+                request.getStudentPreferences().size());
+
+        MatchingResponseDTO response = resultCache.optimal(request,
+                () -> matchingService.createOptimalMatching(request));
+        resultRegistry.register(request.getPackId(), response);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(withLayout(response, layout));
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Create matchings for several packs",
+            description = "Matches the packs of the batch in parallel on a bounded pool and reports every pack "
+                    + "on its own; an invalid or failing pack does not affect the others")
+    public ResponseEntity<BatchMatchingResponseDTO> createBatchMatching(
+            @Valid @RequestBody BatchMatchingRequestDTO request,
+            @RequestParam(defaultValue = "STABLE") MatchingAlgorithm algorithm,
+            @RequestParam(defaultValue = "LEGACY") MatchingEngine engine,
+            @RequestParam(required = false) Long seed,
+            @RequestParam(defaultValue = "ROWS") MatchingResponseLayout layout) {
+        log.info("Received {} batch matching request for {} packs", algorithm, request.getPacks().size());
+
+        try {
+            BatchMatchingResponseDTO response = batchService.match(request.getPacks(), algorithm, engine, seed);
+            for (PackMatchingResultDTO result : response.getResults()) {
+                result.setResponse(withLayout(result.getResponse(), layout));
+            }
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected batch matching request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/simulate")
+    @Operation(summary = "Simulate matching outcomes",
+            description = "Repeats seeded random and/or perturbed stable matchings of the request in parallel and "
+                    + "reports per student the chance of a top-k course and per course the chance of filling up")
+    public ResponseEntity<SimulationResponseDTO> simulateMatching(
+            @Valid @RequestBody MatchingRequestDTO request,
+            @RequestParam(required = false) Set<SimulationMode> modes,
+            @RequestParam(defaultValue = "100") int runs,
+            @RequestParam(defaultValue = "3") int topK,
+            @RequestParam(defaultValue = "0.25") double noise,
+            @RequestParam(required = false) Long seed) {
+        try {
+            return ResponseEntity.ok(simulationService.simulate(request, modes, runs, topK, noise, seed));
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected simulation request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    @PostMapping(value = "/stable/stream", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Create stable matching as a stream",
+            description = "Reads a large matching request incrementally and streams the assignments back as NDJSON, "
+                    + "closed by a statistics line. Streamed results are neither cached nor stored.")
+    public ResponseEntity<StreamingResponseBody> streamStableMatching(InputStream body) throws IOException {
+        StreamedMatching matching;
+        try {
+            matching = matchingService.createStreamedStableMatching(streamCodec.read(body));
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            log.warn("Rejected streamed stable matching request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> streamCodec.write(matching, out));
+    }
+
+    @PostMapping("/stable/{matchingId}/repair")
+    @Operation(summary = "Repair stable matching",
+            description = "Applies changed students, capacities and instructor weights to a stored stable matching "
+                    + "and repairs it locally instead of rerunning the whole pack")
+    public ResponseEntity<MatchingResponseDTO> repairStableMatching(
+            @PathVariable String matchingId,
+            @Valid @RequestBody MatchingDeltaDTO delta) {
+        Optional<StoredMatching> previous = resultRegistry.find(matchingId);
+        if (previous.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!previous.get().isRepairable()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+
+        try {
+            MatchingRequestDTO request = matchingService.applyDelta(previous.get().getRequest(), delta);
+            MatchingResponseDTO response = matchingService.repairStableMatching(previous.get(), request, delta);
+            resultRegistry.register(request, response);
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected repair of matching {}: {}", matchingId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/verify")
+    @Operation(summary = "Verify matching stability",
+            description = "Checks assignments against their request for blocking pairs and overfull courses; "
+                    + "pass a sample size to check only that many randomly drawn students")
+    public ResponseEntity<StabilityReportDTO> verifyMatching(
+            @Valid @RequestBody StabilityCheckRequestDTO check,
+            @RequestParam(required = false) Integer sampleSize,
+            @RequestParam(required = false) Long seed,
+            @RequestParam(defaultValue = "100") int maxPairs) {
+        try {
+            return ResponseEntity.ok(stabilityService.verify(check.getRequest(), check.getAssignments(),
+                    sampleSize, seed, maxPairs));
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected stability check: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/results/{matchingId}/stability")
+    @Operation(summary = "Verify stored matching stability",
+            description = "Checks a stored matching for blocking pairs; only matchings stored with their request can be checked")
+    public ResponseEntity<StabilityReportDTO> verifyStoredMatching(
+            @PathVariable String matchingId,
+            @RequestParam(required = false) Integer sampleSize,
+            @RequestParam(required = false) Long seed,
+            @RequestParam(defaultValue = "100") int maxPairs) {
+        Optional<StoredMatching> stored = resultRegistry.find(matchingId);
+        if (stored.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (stored.get().getRequest() == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+
+        return ResponseEntity.ok(stabilityService.verify(stored.get().getRequest(),
+                stored.get().getResponse().getAssignments(), sampleSize, seed, maxPairs));
+    }
+
+    @GetMapping("/results/{matchingId}")
+    @Operation(summary = "Get matching result",
+            description = "Returns a stored matching result by its id")
+    public ResponseEntity<MatchingResponseDTO> getMatchingResult(@PathVariable String matchingId) {
+        return resultRegistry.find(matchingId)
+                .map(stored -> ResponseEntity.ok(stored.getResponse()))
+                .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/assignments")
     @Operation(summary = "Get all assignments",
-            description = "Returns all student-course assignments from the last matching")
-    public ResponseEntity<List<AssignmentDTO>> getAllAssignments() {
-        if (lastMatchingResult == null) {
+            description = "Returns all student-course assignments of a matching; defaults to the latest matching of the pack, or the latest overall")
+    public ResponseEntity<List<AssignmentDTO>> getAllAssignments(
+            @RequestParam(required = false) String matchingId,
+            @RequestParam(required = false) Long packId) {
+        Optional<StoredMatching> stored = resultRegistry.resolve(matchingId, packId);
+        if (stored.isEmpty()) {
             return ResponseEntity.noContent().build();
         }
 
-        return ResponseEntity.ok(lastMatchingResult.getAssignments());
+        return ResponseEntity.ok(stored.get().getResponse().getAssignments());
     }
 
     @GetMapping("/assignments/student/{studentCode}")
     @Operation(summary = "Get assignment for a student",
             description = "Returns the course assignment for a specific student")
     public ResponseEntity<AssignmentDTO> getAssignmentForStudent(
-            @PathVariable String studentCode) {
-        if (lastMatchingResult == null) {
+            @PathVariable String studentCode,
+            @RequestParam(required = false) String matchingId,
+            @RequestParam(required = false) Long packId) {
+        Optional<StoredMatching> stored = resultRegistry.resolve(matchingId, packId);
+        if (stored.isEmpty()) {
             return ResponseEntity.noContent().build();
         }
 
-        AssignmentDTO assignment = lastMatchingResult.getAssignments().stream()
-                .filter(a -> a.getStudentCode().equals(studentCode))
-                .findFirst()
-                .orElse(null);
+        AssignmentDTO assignment = stored.get().assignmentForStudent(studentCode);
 
         if (assignment == null) {
             return ResponseEntity.notFound().build();
@@ -90,14 +283,15 @@ public class MatchingController {
     @Operation(summary = "Get assignments for a course",
             description = "Returns all student assignments for a specific course")
     public ResponseEntity<List<AssignmentDTO>> getAssignmentsForCourse(
-            @PathVariable String courseCode) {
-        if (lastMatchingResult == null) {
+            @PathVariable String courseCode,
+            @RequestParam(required = false) String matchingId,
+            @RequestParam(required = false) Long packId) {
+        Optional<StoredMatching> stored = resultRegistry.resolve(matchingId, packId);
+        if (stored.isEmpty()) {
             return ResponseEntity.noContent().build();
         }
 
-        List<AssignmentDTO> assignments = lastMatchingResult.getAssignments().stream()
-                .filter(a -> a.getCourseCode().equals(courseCode))
-                .collect(Collectors.toList());
+        List<AssignmentDTO> assignments = stored.get().assignmentsForCourse(courseCode);
 
         if (assignments.isEmpty()) {
             return ResponseEntity.notFound().build();
@@ -108,23 +302,39 @@ public class MatchingController {
 
     @GetMapping("/statistics")
     @Operation(summary = "Get matching statistics",
-            description = "Returns statistics about the last matching")
-    public ResponseEntity<MatchingResponseDTO> getMatchingStatistics() {
-        if (lastMatchingResult == null) {
+            description = "Returns statistics about the selected matching")
+    public ResponseEntity<MatchingResponseDTO> getMatchingStatistics(
+            @RequestParam(required = false) String matchingId,
+            @RequestParam(required = false) Long packId) {
+        Optional<StoredMatching> stored = resultRegistry.resolve(matchingId, packId);
+        if (stored.isEmpty()) {
             return ResponseEntity.noContent().build();
         }
 
-        return ResponseEntity.ok(lastMatchingResult);
+        return ResponseEntity.ok(stored.get().getResponse());
     }
 
     @DeleteMapping("/clear")
     @Operation(summary = "Clear matching results",
             description = "Clears the stored matching results")
     public ResponseEntity<Void> clearMatchingResults() {
-        lastMatchingResult = null;
+        resultRegistry.clear();
         log.info("Cleared matching results");
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Copies the response with its assignments as columns when asked; the stored response keeps its rows
+     */
+    private static MatchingResponseDTO withLayout(MatchingResponseDTO response, MatchingResponseLayout layout) {
+        if (layout != MatchingResponseLayout.COLUMNAR || response == null || response.getAssignments() == null) {
+            return response;
+        }
+        return response.toBuilder()
+                .assignments(null)
+                .columns(ColumnarAssignmentsDTO.from(response.getAssignments()))
+                .build();
+    }
 }
 
 /*
@@ -0,0 +1,90 @@
+package com.example.stablematch.controller;
+
+import com.example.stablematch.dto.MatchingJobDTO;
+import com.example.stablematch.dto.MatchingJobStatus;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.MatchingResponseDTO;
+import com.example.stablematch.service.MatchingAlgorithm;
+import com.example.stablematch.service.MatchingEngine;
+import com.example.stablematch.service.MatchingJob;
+import com.example.stablematch.service.MatchingJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/matching/jobs")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Matching Jobs", description = "Background matching jobs with progress and cancellation")
+public class MatchingJobController {
+
+    private final MatchingJobService matchingJobService;
+
+    @PostMapping
+    @Operation(summary = "Submit matching job",
+            description = "Queues a matching and returns the job id immediately; 503 when the job queue is full")
+    public ResponseEntity<MatchingJobDTO> submitJob(
+            @Valid @RequestBody MatchingRequestDTO request,
+            @RequestParam(defaultValue = "STABLE") MatchingAlgorithm algorithm,
+            @RequestParam(defaultValue = "LEGACY") MatchingEngine engine,
+            @RequestParam(required = false) Long seed) {
+        log.info("Received {} matching job for {} students",
+                algorithm, request.getStudentPreferences().size());
+
+        try {
+            MatchingJobDTO job = matchingJobService.submit(request, algorithm, engine, seed);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/matching/jobs/" + job.getJobId()))
+                    .body(job);
+        } catch (TaskRejectedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get job status",
+            description = "Returns the status, current phase and progress of a matching job")
+    public ResponseEntity<MatchingJobDTO> getJob(@PathVariable String jobId) {
+        return matchingJobService.getJob(jobId)
+                .map(job -> ResponseEntity.ok(job.toDTO()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{jobId}/result")
+    @Operation(summary = "Get job result",
+            description = "Returns the matching of a completed job; 202 while it is still running, 409 when it failed or was cancelled")
+    public ResponseEntity<MatchingResponseDTO> getJobResult(@PathVariable String jobId) {
+        Optional<MatchingJob> job = matchingJobService.getJob(jobId);
+        if (job.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        MatchingJobStatus status = job.get().getStatus();
+        if (status == MatchingJobStatus.COMPLETED) {
+            return ResponseEntity.ok(job.get().getResult());
+        }
+        if (status == MatchingJobStatus.QUEUED || status == MatchingJobStatus.RUNNING) {
+            return ResponseEntity.accepted().build();
+        }
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    @DeleteMapping("/{jobId}")
+    @Operation(summary = "Cancel job",
+            description = "Cancels a queued or running matching job")
+    public ResponseEntity<MatchingJobDTO> cancelJob(@PathVariable String jobId) {
+        return matchingJobService.cancel(jobId)
+                .map(job -> ResponseEntity.ok(job.toDTO()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
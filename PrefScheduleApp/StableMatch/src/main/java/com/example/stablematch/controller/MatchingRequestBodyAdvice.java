@@ -0,0 +1,71 @@
+package com.example.stablematch.controller;
+
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.service.MetricsService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long reading and deserializing a {@link MatchingRequestDTO} body takes,
+ * as the deserialization phase of the endpoint it was posted to
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class MatchingRequestBodyAdvice extends RequestBodyAdviceAdapter {
+
+    private static final String START_ATTRIBUTE = MatchingRequestBodyAdvice.class.getName() + ".start";
+    private static final String MATCHING_PATH = "/api/matching/";
+
+    private final MetricsService metricsService;
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return MatchingRequestDTO.class.equals(targetType);
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                           Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestContextHolder.currentRequestAttributes()
+                .setAttribute(START_ATTRIBUTE, System.nanoTime(), RequestAttributes.SCOPE_REQUEST);
+        return inputMessage;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                Class<? extends HttpMessageConverter<?>> converterType) {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        Object start = attributes.getAttribute(START_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        MatchingRequestDTO request = (MatchingRequestDTO) body;
+
+        if (start instanceof Long startTime && request.getStudentPreferences() != null && request.getCourses() != null) {
+            metricsService.recordPhaseTime(endpoint(attributes.getRequest()), "deserialization",
+                    MetricsService.sizeBucket(request.getStudentPreferences().size(), request.getCourses().size()),
+                    System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+        return body;
+    }
+
+    private String endpoint(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        int index = path.indexOf(MATCHING_PATH);
+        if (index < 0) {
+            return "other";
+        }
+        String rest = path.substring(index + MATCHING_PATH.length());
+        int slash = rest.indexOf('/');
+        return slash < 0 ? rest : rest.substring(0, slash);
+    }
+}
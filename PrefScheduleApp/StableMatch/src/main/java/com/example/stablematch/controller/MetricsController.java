@@ -29,13 +29,21 @@ public class MetricsController {
         Map<String, Double> counters = new HashMap<>();
         counters.put("stable_match_invocations", metricsService.getStableMatchCount());
         counters.put("random_match_invocations", metricsService.getRandomMatchCount());
+        counters.put("job_rejections", metricsService.getJobRejectedCount());
+        counters.put("admission_rejections", metricsService.getAdmissionRejectedCount());
+        counters.put("cache_hits", metricsService.getCacheHitCount());
+        counters.put("cache_misses", metricsService.getCacheMissCount());
 
         Map<String, Double> timers = new HashMap<>();
         timers.put("stable_match_mean_time_ms", metricsService.getStableMatchMeanTime());
         timers.put("stable_match_max_time_ms", metricsService.getStableMatchMaxTime());
+        timers.put("stable_scoring_mean_time_ms", metricsService.getStableScoringMeanTime());
+        timers.put("job_wait_mean_time_ms", metricsService.getJobWaitMeanTime());
 
         metrics.put("counters", counters);
         metrics.put("timers", timers);
+        metrics.put("phases", metricsService.getPhaseTimings());
+        metrics.put("work", metricsService.getMatchingWorkSummaries());
 
         return ResponseEntity.ok(metrics);
     }
@@ -0,0 +1,21 @@
+package com.example.stablematch.dto;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Several pack requests matched in one call. Packs are validated one by one,
+ * so an invalid pack fails on its own instead of rejecting the whole batch.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchMatchingRequestDTO {
+    @NotEmpty
+    private List<MatchingRequestDTO> packs;
+}
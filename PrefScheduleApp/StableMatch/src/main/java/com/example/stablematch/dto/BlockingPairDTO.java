@@ -0,0 +1,23 @@
+package com.example.stablematch.dto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A student and a course that would both rather be matched to each other.
+ * {@code weakestScore} is the lowest member score of a full course, and null when the course has a free seat.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlockingPairDTO {
+    private String studentCode;
+    private String courseCode;
+    private Integer preferenceRank;
+    private String assignedCourseCode;
+    private Integer assignedRank;
+    private Double studentScore;
+    private Double weakestScore;
+}
@@ -0,0 +1,56 @@
+package com.example.stablematch.dto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assignments as parallel arrays instead of one object per row. Row {@code i} assigns
+ * {@code studentCodes[i]} to {@code courseCodes[courseIndex[i]]}; every course code is sent once.
+ * A rank of -1 means the course is not on the student's list and a NaN score means no score.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColumnarAssignmentsDTO {
+    private String[] studentCodes;
+    private String[] courseCodes;
+    private int[] courseIndex;
+    private short[] preferenceRank;
+    private float[] studentScore;
+
+    public static ColumnarAssignmentsDTO from(List<AssignmentDTO> assignments) {
+        int size = assignments.size();
+        String[] studentCodes = new String[size];
+        int[] courseIndex = new int[size];
+        short[] preferenceRank = new short[size];
+        float[] studentScore = new float[size];
+        Map<String, Integer> courseIds = new HashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            AssignmentDTO assignment = assignments.get(i);
+            studentCodes[i] = assignment.getStudentCode();
+            courseIndex[i] = courseIds.computeIfAbsent(assignment.getCourseCode(), code -> courseIds.size());
+            Integer rank = assignment.getPreferenceRank();
+            preferenceRank[i] = rank != null && rank >= 0 ? (short) Math.min(rank, Short.MAX_VALUE) : -1;
+            Double score = assignment.getStudentScore();
+            studentScore[i] = score != null ? score.floatValue() : Float.NaN;
+        }
+
+        String[] courseCodes = new String[courseIds.size()];
+        courseIds.forEach((code, id) -> courseCodes[id] = code);
+
+        return ColumnarAssignmentsDTO.builder()
+                .studentCodes(studentCodes)
+                .courseCodes(courseCodes)
+                .courseIndex(courseIndex)
+                .preferenceRank(preferenceRank)
+                .studentScore(studentScore)
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.stablematch.dto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * How often a course filled up over the runs of a simulation, and its average number of students
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseSimulationDTO {
+    private String courseCode;
+    private Integer capacity;
+    private Integer filledRuns;
+    private Double fillProbability;
+    private Double meanLoad;
+}
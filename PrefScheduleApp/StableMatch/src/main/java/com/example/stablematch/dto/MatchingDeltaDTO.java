@@ -0,0 +1,27 @@
+package com.example.stablematch.dto;
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Changes applied on top of a stored stable matching.
+ * Changed students replace the student with the same code, or are added when the code is new.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchingDeltaDTO {
+    @Valid
+    private List<StudentPreferenceDTO> changedStudents;
+
+    @Valid
+    private List<CourseCapacityDTO> courses;
+
+    @Valid
+    private List<InstructorPreferenceDTO> instructorPreferences;
+}
@@ -0,0 +1,26 @@
+package com.example.stablematch.dto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchingExecutionDTO {
+    private Integer scoringCores;
+    private Integer scoringChunks;
+    private Long randomSeed;
+    private Long proposals;
+    private Long rejections;
+    private Long displacements;
+    private Integer rounds;
+    private List<Double> roundTimesMs;
+    private Long augmentingPaths;
+    private Long baselineProposals;
+    private String repairedFrom;
+    private Boolean cacheHit;
+}
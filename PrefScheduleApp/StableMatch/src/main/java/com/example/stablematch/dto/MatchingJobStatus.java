@@ -0,0 +1,9 @@
+package com.example.stablematch.dto;
+
+public enum MatchingJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
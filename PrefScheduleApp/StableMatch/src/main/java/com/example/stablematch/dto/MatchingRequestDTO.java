@@ -21,4 +21,6 @@ public class MatchingRequestDTO {
 
     @NotEmpty
     private List<InstructorPreferenceDTO> instructorPreferences;
+
+    private Long packId;
 }
\ No newline at end of file
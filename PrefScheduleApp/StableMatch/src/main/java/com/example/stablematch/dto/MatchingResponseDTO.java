@@ -1,4 +1,5 @@
 package com.example.stablematch.dto;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -9,10 +10,16 @@ import lombok.NoArgsConstructor;
 import java.util.List;
 import java.util.Map;
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class MatchingResponseDTO {
+    private String matchingId;
+    private Long packId;
+    private Long version;
     private List<AssignmentDTO> assignments;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ColumnarAssignmentsDTO columns;
     private MatchingStatisticsDTO statistics;
+    private MatchingExecutionDTO execution;
 }
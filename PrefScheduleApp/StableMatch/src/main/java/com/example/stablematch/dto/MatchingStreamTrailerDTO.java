@@ -0,0 +1,17 @@
+package com.example.stablematch.dto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Last line of a streamed matching, written after every assignment line
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchingStreamTrailerDTO {
+    private MatchingStatisticsDTO statistics;
+    private MatchingExecutionDTO execution;
+}
@@ -0,0 +1,6 @@
+package com.example.stablematch.dto;
+
+public enum PackMatchingStatus {
+    SUCCEEDED,
+    FAILED
+}
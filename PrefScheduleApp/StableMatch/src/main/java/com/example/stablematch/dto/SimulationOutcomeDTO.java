@@ -0,0 +1,19 @@
+package com.example.stablematch.dto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationOutcomeDTO {
+    private String mode;
+    private Double meanAssigned;
+    private List<StudentSimulationDTO> students;
+    private List<CourseSimulationDTO> courses;
+    private Long durationMs;
+}
@@ -0,0 +1,26 @@
+package com.example.stablematch.dto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Aggregated outcomes of repeated matchings of one request, one entry per simulated mode.
+ * The same seed and parameters always give the same aggregates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationResponseDTO {
+    private Long packId;
+    private Integer runs;
+    private Integer topK;
+    private Double noise;
+    private Long seed;
+    private Integer workers;
+    private List<SimulationOutcomeDTO> outcomes;
+    private Long durationMs;
+}
@@ -0,0 +1,26 @@
+package com.example.stablematch.dto;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A matching request together with the assignments to check against it.
+ * Students without an assignment are treated as unassigned.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StabilityCheckRequestDTO {
+    @Valid
+    @NotNull
+    private MatchingRequestDTO request;
+
+    @NotNull
+    private List<AssignmentDTO> assignments;
+}
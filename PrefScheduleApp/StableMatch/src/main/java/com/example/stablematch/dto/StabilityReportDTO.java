@@ -0,0 +1,29 @@
+package com.example.stablematch.dto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a stability check. When only a sample of the students was checked, the counts cover
+ * the sample and {@code blockingStudentRate} estimates the share of blocking students overall.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StabilityReportDTO {
+    private Boolean stable;
+    private Boolean sampled;
+    private Integer checkedStudents;
+    private Integer totalStudents;
+    private Long blockingPairCount;
+    private Integer blockingStudentCount;
+    private Double blockingStudentRate;
+    private Integer overCapacityCourses;
+    private List<BlockingPairDTO> blockingPairs;
+    private Integer verifierCores;
+    private Long durationMs;
+}
@@ -0,0 +1,20 @@
+package com.example.stablematch.dto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * How one student fared over the runs of a simulation.
+ * {@code meanRank} averages the runs that gave the student a course from its own list, and is null when none did.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentSimulationDTO {
+    private String studentCode;
+    private Double topKProbability;
+    private Double unassignedProbability;
+    private Double meanRank;
+}
@@ -0,0 +1,38 @@
+package com.example.stablematch.health;
+
+import com.example.stablematch.service.WarmUpService;
+import com.example.stablematch.service.WarmUpState;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Out of service until the startup warm-up has finished. Eureka's health check handler aggregates
+ * this indicator, so the instance is only handed out to clients once its code has been compiled.
+ */
+@Component
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final WarmUpService warmUpService;
+
+    public WarmUpHealthIndicator(WarmUpService warmUpService) {
+        this.warmUpService = warmUpService;
+    }
+
+    @Override
+    public Health health() {
+        WarmUpState state = warmUpService.getState();
+        Health.Builder builder = state == WarmUpState.PENDING || state == WarmUpState.RUNNING
+                ? Health.outOfService()
+                : Health.up();
+
+        builder.withDetail("state", state)
+                .withDetail("completedIterations", warmUpService.getCompletedIterations())
+                .withDetail("iterations", warmUpService.getIterations());
+        if (state == WarmUpState.COMPLETED || state == WarmUpState.FAILED) {
+            builder.withDetail("durationMs", warmUpService.getDurationMs())
+                    .withDetail("timings", warmUpService.getTimings());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.stablematch.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps how many matching requests run at once. Matching is CPU-bound, so running more requests
+ * than there are cores only makes all of them slower; a few more may wait briefly for a slot and
+ * the rest are turned away at once, so callers fail fast instead of timing out together.
+ */
+@Service
+@Slf4j
+public class MatchingAdmission {
+
+    private final MetricsService metricsService;
+    private final int maxConcurrent;
+    private final int queueCapacity;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+
+    public MatchingAdmission(MetricsService metricsService,
+                             @Value("${stablematch.admission.max-concurrent:0}") int maxConcurrent,
+                             @Value("${stablematch.admission.queue-capacity:16}") int queueCapacity,
+                             @Value("${stablematch.admission.max-wait:1s}") Duration maxWait) {
+        this.metricsService = metricsService;
+        this.maxConcurrent = maxConcurrent > 0 ? maxConcurrent : Runtime.getRuntime().availableProcessors();
+        this.queueCapacity = Math.max(0, queueCapacity);
+        this.maxWaitNanos = maxWait.toNanos();
+        // Fair, so requests that waited get the next free slot before newcomers
+        this.permits = new Semaphore(this.maxConcurrent, true);
+        metricsService.registerAdmissionGauges(this);
+        log.info("Admitting {} concurrent matching requests, {} more may wait up to {}ms",
+                this.maxConcurrent, this.queueCapacity, maxWait.toMillis());
+    }
+
+    /**
+     * Takes a slot, waiting up to {@code max-wait} when all are busy and the wait queue has room.
+     * Every {@code true} must be paired with one {@link #release()}.
+     *
+     * @return false when the request was rejected
+     */
+    public boolean tryAdmit() throws InterruptedException {
+        if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+            return true;
+        }
+        if (queued.incrementAndGet() > queueCapacity) {
+            queued.decrementAndGet();
+            metricsService.incrementAdmissionRejectedCounter();
+            return false;
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            if (permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                metricsService.recordAdmissionWaitTime(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                return true;
+            }
+        } finally {
+            queued.decrementAndGet();
+        }
+        metricsService.incrementAdmissionRejectedCounter();
+        return false;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getInFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+}
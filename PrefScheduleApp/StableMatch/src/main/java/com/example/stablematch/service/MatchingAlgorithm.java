@@ -0,0 +1,10 @@
+package com.example.stablematch.service;
+
+/**
+ * Matching algorithms that can be run as background jobs
+ */
+public enum MatchingAlgorithm {
+    STABLE,
+    RANDOM,
+    OPTIMAL
+}
@@ -0,0 +1,170 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.dto.BatchMatchingResponseDTO;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.MatchingResponseDTO;
+import com.example.stablematch.dto.PackMatchingResultDTO;
+import com.example.stablematch.dto.PackMatchingStatus;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Matches the packs of a batch request in parallel on the bounded batch executor.
+ * Every pack goes through the result cache and the registry like a single request,
+ * and a pack that is invalid or fails is reported without affecting the others.
+ */
+@Service
+@Slf4j
+public class MatchingBatchService {
+
+    private final ThreadPoolTaskExecutor batchExecutor;
+    private final MatchingService matchingService;
+    private final MatchingResultCache resultCache;
+    private final MatchingResultRegistry resultRegistry;
+    private final MetricsService metricsService;
+    private final Validator validator;
+    private final int maxPacks;
+
+    public MatchingBatchService(@Qualifier("matchingBatchExecutor") ThreadPoolTaskExecutor batchExecutor,
+                                MatchingService matchingService,
+                                MatchingResultCache resultCache,
+                                MatchingResultRegistry resultRegistry,
+                                MetricsService metricsService,
+                                Validator validator,
+                                @Value("${stablematch.batch.max-packs:100}") int maxPacks) {
+        this.batchExecutor = batchExecutor;
+        this.matchingService = matchingService;
+        this.resultCache = resultCache;
+        this.resultRegistry = resultRegistry;
+        this.metricsService = metricsService;
+        this.validator = validator;
+        this.maxPacks = maxPacks;
+        metricsService.registerBatchExecutorGauges(batchExecutor.getThreadPoolExecutor());
+    }
+
+    /**
+     * Matches every pack and returns their results in request order.
+     *
+     * @throws IllegalArgumentException when the batch has more than {@code stablematch.batch.max-packs} packs
+     */
+    public BatchMatchingResponseDTO match(List<MatchingRequestDTO> packs, MatchingAlgorithm algorithm,
+                                          MatchingEngine engine, Long seed) {
+        if (packs.size() > maxPacks) {
+            throw new IllegalArgumentException("Batch has " + packs.size() + " packs, at most " + maxPacks + " are allowed");
+        }
+
+        long startTime = System.nanoTime();
+        log.info("Starting {} batch matching for {} packs", algorithm, packs.size());
+
+        List<Future<PackMatchingResultDTO>> futures = new ArrayList<>(packs.size());
+        for (int i = 0; i < packs.size(); i++) {
+            int index = i;
+            MatchingRequestDTO request = packs.get(i);
+            futures.add(batchExecutor.submit(() -> matchPack(index, request, algorithm, engine, seed)));
+        }
+
+        List<PackMatchingResultDTO> results = new ArrayList<>(packs.size());
+        for (int i = 0; i < futures.size(); i++) {
+            results.add(await(i, packs.get(i), futures.get(i)));
+        }
+
+        int succeeded = (int) results.stream().filter(r -> r.getStatus() == PackMatchingStatus.SUCCEEDED).count();
+        int failed = results.size() - succeeded;
+        long duration = System.nanoTime() - startTime;
+        metricsService.recordBatch(duration, TimeUnit.NANOSECONDS, succeeded, failed);
+
+        log.info("Batch matching completed: {} packs succeeded, {} failed in {}ms",
+                succeeded, failed, TimeUnit.NANOSECONDS.toMillis(duration));
+
+        return BatchMatchingResponseDTO.builder()
+                .results(results)
+                .succeeded(succeeded)
+                .failed(failed)
+                .durationMs(TimeUnit.NANOSECONDS.toMillis(duration))
+                .build();
+    }
+
+    private PackMatchingResultDTO matchPack(int index, MatchingRequestDTO request, MatchingAlgorithm algorithm,
+                                            MatchingEngine engine, Long seed) {
+        Long packId = request != null ? request.getPackId() : null;
+        String violations = validate(request);
+        if (violations != null) {
+            return failed(index, packId, violations);
+        }
+
+        try {
+            MatchingResponseDTO response;
+            if (algorithm == MatchingAlgorithm.STABLE) {
+                response = resultCache.stable(request, engine,
+                        () -> matchingService.createStableMatching(request, engine));
+                resultRegistry.register(request, response);
+            } else if (algorithm == MatchingAlgorithm.OPTIMAL) {
+                response = resultCache.optimal(request, () -> matchingService.createOptimalMatching(request));
+                resultRegistry.register(packId, response);
+            } else {
+                response = resultCache.random(request, seed,
+                        () -> matchingService.createRandomMatching(request, seed));
+                resultRegistry.register(packId, response);
+            }
+
+            return PackMatchingResultDTO.builder()
+                    .index(index)
+                    .packId(packId)
+                    .status(PackMatchingStatus.SUCCEEDED)
+                    .response(response)
+                    .build();
+        } catch (RuntimeException e) {
+            log.error("Batch pack {} (pack id {}) failed", index, packId, e);
+            return failed(index, packId, e.getMessage());
+        }
+    }
+
+    private PackMatchingResultDTO await(int index, MatchingRequestDTO request, Future<PackMatchingResultDTO> future) {
+        Long packId = request != null ? request.getPackId() : null;
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            return failed(index, packId, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return failed(index, packId, "Batch was interrupted");
+        }
+    }
+
+    private String validate(MatchingRequestDTO request) {
+        if (request == null) {
+            return "Pack request is missing";
+        }
+        Set<ConstraintViolation<MatchingRequestDTO>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static PackMatchingResultDTO failed(int index, Long packId, String error) {
+        return PackMatchingResultDTO.builder()
+                .index(index)
+                .packId(packId)
+                .status(PackMatchingStatus.FAILED)
+                .error(error)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.stablematch.service;
+
+/**
+ * Implementation used to run the stable matching algorithm
+ */
+public enum MatchingEngine {
+    /**
+     * Original map/list based Gale-Shapley. A full course keeps the students it holds over a
+     * newcomer with an equal score.
+     */
+    LEGACY,
+
+    /**
+     * Interned int-array Gale-Shapley with per-course min-heaps. Equal scores go to the lower
+     * student index.
+     */
+    PRIMITIVE,
+
+    /**
+     * Int-array Gale-Shapley in rounds: all free students propose at once and courses resolve
+     * their proposals in parallel. Meant for very large packs.
+     */
+    ROUNDS
+}
@@ -0,0 +1,139 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.dto.MatchingJobDTO;
+import com.example.stablematch.dto.MatchingJobStatus;
+import com.example.stablematch.dto.MatchingResponseDTO;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+
+/**
+ * State of one background matching run.
+ * Status changes are synchronized so a cancel never races with the worker picking the job up or finishing it.
+ */
+public class MatchingJob implements MatchingProgress {
+
+    private static final int PHASE_COUNT = MatchingPhase.values().length;
+
+    @Getter
+    private final String id;
+    @Getter
+    private final MatchingAlgorithm algorithm;
+    private final Instant submittedAt;
+    private final long submittedNanos;
+
+    private MatchingJobStatus status = MatchingJobStatus.QUEUED;
+    private MatchingPhase phase;
+    private int phasesEntered;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private MatchingResponseDTO result;
+    private String error;
+    private Future<?> future;
+
+    public MatchingJob(String id, MatchingAlgorithm algorithm) {
+        this.id = id;
+        this.algorithm = algorithm;
+        this.submittedAt = Instant.now();
+        this.submittedNanos = System.nanoTime();
+    }
+
+    synchronized void attach(Future<?> future) {
+        this.future = future;
+    }
+
+    /**
+     * Moves the job to RUNNING; returns false when it was cancelled while queued
+     */
+    synchronized boolean start() {
+        if (status != MatchingJobStatus.QUEUED) {
+            return false;
+        }
+        status = MatchingJobStatus.RUNNING;
+        startedAt = Instant.now();
+        return true;
+    }
+
+    long queuedNanos() {
+        return System.nanoTime() - submittedNanos;
+    }
+
+    @Override
+    public synchronized void enter(MatchingPhase phase) {
+        if (status == MatchingJobStatus.CANCELLED || Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Matching job " + id + " was cancelled");
+        }
+        this.phase = phase;
+        this.phasesEntered++;
+    }
+
+    synchronized void complete(MatchingResponseDTO result) {
+        if (status == MatchingJobStatus.RUNNING) {
+            this.status = MatchingJobStatus.COMPLETED;
+            this.result = result;
+            this.finishedAt = Instant.now();
+        }
+    }
+
+    synchronized void fail(String error) {
+        if (status == MatchingJobStatus.RUNNING) {
+            this.status = MatchingJobStatus.FAILED;
+            this.error = error;
+            this.finishedAt = Instant.now();
+        }
+    }
+
+    /**
+     * Cancels a queued or running job and interrupts its worker; returns false when the job already finished
+     */
+    synchronized boolean cancel() {
+        if (isFinished()) {
+            return false;
+        }
+        status = MatchingJobStatus.CANCELLED;
+        finishedAt = Instant.now();
+        if (future != null) {
+            future.cancel(true);
+        }
+        return true;
+    }
+
+    public synchronized MatchingJobStatus getStatus() {
+        return status;
+    }
+
+    public synchronized MatchingResponseDTO getResult() {
+        return result;
+    }
+
+    public synchronized boolean isFinished() {
+        return status == MatchingJobStatus.COMPLETED
+                || status == MatchingJobStatus.FAILED
+                || status == MatchingJobStatus.CANCELLED;
+    }
+
+    synchronized boolean finishedBefore(Instant cutoff) {
+        return finishedAt != null && finishedAt.isBefore(cutoff);
+    }
+
+    public synchronized MatchingJobDTO toDTO() {
+        // A phase counts as done once the next one has been entered
+        double progress = status == MatchingJobStatus.COMPLETED
+                ? 1.0
+                : (double) Math.max(0, phasesEntered - 1) / PHASE_COUNT;
+
+        return MatchingJobDTO.builder()
+                .jobId(id)
+                .algorithm(algorithm.name())
+                .status(status)
+                .phase(phase != null ? phase.name() : null)
+                .progress(progress)
+                .submittedAt(submittedAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .error(error)
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.dto.MatchingJobDTO;
+import com.example.stablematch.dto.MatchingJobStatus;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.MatchingResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs matchings in the background on the bounded job executor and keeps
+ * their status and results until the retention period expires
+ */
+@Service
+@Slf4j
+public class MatchingJobService {
+
+    private final ThreadPoolTaskExecutor jobExecutor;
+    private final MatchingService matchingService;
+    private final MetricsService metricsService;
+    private final MatchingResultRegistry resultRegistry;
+    private final Duration retention;
+    private final Map<String, MatchingJob> jobs = new ConcurrentHashMap<>();
+
+    public MatchingJobService(@Qualifier("matchingJobExecutor") ThreadPoolTaskExecutor jobExecutor,
+                              MatchingService matchingService,
+                              MetricsService metricsService,
+                              MatchingResultRegistry resultRegistry,
+                              @Value("${stablematch.jobs.retention:30m}") Duration retention) {
+        this.jobExecutor = jobExecutor;
+        this.matchingService = matchingService;
+        this.metricsService = metricsService;
+        this.resultRegistry = resultRegistry;
+        this.retention = retention;
+        metricsService.registerJobExecutorGauges(jobExecutor.getThreadPoolExecutor());
+    }
+
+    /**
+     * Queues a matching run and returns immediately.
+     *
+     * @throws TaskRejectedException when the job queue is full
+     */
+    public MatchingJobDTO submit(MatchingRequestDTO request, MatchingAlgorithm algorithm,
+                                 MatchingEngine engine, Long seed) {
+        evictExpiredJobs();
+
+        MatchingJob job = new MatchingJob(UUID.randomUUID().toString(), algorithm);
+        jobs.put(job.getId(), job);
+
+        try {
+            job.attach(jobExecutor.submit(() -> execute(job, request, engine, seed)));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getId());
+            metricsService.incrementJobRejectedCounter();
+            log.warn("Rejected {} matching job for {} students, job queue is full",
+                    algorithm, request.getStudentPreferences().size());
+            throw e;
+        }
+
+        log.info("Queued {} matching job {} for {} students",
+                algorithm, job.getId(), request.getStudentPreferences().size());
+        return job.toDTO();
+    }
+
+    public Optional<MatchingJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * Cancels a job; returns empty when the job is unknown
+     */
+    public Optional<MatchingJob> cancel(String jobId) {
+        MatchingJob job = jobs.get(jobId);
+        if (job == null) {
+            return Optional.empty();
+        }
+
+        if (job.cancel()) {
+            // Drop the cancelled task from the queue so it stops counting towards the queue depth
+            jobExecutor.getThreadPoolExecutor().purge();
+            log.info("Cancelled matching job {}", jobId);
+        }
+        return Optional.of(job);
+    }
+
+    private void execute(MatchingJob job, MatchingRequestDTO request, MatchingEngine engine, Long seed) {
+        if (!job.start()) {
+            return;
+        }
+        metricsService.recordJobWaitTime(job.queuedNanos(), TimeUnit.NANOSECONDS);
+
+        try {
+            MatchingResponseDTO result = switch (job.getAlgorithm()) {
+                case STABLE -> matchingService.createStableMatching(request, engine, job);
+                case RANDOM -> matchingService.createRandomMatching(request, seed, job);
+                case OPTIMAL -> matchingService.createOptimalMatching(request, job);
+            };
+            if (job.getAlgorithm() == MatchingAlgorithm.STABLE) {
+                resultRegistry.register(request, result);
+            } else {
+                resultRegistry.register(request.getPackId(), result);
+            }
+            job.complete(result);
+            log.info("Matching job {} completed", job.getId());
+        } catch (Exception e) {
+            // Interrupting a cancelled job can surface as any exception from the matching code
+            if (e instanceof CancellationException || job.getStatus() == MatchingJobStatus.CANCELLED) {
+                log.info("Matching job {} stopped after cancellation", job.getId());
+                return;
+            }
+            job.fail(e.getMessage());
+            log.error("Matching job {} failed", job.getId(), e);
+        }
+    }
+
+    private void evictExpiredJobs() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.finishedBefore(cutoff));
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.stablematch.service;
+
+/**
+ * Coarse phases a matching run goes through, reported in the order they start
+ */
+public enum MatchingPhase {
+    SCORING,
+    MATCHING,
+    STATISTICS
+}
@@ -0,0 +1,46 @@
+package com.example.stablematch.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the phases a matching run reports and forwards them to the wrapped listener.
+ * A phase ends when the next one is entered or when {@link #finish()} is called.
+ */
+public class MatchingPhaseRecorder implements MatchingProgress {
+
+    private final MetricsService metricsService;
+    private final String algorithm;
+    private final String sizeBucket;
+    private final MatchingProgress delegate;
+
+    private MatchingPhase current;
+    private long phaseStart;
+
+    MatchingPhaseRecorder(MetricsService metricsService, String algorithm, String sizeBucket,
+                          MatchingProgress delegate) {
+        this.metricsService = metricsService;
+        this.algorithm = algorithm;
+        this.sizeBucket = sizeBucket;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void enter(MatchingPhase phase) {
+        delegate.enter(phase);
+        finish();
+        current = phase;
+        phaseStart = System.nanoTime();
+    }
+
+    public void finish() {
+        if (current != null) {
+            metricsService.recordPhaseTime(algorithm, current.name().toLowerCase(), sizeBucket,
+                    System.nanoTime() - phaseStart, TimeUnit.NANOSECONDS);
+            current = null;
+        }
+    }
+
+    public String getSizeBucket() {
+        return sizeBucket;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.stablematch.service;
+
+/**
+ * Receives phase changes from a running matching.
+ * Implementations may throw {@link java.util.concurrent.CancellationException} to abort the run.
+ */
+@FunctionalInterface
+public interface MatchingProgress {
+
+    MatchingProgress NONE = phase -> {
+    };
+
+    void enter(MatchingPhase phase);
+}
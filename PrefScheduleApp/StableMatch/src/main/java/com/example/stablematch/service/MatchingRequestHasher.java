@@ -0,0 +1,117 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.dto.CourseCapacityDTO;
+import com.example.stablematch.dto.InstructorPreferenceDTO;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.StudentPreferenceDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Canonical SHA-256 fingerprint of everything in a request that can change a matching.
+ * <p>
+ * Student, course and instructor preference order is kept because it decides tie-breaking,
+ * output order and which preference applies to a course. Grades are hashed sorted by subject
+ * since they are only looked up by key; grade weights keep their order because scores are
+ * summed in that order. The pack id is left out, so the same content sent for another pack still matches.
+ */
+public final class MatchingRequestHasher {
+
+    private final MessageDigest digest;
+    private final byte[] buffer = new byte[8];
+
+    private MatchingRequestHasher() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Hashes the request together with the algorithm variant that will run on it
+     */
+    public static String hash(MatchingRequestDTO request, String variant) {
+        MatchingRequestHasher hasher = new MatchingRequestHasher();
+        hasher.putString(variant);
+
+        List<StudentPreferenceDTO> students = request.getStudentPreferences();
+        hasher.putInt(students.size());
+        for (StudentPreferenceDTO student : students) {
+            hasher.putString(student.getStudentCode());
+            hasher.putStrings(student.getPreferredCourses());
+            hasher.putDoubles(student.getCourseGrades() != null ? new TreeMap<>(student.getCourseGrades()) : null);
+        }
+
+        List<CourseCapacityDTO> courses = request.getCourses();
+        hasher.putInt(courses.size());
+        for (CourseCapacityDTO course : courses) {
+            hasher.putString(course.getCourseCode());
+            hasher.putInt(course.getCapacity());
+        }
+
+        List<InstructorPreferenceDTO> instructorPreferences = request.getInstructorPreferences();
+        hasher.putInt(instructorPreferences.size());
+        for (InstructorPreferenceDTO preference : instructorPreferences) {
+            hasher.putString(preference.getCourseCode());
+            hasher.putDoubles(preference.getGradeWeights());
+        }
+
+        return HexFormat.of().formatHex(hasher.digest.digest());
+    }
+
+    private void putInt(int value) {
+        buffer[0] = (byte) (value >>> 24);
+        buffer[1] = (byte) (value >>> 16);
+        buffer[2] = (byte) (value >>> 8);
+        buffer[3] = (byte) value;
+        digest.update(buffer, 0, 4);
+    }
+
+    private void putLong(long value) {
+        for (int i = 7; i >= 0; i--) {
+            buffer[i] = (byte) value;
+            value >>>= 8;
+        }
+        digest.update(buffer, 0, 8);
+    }
+
+    // Length-prefixed, so ["AB", "C"] and ["A", "BC"] hash differently; -1 marks null
+    private void putString(String value) {
+        if (value == null) {
+            putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putInt(bytes.length);
+        digest.update(bytes);
+    }
+
+    private void putStrings(List<String> values) {
+        if (values == null) {
+            putInt(-1);
+            return;
+        }
+        putInt(values.size());
+        values.forEach(this::putString);
+    }
+
+    private void putDoubles(Map<String, Double> values) {
+        if (values == null) {
+            putInt(-1);
+            return;
+        }
+        putInt(values.size());
+        for (Map.Entry<String, Double> entry : values.entrySet()) {
+            putString(entry.getKey());
+            // A null value gets a NaN payload that doubleToLongBits never returns
+            putLong(entry.getValue() != null ? Double.doubleToLongBits(entry.getValue()) : 0x7ff80000_00000001L);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.stablematch.service;
+
+/**
+ * How the assignments of a matching response are laid out on the wire
+ */
+public enum MatchingResponseLayout {
+    /**
+     * One {@code AssignmentDTO} object per assignment in {@code assignments}
+     */
+    ROWS,
+
+    /**
+     * Parallel arrays in {@code columns}; {@code assignments} is left out
+     */
+    COLUMNAR
+}
@@ -0,0 +1,142 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.dto.AssignmentDTO;
+import com.example.stablematch.dto.MatchingExecutionDTO;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.MatchingResponseDTO;
+import com.example.stablematch.dto.MatchingStatisticsDTO;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Serves repeated matching requests from memory, keyed by {@link MatchingRequestHasher}.
+ * <p>
+ * Entries are weighed by assignment count and expire after {@code stablematch.cache.ttl}.
+ * A request that arrives while an identical one is still running waits for that run
+ * instead of starting its own. Unseeded random matchings are never cached.
+ * Callers always get their own copy of the response, assignments and statistics included, so registering
+ * or editing it cannot touch the cached entry.
+ */
+@Service
+@Slf4j
+public class MatchingResultCache {
+
+    private final MetricsService metricsService;
+    private final AsyncCache<String, MatchingResponseDTO> cache;
+
+    public MatchingResultCache(MetricsService metricsService,
+                               @Value("${stablematch.cache.max-assignments:500000}") long maxAssignments,
+                               @Value("${stablematch.cache.ttl:10m}") Duration ttl) {
+        this.metricsService = metricsService;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxAssignments)
+                .weigher((String key, MatchingResponseDTO response) ->
+                        response.getAssignments() != null ? Math.max(1, response.getAssignments().size()) : 1)
+                .expireAfterWrite(ttl)
+                .removalListener((key, response, cause) -> {
+                    if (cause.wasEvicted()) {
+                        metricsService.incrementCacheEvictionCounter();
+                    }
+                })
+                .buildAsync();
+        metricsService.registerCacheSizeGauge(cache.synchronous());
+    }
+
+    public MatchingResponseDTO stable(MatchingRequestDTO request, MatchingEngine engine,
+                                      Supplier<MatchingResponseDTO> matching) {
+        return getOrCompute(MatchingRequestHasher.hash(request, "stable:" + engine), matching);
+    }
+
+    public MatchingResponseDTO random(MatchingRequestDTO request, Long seed,
+                                      Supplier<MatchingResponseDTO> matching) {
+        if (seed == null) {
+            return matching.get();
+        }
+        return getOrCompute(MatchingRequestHasher.hash(request, "random:" + seed), matching);
+    }
+
+    public MatchingResponseDTO optimal(MatchingRequestDTO request, Supplier<MatchingResponseDTO> matching) {
+        return getOrCompute(MatchingRequestHasher.hash(request, "optimal"), matching);
+    }
+
+    public void clear() {
+        cache.synchronous().invalidateAll();
+    }
+
+    private MatchingResponseDTO getOrCompute(String key, Supplier<MatchingResponseDTO> matching) {
+        CompletableFuture<MatchingResponseDTO> pending = new CompletableFuture<>();
+        CompletableFuture<MatchingResponseDTO> existing = cache.asMap().putIfAbsent(key, pending);
+
+        if (existing != null) {
+            metricsService.incrementCacheHitCounter();
+            log.info("Serving matching {} from cache", key);
+            try {
+                return copy(existing.join(), true);
+            } catch (CompletionException e) {
+                // The identical run we waited for failed and was dropped from the cache
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        metricsService.incrementCacheMissCounter();
+        try {
+            MatchingResponseDTO response = matching.get();
+            pending.complete(response);
+            return copy(response, false);
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private MatchingResponseDTO copy(MatchingResponseDTO response, boolean cacheHit) {
+        MatchingExecutionDTO execution = response.getExecution() != null
+                ? response.getExecution().toBuilder().cacheHit(cacheHit).build()
+                : MatchingExecutionDTO.builder().cacheHit(cacheHit).build();
+
+        return response.toBuilder()
+                .assignments(copy(response.getAssignments()))
+                .statistics(copy(response.getStatistics()))
+                .execution(execution)
+                .build();
+    }
+
+    private static List<AssignmentDTO> copy(List<AssignmentDTO> assignments) {
+        if (assignments == null) {
+            return null;
+        }
+        return assignments.stream()
+                .map(a -> new AssignmentDTO(a.getStudentCode(), a.getCourseCode(), a.getPreferenceRank(), a.getStudentScore()))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static MatchingStatisticsDTO copy(MatchingStatisticsDTO statistics) {
+        if (statistics == null) {
+            return null;
+        }
+        return MatchingStatisticsDTO.builder()
+                .totalStudents(statistics.getTotalStudents())
+                .assignedStudents(statistics.getAssignedStudents())
+                .unassignedStudents(statistics.getUnassignedStudents())
+                .averagePreferenceRank(statistics.getAveragePreferenceRank())
+                .courseAssignmentCounts(statistics.getCourseAssignmentCounts() != null
+                        ? new HashMap<>(statistics.getCourseAssignmentCounts())
+                        : null)
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.MatchingResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Keeps recent matching results addressable by matching id and by pack.
+ * <p>
+ * Results are evicted least-recently-used first once the retained rows (assignments plus
+ * the students of kept requests) exceed {@code stablematch.results.max-rows}; the newest result is always kept.
+ * Stable matchings keep their request so they can be repaired incrementally later.
+ * All access goes through the registry lock and the stored snapshots are fully built before
+ * they are published, so a result registered on one thread is fully visible to lookups on any other.
+ */
+@Service
+@Slf4j
+public class MatchingResultRegistry {
+
+    private final long maxRows;
+
+    // access-ordered, so iteration starts at the least recently used result
+    private final LinkedHashMap<String, StoredMatching> results = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, String> latestByPack = new HashMap<>();
+    private final Map<Long, Long> packVersions = new HashMap<>();
+    private StoredMatching latest;
+    private long retainedRows;
+
+    public MatchingResultRegistry(@Value("${stablematch.results.max-rows:1000000}") long maxRows) {
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Stores a finished matching under a new id and the next version of its pack.
+     * The id, pack and version are also written to the response.
+     */
+    public StoredMatching register(Long packId, MatchingResponseDTO response) {
+        return store(packId, null, response);
+    }
+
+    /**
+     * Stores a finished matching together with its request, so it can be repaired later
+     */
+    public StoredMatching register(MatchingRequestDTO request, MatchingResponseDTO response) {
+        return store(request.getPackId(), request, response);
+    }
+
+    private synchronized StoredMatching store(Long packId, MatchingRequestDTO request, MatchingResponseDTO response) {
+        long version = packVersions.merge(packId, 1L, Long::sum);
+        String matchingId = UUID.randomUUID().toString();
+
+        response.setMatchingId(matchingId);
+        response.setPackId(packId);
+        response.setVersion(version);
+
+        StoredMatching stored = new StoredMatching(matchingId, packId, version, request, response);
+        results.put(matchingId, stored);
+        latestByPack.put(packId, matchingId);
+        latest = stored;
+        retainedRows += stored.retainedRows();
+
+        evictOverBudget();
+
+        log.info("Registered matching {} for pack {} (version {}, {} assignments)",
+                matchingId, packId, version, stored.assignmentCount());
+        return stored;
+    }
+
+    public synchronized Optional<StoredMatching> find(String matchingId) {
+        return Optional.ofNullable(results.get(matchingId));
+    }
+
+    public synchronized Optional<StoredMatching> findLatestForPack(Long packId) {
+        String matchingId = latestByPack.get(packId);
+        return matchingId != null ? Optional.ofNullable(results.get(matchingId)) : Optional.empty();
+    }
+
+    public synchronized Optional<StoredMatching> findLatest() {
+        return Optional.ofNullable(latest);
+    }
+
+    /**
+     * Looks up a matching by id, else the latest one of the pack, else the latest one overall
+     */
+    public Optional<StoredMatching> resolve(String matchingId, Long packId) {
+        if (matchingId != null) {
+            return find(matchingId);
+        }
+        if (packId != null) {
+            return findLatestForPack(packId);
+        }
+        return findLatest();
+    }
+
+    /**
+     * Drops every stored result; pack versions start again at 1
+     */
+    public synchronized void clear() {
+        results.clear();
+        latestByPack.clear();
+        packVersions.clear();
+        latest = null;
+        retainedRows = 0;
+    }
+
+    public synchronized int size() {
+        return results.size();
+    }
+
+    private void evictOverBudget() {
+        Iterator<StoredMatching> eldest = results.values().iterator();
+        while (retainedRows > maxRows && results.size() > 1 && eldest.hasNext()) {
+            StoredMatching evicted = eldest.next();
+            if (evicted == latest) {
+                continue;
+            }
+            eldest.remove();
+            retainedRows -= evicted.retainedRows();
+            latestByPack.remove(evicted.getPackId(), evicted.getMatchingId());
+            log.debug("Evicted matching {} of pack {}", evicted.getMatchingId(), evicted.getPackId());
+        }
+    }
+}
@@ -1,5 +1,14 @@
 package com.example.stablematch.service;
 
+import com.example.stablematch.algorithm.CompactMatchingRequest;
+import com.example.stablematch.algorithm.GaleShapleyEngine;
+import com.example.stablematch.algorithm.IncrementalGaleShapley;
+import com.example.stablematch.algorithm.MatchingInstance;
+import com.example.stablematch.algorithm.MatchingOutcome;
+import com.example.stablematch.algorithm.RandomMatcher;
+import com.example.stablematch.algorithm.RankOptimalMatcher;
+import com.example.stablematch.algorithm.RoundGaleShapleyEngine;
+import com.example.stablematch.algorithm.ScoreMatrix;
 import com.example.stablematch.dto.*;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
@@ -7,6 +16,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -16,11 +27,28 @@ import java.util.stream.Collectors;
 public class MatchingService {
 
     private final MetricsService metricsService;
+    private final ScoringService scoringService;
 
     /**
      * Random algorithm for matching students to courses
      */
     public MatchingResponseDTO createRandomMatching(MatchingRequestDTO request) {
+        return createRandomMatching(request, null);
+    }
+
+    /**
+     * Random algorithm for matching students to courses.
+     * The same seed always produces the same matching; without one a fresh seed is drawn
+     * and reported in the response so the run can be reproduced.
+     */
+    public MatchingResponseDTO createRandomMatching(MatchingRequestDTO request, Long seed) {
+        return createRandomMatching(request, seed, MatchingProgress.NONE);
+    }
+
+    /**
+     * Seeded random matching that reports its phases to the given listener
+     */
+    public MatchingResponseDTO createRandomMatching(MatchingRequestDTO request, Long seed, MatchingProgress progress) {
         long startTime = System.nanoTime();
 
         try {
@@ -29,75 +57,95 @@ public class MatchingService {
                     request.getCourses().size());
 
             metricsService.incrementRandomMatchCounter();
+            MatchingPhaseRecorder phases = metricsService.phaseRecorder("random",
+                    request.getStudentPreferences().size(), request.getCourses().size(), progress);
 
-            List<AssignmentDTO> assignments = new ArrayList<>();
-            Map<String, Integer> courseAssignmentCounts = new HashMap<>();
-            Map<String, Integer> courseCapacities = request.getCourses().stream()
-                    .collect(Collectors.toMap(CourseCapacityDTO::getCourseCode, CourseCapacityDTO::getCapacity));
-
-            courseAssignmentCounts = request.getCourses().stream()
-                    .collect(Collectors.toMap(CourseCapacityDTO::getCourseCode, c -> 0));
+            long effectiveSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+            MatchingExecutionDTO execution = MatchingExecutionDTO.builder()
+                    .randomSeed(effectiveSeed)
+                    .build();
 
-            List<StudentPreferenceDTO> shuffledStudents = new ArrayList<>(request.getStudentPreferences());
-            Collections.shuffle(shuffledStudents);
+            phases.enter(MatchingPhase.MATCHING);
+            MatchingInstance instance = MatchingInstance.from(request);
+            MatchingOutcome outcome = RandomMatcher.run(instance, new SplittableRandom(effectiveSeed));
 
-            for (StudentPreferenceDTO student : shuffledStudents) {
-                boolean assigned = false;
+            if (outcome.assignedCount() < instance.studentCount()) {
+                log.warn("Could not assign {} students, all courses are full",
+                        instance.studentCount() - outcome.assignedCount());
+            }
 
-                List<String> availableCourses = new ArrayList<>(courseCapacities.keySet());
-                Collections.shuffle(availableCourses);
+            MatchingResponseDTO response = buildScoredResponse(MatchingAlgorithm.RANDOM, request, instance,
+                    outcome, execution, phases);
+            MatchingStatisticsDTO statistics = response.getStatistics();
 
-                for (String courseCode : availableCourses) {
-                    Integer currentCount = courseAssignmentCounts.get(courseCode);
-                    Integer capacity = courseCapacities.get(courseCode);
+            phases.finish();
+            long duration = System.nanoTime() - startTime;
+            metricsService.recordRandomMatchTime(duration, TimeUnit.NANOSECONDS);
 
-                    if (currentCount < capacity) {
-                        Integer preferenceRank = student.getPreferredCourses().indexOf(courseCode);
-                        if (preferenceRank == -1) {
-                            preferenceRank = null;
-                        }
+            log.info("Random matching completed: {} students assigned out of {} in {}ms (seed {})",
+                    statistics.getAssignedStudents(),
+                    statistics.getTotalStudents(),
+                    TimeUnit.NANOSECONDS.toMillis(duration),
+                    effectiveSeed);
 
-                        Double studentScore = calculateStudentScore(student, courseCode, request.getInstructorPreferences());
+            return response;
 
-                        assignments.add(AssignmentDTO.builder()
-                                .studentCode(student.getStudentCode())
-                                .courseCode(courseCode)
-                                .preferenceRank(preferenceRank)
-                                .studentScore(studentScore)
-                                .build());
+        } catch (Exception e) {
+            log.error("Error during random matching execution", e);
+            throw e;
+        }
+    }
 
-                        courseAssignmentCounts.put(courseCode, currentCount + 1);
-                        assigned = true;
-                        break;
-                    }
-                }
+    /**
+     * Rank-optimal matching: places as many students as the capacities allow on courses from their lists
+     * and, among those matchings, minimizes the total preference rank. Scores are reported but not used.
+     */
+    public MatchingResponseDTO createOptimalMatching(MatchingRequestDTO request) {
+        return createOptimalMatching(request, MatchingProgress.NONE);
+    }
 
-                if (!assigned) {
-                    log.warn("Could not assign student {}", student.getStudentCode());
-                }
-            }
+    /**
+     * Rank-optimal matching that reports its phases to the given listener.
+     * An interrupted thread aborts the solver with a {@link CancellationException}.
+     */
+    public MatchingResponseDTO createOptimalMatching(MatchingRequestDTO request, MatchingProgress progress) {
+        long startTime = System.nanoTime();
 
-            MatchingStatisticsDTO statistics = calculateStatistics(
+        try {
+            log.info("Starting rank-optimal matching for {} students and {} courses",
                     request.getStudentPreferences().size(),
-                    assignments,
-                    courseAssignmentCounts
-            );
+                    request.getCourses().size());
 
+            metricsService.incrementOptimalMatchCounter();
+            MatchingPhaseRecorder phases = metricsService.phaseRecorder("optimal",
+                    request.getStudentPreferences().size(), request.getCourses().size(), progress);
+
+            phases.enter(MatchingPhase.MATCHING);
+            MatchingInstance instance = MatchingInstance.from(request);
+            MatchingOutcome outcome = RankOptimalMatcher.run(instance);
+
+            MatchingExecutionDTO execution = MatchingExecutionDTO.builder()
+                    .augmentingPaths(outcome.proposals())
+                    .displacements(outcome.displacements())
+                    .build();
+            MatchingResponseDTO response = buildScoredResponse(MatchingAlgorithm.OPTIMAL, request, instance,
+                    outcome, execution, phases);
+            MatchingStatisticsDTO statistics = response.getStatistics();
+
+            phases.finish();
             long duration = System.nanoTime() - startTime;
-            metricsService.recordRandomMatchTime(duration, TimeUnit.NANOSECONDS);
+            metricsService.recordOptimalMatchTime(duration, TimeUnit.NANOSECONDS);
 
-            log.info("Random matching completed: {} students assigned out of {} in {}ms",
+            log.info("Rank-optimal matching completed: {} students assigned out of {} in {}ms ({} augmenting paths)",
                     statistics.getAssignedStudents(),
                     statistics.getTotalStudents(),
-                    TimeUnit.NANOSECONDS.toMillis(duration));
+                    TimeUnit.NANOSECONDS.toMillis(duration),
+                    outcome.proposals());
 
-            return MatchingResponseDTO.builder()
-                    .assignments(assignments)
-                    .statistics(statistics)
-                    .build();
+            return response;
 
         } catch (Exception e) {
-            log.error("Error during random matching execution", e);
+            log.error("Error during rank-optimal matching execution", e);
             throw e;
         }
     }
@@ -106,6 +154,26 @@ public class MatchingService {
      * Stable matching algorithm based on Gale-Shapley
      */
     public MatchingResponseDTO createStableMatching(MatchingRequestDTO request) {
+        return createStableMatching(request, MatchingEngine.LEGACY);
+    }
+
+    /**
+     * Stable matching algorithm based on Gale-Shapley, run on the selected engine
+     */
+    public MatchingResponseDTO createStableMatching(MatchingRequestDTO request, MatchingEngine engine) {
+        return createStableMatching(request, engine, MatchingProgress.NONE);
+    }
+
+    /**
+     * Stable matching on the selected engine that reports its phases to the given listener.
+     * An interrupted thread aborts the proposal loop with a {@link CancellationException}.
+     */
+    public MatchingResponseDTO createStableMatching(MatchingRequestDTO request, MatchingEngine engine,
+                                                    MatchingProgress progress) {
+        if (engine == MatchingEngine.PRIMITIVE || engine == MatchingEngine.ROUNDS) {
+            return createPrimitiveStableMatching(request, engine, progress);
+        }
+
         long startTime = System.nanoTime();
 
         try {
@@ -114,6 +182,8 @@ public class MatchingService {
                     request.getCourses().size());
 
             metricsService.incrementStableMatchCounter();
+            MatchingPhaseRecorder phases = metricsService.phaseRecorder("stable",
+                    request.getStudentPreferences().size(), request.getCourses().size(), progress);
 
             Map<String, Integer> courseCapacities = request.getCourses().stream()
                     .collect(Collectors.toMap(CourseCapacityDTO::getCourseCode, CourseCapacityDTO::getCapacity));
@@ -121,20 +191,29 @@ public class MatchingService {
             Map<String, List<StudentPreferenceDTO>> courseAssignments = new HashMap<>();
             request.getCourses().forEach(c -> courseAssignments.put(c.getCourseCode(), new ArrayList<>()));
 
-            Map<String, Map<String, Double>> studentScores = new HashMap<>();
-            for (StudentPreferenceDTO student : request.getStudentPreferences()) {
-                Map<String, Double> scores = new HashMap<>();
-                for (String courseCode : courseCapacities.keySet()) {
-                    scores.put(courseCode, calculateStudentScore(student, courseCode, request.getInstructorPreferences()));
-                }
-                studentScores.put(student.getStudentCode(), scores);
+            phases.enter(MatchingPhase.SCORING);
+            MatchingInstance instance = MatchingInstance.from(request);
+            MatchingExecutionDTO execution = new MatchingExecutionDTO();
+            ScoreMatrix studentScores = scoringService.scoreAll(request, instance, execution);
+
+            Map<String, Integer> studentIds = new HashMap<>();
+            for (int s = 0; s < instance.studentCount(); s++) {
+                studentIds.put(instance.studentCode(s), s);
             }
 
             Queue<StudentPreferenceDTO> freeStudents = new LinkedList<>(request.getStudentPreferences());
             Map<String, Integer> studentProposalIndex = new HashMap<>();
             request.getStudentPreferences().forEach(s -> studentProposalIndex.put(s.getStudentCode(), 0));
 
+            phases.enter(MatchingPhase.MATCHING);
+            long iterations = 0;
+            long proposals = 0;
+            long rejections = 0;
+            long displacements = 0;
             while (!freeStudents.isEmpty()) {
+                if ((++iterations & GaleShapleyEngine.INTERRUPT_CHECK_MASK) == 0 && Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException("Stable matching interrupted");
+                }
                 StudentPreferenceDTO student = freeStudents.poll();
                 Integer proposalIndex = studentProposalIndex.get(student.getStudentCode());
 
@@ -144,6 +223,7 @@ public class MatchingService {
 
                 String courseCode = student.getPreferredCourses().get(proposalIndex);
                 studentProposalIndex.put(student.getStudentCode(), proposalIndex + 1);
+                proposals++;
 
                 List<StudentPreferenceDTO> currentAssignments = courseAssignments.get(courseCode);
                 Integer capacity = courseCapacities.get(courseCode);
@@ -151,19 +231,27 @@ public class MatchingService {
                 if (currentAssignments.size() < capacity) {
                     currentAssignments.add(student);
                 } else {
-                    StudentPreferenceDTO worstStudent = findWorstStudent(currentAssignments, courseCode, studentScores);
-                    Double studentScore = studentScores.get(student.getStudentCode()).get(courseCode);
-                    Double worstScore = studentScores.get(worstStudent.getStudentCode()).get(courseCode);
+                    int courseId = instance.courseId(courseCode);
+                    StudentPreferenceDTO worstStudent = findWorstStudent(currentAssignments, courseId, studentIds, studentScores);
+                    double studentScore = studentScores.score(studentIds.get(student.getStudentCode()), courseId);
+                    double worstScore = studentScores.score(studentIds.get(worstStudent.getStudentCode()), courseId);
 
                     if (studentScore > worstScore) {
                         currentAssignments.remove(worstStudent);
                         currentAssignments.add(student);
                         freeStudents.add(worstStudent);
+                        displacements++;
                     } else {
                         freeStudents.add(student);
                     }
+                    rejections++;
                 }
             }
+            execution.setProposals(proposals);
+            execution.setRejections(rejections);
+            execution.setDisplacements(displacements);
+            metricsService.recordMatchingWork("stable", phases.getSizeBucket(),
+                    request.getStudentPreferences().size(), proposals, rejections, displacements);
 
             List<AssignmentDTO> assignments = new ArrayList<>();
             Map<String, Integer> courseAssignmentCounts = new HashMap<>();
@@ -175,7 +263,8 @@ public class MatchingService {
 
                 for (StudentPreferenceDTO student : students) {
                     Integer preferenceRank = student.getPreferredCourses().indexOf(courseCode);
-                    Double studentScore = studentScores.get(student.getStudentCode()).get(courseCode);
+                    Double studentScore = studentScores.score(studentIds.get(student.getStudentCode()),
+                            instance.courseId(courseCode));
 
                     assignments.add(AssignmentDTO.builder()
                             .studentCode(student.getStudentCode())
@@ -186,12 +275,14 @@ public class MatchingService {
                 }
             }
 
+            phases.enter(MatchingPhase.STATISTICS);
             MatchingStatisticsDTO statistics = calculateStatistics(
                     request.getStudentPreferences().size(),
                     assignments,
                     courseAssignmentCounts
             );
 
+            phases.finish();
             long duration = System.nanoTime() - startTime;
             metricsService.recordStableMatchTime(duration, TimeUnit.NANOSECONDS);
 
@@ -203,6 +294,7 @@ public class MatchingService {
             return MatchingResponseDTO.builder()
                     .assignments(assignments)
                     .statistics(statistics)
+                    .execution(execution)
                     .build();
 
         } catch (Exception e) {
@@ -211,47 +303,376 @@ public class MatchingService {
         }
     }
 
-    private StudentPreferenceDTO findWorstStudent(List<StudentPreferenceDTO> students,
-                                                  String courseCode,
-                                                  Map<String, Map<String, Double>> studentScores) {
-        return students.stream()
-                .min(Comparator.comparing(s -> studentScores.get(s.getStudentCode()).get(courseCode)))
-                .orElseThrow();
+    /**
+     * Gale-Shapley on interned int ids, rank arrays and per-course min-heaps, one proposal at a time
+     * or in parallel rounds. Produces the same assignments as the legacy engine, grouped per course
+     * in request order.
+     */
+    private MatchingResponseDTO createPrimitiveStableMatching(MatchingRequestDTO request, MatchingEngine engine,
+                                                              MatchingProgress progress) {
+        long startTime = System.nanoTime();
+
+        try {
+            log.info("Starting {} stable matching for {} students and {} courses",
+                    engine,
+                    request.getStudentPreferences().size(),
+                    request.getCourses().size());
+
+            metricsService.incrementStableMatchCounter();
+            MatchingPhaseRecorder phases = metricsService.phaseRecorder("stable",
+                    request.getStudentPreferences().size(), request.getCourses().size(), progress);
+
+            phases.enter(MatchingPhase.SCORING);
+            MatchingInstance instance = MatchingInstance.from(request);
+            MatchingExecutionDTO execution = new MatchingExecutionDTO();
+            ScoreMatrix scores = scoringService.scoreAll(request, instance, execution);
+            phases.enter(MatchingPhase.MATCHING);
+            MatchingOutcome outcome = engine == MatchingEngine.ROUNDS
+                    ? RoundGaleShapleyEngine.run(instance, scores, scoringService.getScoringPool())
+                    : GaleShapleyEngine.run(instance, scores);
+            recordOutcomeWork("stable", phases, instance, outcome, execution);
+
+            MatchingResponseDTO response = buildStableResponse(request, instance, scores, outcome, execution, phases);
+            MatchingStatisticsDTO statistics = response.getStatistics();
+
+            phases.finish();
+            long duration = System.nanoTime() - startTime;
+            metricsService.recordStableMatchTime(duration, TimeUnit.NANOSECONDS);
+
+            log.info("{} stable matching completed: {} students assigned out of {} in {}ms ({} proposals)",
+                    engine,
+                    statistics.getAssignedStudents(),
+                    statistics.getTotalStudents(),
+                    TimeUnit.NANOSECONDS.toMillis(duration),
+                    outcome.proposals());
+
+            return response;
+
+        } catch (Exception e) {
+            log.error("Error during primitive stable matching execution", e);
+            throw e;
+        }
     }
 
-    private Double calculateStudentScore(StudentPreferenceDTO student,
-                                         String courseCode,
-                                         List<InstructorPreferenceDTO> instructorPreferences) {
-        InstructorPreferenceDTO instructorPref = instructorPreferences.stream()
-                .filter(ip -> ip.getCourseCode().equals(courseCode))
-                .findFirst()
-                .orElse(null);
-
-        if (instructorPref == null || instructorPref.getGradeWeights() == null ||
-                instructorPref.getGradeWeights().isEmpty()) {
-            return 0.0;
+    /**
+     * Primitive stable matching on a request read by the streaming reader. The assignments stay in
+     * the engine's arrays and the statistics are summed from them, so no assignment DTOs are built.
+     */
+    public StreamedMatching createStreamedStableMatching(CompactMatchingRequest request) {
+        long startTime = System.nanoTime();
+        MatchingInstance instance = request.instance();
+
+        try {
+            log.info("Starting streamed stable matching for {} students and {} courses",
+                    instance.studentCount(),
+                    instance.courseCount());
+
+            metricsService.incrementStableMatchCounter();
+            MatchingPhaseRecorder phases = metricsService.phaseRecorder("stable",
+                    instance.studentCount(), instance.courseCount(), MatchingProgress.NONE);
+
+            phases.enter(MatchingPhase.SCORING);
+            MatchingExecutionDTO execution = new MatchingExecutionDTO();
+            ScoreMatrix scores = scoringService.scoreAll(request, execution);
+            phases.enter(MatchingPhase.MATCHING);
+            MatchingOutcome outcome = GaleShapleyEngine.run(instance, scores);
+            recordOutcomeWork("stable", phases, instance, outcome, execution);
+
+            phases.enter(MatchingPhase.STATISTICS);
+            Map<String, Integer> courseAssignmentCounts = new HashMap<>();
+            long rankSum = 0;
+            for (int c = 0; c < instance.courseCount(); c++) {
+                courseAssignmentCounts.put(instance.courseCode(c), outcome.memberEnd(c) - outcome.memberStart(c));
+                for (int i = outcome.memberStart(c); i < outcome.memberEnd(c); i++) {
+                    rankSum += outcome.assignedRank(outcome.member(i));
+                }
+            }
+
+            int assigned = outcome.assignedCount();
+            MatchingStatisticsDTO statistics = MatchingStatisticsDTO.builder()
+                    .totalStudents(instance.studentCount())
+                    .assignedStudents(assigned)
+                    .unassignedStudents(instance.studentCount() - assigned)
+                    .averagePreferenceRank(assigned > 0 ? (double) rankSum / assigned : 0.0)
+                    .courseAssignmentCounts(courseAssignmentCounts)
+                    .build();
+
+            phases.finish();
+            long duration = System.nanoTime() - startTime;
+            metricsService.recordStableMatchTime(duration, TimeUnit.NANOSECONDS);
+
+            log.info("Streamed stable matching completed: {} students assigned out of {} in {}ms ({} proposals)",
+                    statistics.getAssignedStudents(),
+                    statistics.getTotalStudents(),
+                    TimeUnit.NANOSECONDS.toMillis(duration),
+                    outcome.proposals());
+
+            return new StreamedMatching(instance, scores, outcome, statistics, execution);
+
+        } catch (Exception e) {
+            log.error("Error during streamed stable matching execution", e);
+            throw e;
         }
+    }
 
-        double weightedSum = 0.0;
-        double totalWeight = 0.0;
+    /**
+     * Applies a delta to the request of a stored matching. Changed students replace the student
+     * with the same code or are appended; capacities and instructor weights may only target known courses.
+     */
+    public MatchingRequestDTO applyDelta(MatchingRequestDTO previous, MatchingDeltaDTO delta) {
+        Map<String, StudentPreferenceDTO> changedStudents = new LinkedHashMap<>();
+        if (delta.getChangedStudents() != null) {
+            delta.getChangedStudents().forEach(s -> changedStudents.put(s.getStudentCode(), s));
+        }
+
+        List<StudentPreferenceDTO> students = new ArrayList<>(previous.getStudentPreferences().size() + changedStudents.size());
+        for (StudentPreferenceDTO student : previous.getStudentPreferences()) {
+            StudentPreferenceDTO changed = changedStudents.remove(student.getStudentCode());
+            students.add(changed != null ? changed : student);
+        }
+        students.addAll(changedStudents.values());
 
-        for (Map.Entry<String, Double> weight : instructorPref.getGradeWeights().entrySet()) {
-            String compulsoryCourse = weight.getKey();
-            Double weightPercentage = weight.getValue();
+        Set<String> knownCourses = previous.getCourses().stream()
+                .map(CourseCapacityDTO::getCourseCode)
+                .collect(Collectors.toSet());
 
-            if (student.getCourseGrades() != null && student.getCourseGrades().containsKey(compulsoryCourse)) {
-                Double grade = student.getCourseGrades().get(compulsoryCourse);
-                weightedSum += grade * weightPercentage;
-                totalWeight += weightPercentage;
+        Map<String, Integer> capacities = new HashMap<>();
+        if (delta.getCourses() != null) {
+            for (CourseCapacityDTO course : delta.getCourses()) {
+                if (!knownCourses.contains(course.getCourseCode())) {
+                    throw new IllegalArgumentException("Unknown course in delta: " + course.getCourseCode());
+                }
+                capacities.put(course.getCourseCode(), course.getCapacity());
             }
         }
 
-        return totalWeight > 0 ? weightedSum / totalWeight : 0.0;
+        List<CourseCapacityDTO> courses = previous.getCourses().stream()
+                .map(c -> capacities.containsKey(c.getCourseCode())
+                        ? CourseCapacityDTO.builder()
+                                .courseCode(c.getCourseCode())
+                                .capacity(capacities.get(c.getCourseCode()))
+                                .instructorId(c.getInstructorId())
+                                .build()
+                        : c)
+                .collect(Collectors.toList());
+
+        List<InstructorPreferenceDTO> instructorPreferences = new ArrayList<>(previous.getInstructorPreferences());
+        if (delta.getInstructorPreferences() != null) {
+            for (InstructorPreferenceDTO preference : delta.getInstructorPreferences()) {
+                if (!knownCourses.contains(preference.getCourseCode())) {
+                    throw new IllegalArgumentException("Unknown course in delta: " + preference.getCourseCode());
+                }
+                instructorPreferences.removeIf(p -> p.getCourseCode().equals(preference.getCourseCode()));
+            }
+            instructorPreferences.addAll(delta.getInstructorPreferences());
+        }
+
+        return MatchingRequestDTO.builder()
+                .studentPreferences(students)
+                .courses(courses)
+                .instructorPreferences(instructorPreferences)
+                .packId(previous.getPackId())
+                .build();
     }
 
-    private MatchingStatisticsDTO calculateStatistics(Integer totalStudents,
-                                                      List<AssignmentDTO> assignments,
-                                                      Map<String, Integer> courseAssignmentCounts) {
+    /**
+     * Repairs a previous stable matching after {@link #applyDelta}: only changed students,
+     * students of rescored courses and students displaced along the way propose again.
+     * The response reports the repair proposals next to those of the full run the repair chain started from.
+     */
+    public MatchingResponseDTO repairStableMatching(StoredMatching previous, MatchingRequestDTO request,
+                                                    MatchingDeltaDTO delta) {
+        long startTime = System.nanoTime();
+
+        try {
+            log.info("Starting stable matching repair of {} for {} students and {} courses",
+                    previous.getMatchingId(),
+                    request.getStudentPreferences().size(),
+                    request.getCourses().size());
+
+            metricsService.incrementRepairCounter();
+            MatchingPhaseRecorder phases = metricsService.phaseRecorder("repair",
+                    request.getStudentPreferences().size(), request.getCourses().size(), MatchingProgress.NONE);
+
+            MatchingInstance instance = MatchingInstance.from(request);
+            MatchingExecutionDTO execution = MatchingExecutionDTO.builder()
+                    .repairedFrom(previous.getMatchingId())
+                    .build();
+            MatchingExecutionDTO previousExecution = previous.getResponse().getExecution();
+            if (previousExecution != null) {
+                // a repair of a repair still compares against the full run at the start of the chain
+                execution.setBaselineProposals(previousExecution.getBaselineProposals() != null
+                        ? previousExecution.getBaselineProposals()
+                        : previousExecution.getProposals());
+            }
+            phases.enter(MatchingPhase.SCORING);
+            ScoreMatrix scores = scoringService.scoreAll(request, instance, execution);
+
+            phases.enter(MatchingPhase.MATCHING);
+            int studentCount = instance.studentCount();
+            int[] previousCourse = new int[studentCount];
+            boolean[] resetStudent = new boolean[studentCount];
+            Set<String> changedStudents = delta.getChangedStudents() == null ? Set.of()
+                    : delta.getChangedStudents().stream().map(StudentPreferenceDTO::getStudentCode).collect(Collectors.toSet());
+
+            Map<String, Integer> studentIds = new HashMap<>(studentCount * 2);
+            for (int s = 0; s < studentCount; s++) {
+                studentIds.put(instance.studentCode(s), s);
+                resetStudent[s] = changedStudents.contains(instance.studentCode(s));
+                AssignmentDTO assignment = previous.assignmentForStudent(instance.studentCode(s));
+                previousCourse[s] = assignment != null ? instance.courseId(assignment.getCourseCode()) : -1;
+            }
+
+            List<AssignmentDTO> previousAssignments = previous.getResponse().getAssignments();
+            int[] acceptanceOrder = new int[previousAssignments.size()];
+            for (int i = 0; i < acceptanceOrder.length; i++) {
+                acceptanceOrder[i] = studentIds.get(previousAssignments.get(i).getStudentCode());
+            }
+
+            boolean[] rescoredCourse = new boolean[instance.courseCount()];
+            if (delta.getInstructorPreferences() != null) {
+                delta.getInstructorPreferences().forEach(p -> rescoredCourse[instance.courseId(p.getCourseCode())] = true);
+            }
+
+            MatchingOutcome outcome = IncrementalGaleShapley.repair(instance, scores,
+                    previousCourse, acceptanceOrder, resetStudent, rescoredCourse);
+            recordOutcomeWork("repair", phases, instance, outcome, execution);
+
+            MatchingResponseDTO response = buildStableResponse(request, instance, scores, outcome, execution, phases);
+
+            phases.finish();
+            long duration = System.nanoTime() - startTime;
+            metricsService.recordRepairTime(duration, TimeUnit.NANOSECONDS);
+
+            log.info("Stable matching repair completed: {} students assigned out of {} in {}ms ({} proposals, {} in the repaired run)",
+                    response.getStatistics().getAssignedStudents(),
+                    response.getStatistics().getTotalStudents(),
+                    TimeUnit.NANOSECONDS.toMillis(duration),
+                    outcome.proposals(),
+                    execution.getBaselineProposals());
+
+            return response;
+
+        } catch (Exception e) {
+            log.error("Error during stable matching repair", e);
+            throw e;
+        }
+    }
+
+    private void recordOutcomeWork(String algorithm, MatchingPhaseRecorder phases, MatchingInstance instance,
+                                   MatchingOutcome outcome, MatchingExecutionDTO execution) {
+        execution.setProposals(outcome.proposals());
+        execution.setRejections(outcome.rejections());
+        execution.setDisplacements(outcome.displacements());
+        if (outcome.rounds() > 0) {
+            List<Double> roundTimesMs = new ArrayList<>(outcome.rounds());
+            for (int r = 0; r < outcome.rounds(); r++) {
+                roundTimesMs.add(outcome.roundNanos(r) / 1_000_000.0);
+            }
+            execution.setRounds(outcome.rounds());
+            execution.setRoundTimesMs(roundTimesMs);
+        }
+        metricsService.recordMatchingWork(algorithm, phases.getSizeBucket(), instance.studentCount(),
+                outcome.proposals(), outcome.rejections(), outcome.displacements());
+    }
+
+    /**
+     * Builds the response of a matching that did not need the full score matrix.
+     * Only the assigned pairs are scored, so no full matrix is built here.
+     */
+    private MatchingResponseDTO buildScoredResponse(MatchingAlgorithm algorithm, MatchingRequestDTO request,
+                                                    MatchingInstance instance, MatchingOutcome outcome,
+                                                    MatchingExecutionDTO execution, MatchingProgress progress) {
+        int[] studentIds = new int[outcome.assignedCount()];
+        int[] courseIds = new int[outcome.assignedCount()];
+        Map<String, Integer> courseAssignmentCounts = new HashMap<>();
+
+        for (int c = 0; c < instance.courseCount(); c++) {
+            courseAssignmentCounts.put(instance.courseCode(c), outcome.memberEnd(c) - outcome.memberStart(c));
+            for (int i = outcome.memberStart(c); i < outcome.memberEnd(c); i++) {
+                studentIds[i] = outcome.member(i);
+                courseIds[i] = c;
+            }
+        }
+
+        progress.enter(MatchingPhase.SCORING);
+        double[] scores = scoringService.scorePairs(algorithm, request, instance, studentIds, courseIds, execution);
+
+        List<AssignmentDTO> assignments = new ArrayList<>(studentIds.length);
+        for (int i = 0; i < studentIds.length; i++) {
+            int preferenceRank = outcome.assignedRank(studentIds[i]);
+
+            assignments.add(AssignmentDTO.builder()
+                    .studentCode(instance.studentCode(studentIds[i]))
+                    .courseCode(instance.courseCode(courseIds[i]))
+                    .preferenceRank(preferenceRank >= 0 ? preferenceRank : null)
+                    .studentScore(scores[i])
+                    .build());
+        }
+
+        progress.enter(MatchingPhase.STATISTICS);
+        MatchingStatisticsDTO statistics = calculateStatistics(
+                request.getStudentPreferences().size(),
+                assignments,
+                courseAssignmentCounts
+        );
+
+        return MatchingResponseDTO.builder()
+                .assignments(assignments)
+                .statistics(statistics)
+                .execution(execution)
+                .build();
+    }
+
+    private MatchingResponseDTO buildStableResponse(MatchingRequestDTO request, MatchingInstance instance,
+                                                    ScoreMatrix scores, MatchingOutcome outcome,
+                                                    MatchingExecutionDTO execution, MatchingProgress progress) {
+        List<AssignmentDTO> assignments = new ArrayList<>(outcome.assignedCount());
+        Map<String, Integer> courseAssignmentCounts = new HashMap<>();
+
+        for (int c = 0; c < instance.courseCount(); c++) {
+            courseAssignmentCounts.put(instance.courseCode(c), outcome.memberEnd(c) - outcome.memberStart(c));
+
+            for (int i = outcome.memberStart(c); i < outcome.memberEnd(c); i++) {
+                int student = outcome.member(i);
+                assignments.add(AssignmentDTO.builder()
+                        .studentCode(instance.studentCode(student))
+                        .courseCode(instance.courseCode(c))
+                        .preferenceRank(outcome.assignedRank(student))
+                        .studentScore(scores.score(student, c))
+                        .build());
+            }
+        }
+
+        progress.enter(MatchingPhase.STATISTICS);
+        MatchingStatisticsDTO statistics = calculateStatistics(
+                request.getStudentPreferences().size(),
+                assignments,
+                courseAssignmentCounts
+        );
+
+        return MatchingResponseDTO.builder()
+                .assignments(assignments)
+                .statistics(statistics)
+                .execution(execution)
+                .build();
+    }
+
+    private StudentPreferenceDTO findWorstStudent(List<StudentPreferenceDTO> students,
+                                                  int courseId,
+                                                  Map<String, Integer> studentIds,
+                                                  ScoreMatrix studentScores) {
+        return students.stream()
+                .min(Comparator.comparing(s -> studentScores.score(studentIds.get(s.getStudentCode()), courseId)))
+                .orElseThrow();
+    }
+
+    /**
+     * Builds the summary statistics of a finished matching
+     */
+    public MatchingStatisticsDTO calculateStatistics(Integer totalStudents,
+                                                     List<AssignmentDTO> assignments,
+                                                     Map<String, Integer> courseAssignmentCounts) {
         Integer assignedStudents = assignments.size();
         Integer unassignedStudents = totalStudents - assignedStudents;
 
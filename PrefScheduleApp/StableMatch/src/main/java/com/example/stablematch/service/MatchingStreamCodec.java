@@ -0,0 +1,201 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.algorithm.CompactMatchingRequest;
+import com.example.stablematch.dto.InstructorPreferenceDTO;
+import com.example.stablematch.dto.MatchingStreamTrailerDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming wire format for huge matching requests.
+ * <p>
+ * The request has the same JSON shape as {@code MatchingRequestDTO}, but students are pulled token by
+ * token into a {@link CompactMatchingRequest}, so no student DTOs, lists or grade maps are built.
+ * The response is NDJSON: one {@code AssignmentDTO}-shaped object per line, flushed in batches while
+ * it is written, closed by a {@link MatchingStreamTrailerDTO} line with the statistics.
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchingStreamCodec {
+
+    private static final int FLUSH_EVERY = 4096;
+
+    private final ObjectMapper objectMapper;
+    private final MetricsService metricsService;
+
+    /**
+     * Reads a matching request. Structural problems, such as a student without a code,
+     * are reported as {@link IllegalArgumentException}; malformed JSON as a Jackson exception.
+     */
+    public CompactMatchingRequest read(InputStream in) throws IOException {
+        long startTime = System.nanoTime();
+        CompactMatchingRequest.Builder builder = CompactMatchingRequest.builder();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT, "request");
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                switch (field) {
+                    case "studentPreferences" -> readStudents(parser, value, builder);
+                    case "courses" -> readCourses(parser, value, builder);
+                    case "instructorPreferences" -> builder.instructorPreferences(readInstructorPreferences(parser, value));
+                    case "packId" -> builder.packId(value == JsonToken.VALUE_NULL ? null : parser.getValueAsLong());
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        CompactMatchingRequest request = builder.build();
+        metricsService.recordPhaseTime("stable", "deserialization",
+                MetricsService.sizeBucket(builder.studentCount(), builder.courseCount()),
+                System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        return request;
+    }
+
+    /**
+     * Writes the assignments as NDJSON followed by the statistics trailer
+     */
+    public void write(StreamedMatching matching, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // Lines are separated explicitly and the container owns the response stream
+            generator.setRootValueSeparator(null);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            int[] lines = new int[1];
+
+            matching.forEachAssignment((studentCode, courseCode, preferenceRank, studentScore) -> {
+                generator.writeStartObject();
+                generator.writeStringField("studentCode", studentCode);
+                generator.writeStringField("courseCode", courseCode);
+                generator.writeNumberField("preferenceRank", preferenceRank);
+                generator.writeNumberField("studentScore", studentScore);
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+
+                if (++lines[0] % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            });
+
+            objectMapper.writeValue(generator, MatchingStreamTrailerDTO.builder()
+                    .statistics(matching.getStatistics())
+                    .execution(matching.getExecution())
+                    .build());
+            generator.writeRaw('\n');
+        }
+    }
+
+    private void readStudents(JsonParser parser, JsonToken token, CompactMatchingRequest.Builder builder)
+            throws IOException {
+        expect(token, JsonToken.START_ARRAY, "studentPreferences");
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expect(parser.currentToken(), JsonToken.START_OBJECT, "student");
+            builder.beginStudent();
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                switch (field) {
+                    case "studentCode" -> builder.studentCode(value == JsonToken.VALUE_NULL ? null : parser.getText());
+                    case "preferredCourses" -> {
+                        if (value == JsonToken.VALUE_NULL) {
+                            continue;
+                        }
+                        expect(value, JsonToken.START_ARRAY, "preferredCourses");
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            expectScalar(parser.currentToken(), "preferredCourses");
+                            builder.addPreference(parser.getText());
+                        }
+                    }
+                    case "courseGrades" -> {
+                        if (value == JsonToken.VALUE_NULL) {
+                            continue;
+                        }
+                        expect(value, JsonToken.START_OBJECT, "courseGrades");
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String abbreviation = parser.currentName();
+                            JsonToken grade = parser.nextToken();
+                            expectScalar(grade, "courseGrades");
+                            if (grade != JsonToken.VALUE_NULL) {
+                                builder.addGrade(abbreviation, parser.getValueAsDouble());
+                            }
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            builder.endStudent();
+        }
+    }
+
+    private void readCourses(JsonParser parser, JsonToken token, CompactMatchingRequest.Builder builder)
+            throws IOException {
+        expect(token, JsonToken.START_ARRAY, "courses");
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expect(parser.currentToken(), JsonToken.START_OBJECT, "course");
+            String courseCode = null;
+            Integer capacity = null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if ("courseCode".equals(field) && value != JsonToken.VALUE_NULL) {
+                    courseCode = parser.getText();
+                } else if ("capacity".equals(field) && value != JsonToken.VALUE_NULL) {
+                    capacity = parser.getValueAsInt();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (courseCode == null || capacity == null) {
+                throw new IllegalArgumentException("Every course needs a courseCode and a capacity");
+            }
+            builder.addCourse(courseCode, capacity);
+        }
+    }
+
+    private List<InstructorPreferenceDTO> readInstructorPreferences(JsonParser parser, JsonToken token)
+            throws IOException {
+        expect(token, JsonToken.START_ARRAY, "instructorPreferences");
+        List<InstructorPreferenceDTO> preferences = new ArrayList<>();
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            InstructorPreferenceDTO preference = objectMapper.readValue(parser, InstructorPreferenceDTO.class);
+            if (preference.getCourseCode() == null) {
+                throw new IllegalArgumentException("Every instructor preference needs a courseCode");
+            }
+            preferences.add(preference);
+        }
+        return preferences;
+    }
+
+    private static void expectScalar(JsonToken actual, String what) {
+        if (actual == null || !actual.isScalarValue()) {
+            throw new IllegalArgumentException("Expected a value in " + what + " but found " + actual);
+        }
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected, String what) {
+        if (actual != expected) {
+            throw new IllegalArgumentException("Expected " + expected.asString() + " for " + what + " but found " + actual);
+        }
+    }
+}
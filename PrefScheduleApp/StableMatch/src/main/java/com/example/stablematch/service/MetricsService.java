@@ -1,11 +1,22 @@
 package com.example.stablematch.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -15,11 +26,38 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class MetricsService {
 
+    private static final String PHASE_TIMER = "stablematch.algorithm.phase.time";
+    private static final String PROPOSALS_PER_STUDENT = "stablematch.algorithm.proposals.per.student";
+    private static final String REJECTIONS = "stablematch.algorithm.rejections";
+    private static final String DISPLACEMENTS = "stablematch.algorithm.displacements";
+    private static final String SIMULATION_TIMER = "stablematch.simulation.time";
+    private static final String SIMULATION_RUNS = "stablematch.simulation.runs";
+
     private final MeterRegistry meterRegistry;
     private final Counter stableMatchInvocationCounter;
     private final Counter randomMatchInvocationCounter;
     private final Timer stableMatchTimer;
     private final Timer randomMatchTimer;
+    private final Counter optimalMatchInvocationCounter;
+    private final Timer optimalMatchTimer;
+    private final Counter repairInvocationCounter;
+    private final Timer repairTimer;
+    private final Timer stableScoringTimer;
+    private final Timer randomScoringTimer;
+    private final Timer optimalScoringTimer;
+    private final Timer jobWaitTimer;
+    private final Counter jobRejectedCounter;
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+    private final Counter cacheEvictionCounter;
+    private final Timer batchTimer;
+    private final Counter batchPackSucceededCounter;
+    private final Counter batchPackFailedCounter;
+    private final Timer verificationTimer;
+    private final Counter verificationStableCounter;
+    private final Counter verificationUnstableCounter;
+    private final Timer admissionWaitTimer;
+    private final Counter admissionRejectedCounter;
 
     public MetricsService(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
@@ -48,6 +86,107 @@ public class MetricsService {
                 .tag("algorithm", "random")
                 .register(meterRegistry);
 
+        // Create counter and timer for the rank-optimal (min-cost flow) algorithm
+        this.optimalMatchInvocationCounter = Counter.builder("stablematch.algorithm.invocations")
+                .description("Number of times the rank-optimal matching algorithm is invoked")
+                .tag("algorithm", "optimal")
+                .register(meterRegistry);
+
+        this.optimalMatchTimer = Timer.builder("stablematch.algorithm.response.time")
+                .description("Response time of the rank-optimal matching algorithm")
+                .tag("algorithm", "optimal")
+                .register(meterRegistry);
+
+        // Create counter and timer for incremental repairs of a stored stable matching
+        this.repairInvocationCounter = Counter.builder("stablematch.algorithm.invocations")
+                .description("Number of times a stable matching is repaired incrementally")
+                .tag("algorithm", "repair")
+                .register(meterRegistry);
+
+        this.repairTimer = Timer.builder("stablematch.algorithm.response.time")
+                .description("Response time of incremental stable matching repairs")
+                .tag("algorithm", "repair")
+                .register(meterRegistry);
+
+        // Create timers for the scoring phase, recorded separately from the matching loop
+        this.stableScoringTimer = Timer.builder("stablematch.algorithm.scoring.time")
+                .description("Time spent building student scores for the stable matching algorithm")
+                .tag("algorithm", "stable")
+                .register(meterRegistry);
+
+        this.randomScoringTimer = Timer.builder("stablematch.algorithm.scoring.time")
+                .description("Time spent building student scores for the random matching algorithm")
+                .tag("algorithm", "random")
+                .register(meterRegistry);
+
+        this.optimalScoringTimer = Timer.builder("stablematch.algorithm.scoring.time")
+                .description("Time spent scoring the assignments of the rank-optimal matching algorithm")
+                .tag("algorithm", "optimal")
+                .register(meterRegistry);
+
+        // Create timer and counter for background matching jobs
+        this.jobWaitTimer = Timer.builder("stablematch.jobs.wait.time")
+                .description("Time matching jobs spend queued before a worker picks them up")
+                .register(meterRegistry);
+
+        this.jobRejectedCounter = Counter.builder("stablematch.jobs.rejected")
+                .description("Number of matching jobs rejected because the job queue was full")
+                .register(meterRegistry);
+
+        // Create counters for the matching result cache
+        this.cacheHitCounter = Counter.builder("stablematch.cache.requests")
+                .description("Matching requests answered from the result cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+
+        this.cacheMissCounter = Counter.builder("stablematch.cache.requests")
+                .description("Matching requests that had to be computed")
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        this.cacheEvictionCounter = Counter.builder("stablematch.cache.evictions")
+                .description("Cached matching results evicted by size or age")
+                .register(meterRegistry);
+
+        // Create timer and counters for multi-pack batch requests
+        this.batchTimer = Timer.builder("stablematch.batch.time")
+                .description("Time to match every pack of a batch request")
+                .register(meterRegistry);
+
+        this.batchPackSucceededCounter = Counter.builder("stablematch.batch.packs")
+                .description("Packs of batch requests that were matched")
+                .tag("result", "succeeded")
+                .register(meterRegistry);
+
+        this.batchPackFailedCounter = Counter.builder("stablematch.batch.packs")
+                .description("Packs of batch requests that failed")
+                .tag("result", "failed")
+                .register(meterRegistry);
+
+        // Create timer and counters for stability verification
+        this.verificationTimer = Timer.builder("stablematch.verification.time")
+                .description("Time to check a matching for blocking pairs")
+                .register(meterRegistry);
+
+        this.verificationStableCounter = Counter.builder("stablematch.verification.runs")
+                .description("Verified matchings without blocking pairs")
+                .tag("result", "stable")
+                .register(meterRegistry);
+
+        this.verificationUnstableCounter = Counter.builder("stablematch.verification.runs")
+                .description("Verified matchings with blocking pairs or overfull courses")
+                .tag("result", "unstable")
+                .register(meterRegistry);
+
+        // Create timer and counter for admission control of matching requests
+        this.admissionWaitTimer = Timer.builder("stablematch.admission.wait.time")
+                .description("Time admitted matching requests waited for a free slot")
+                .register(meterRegistry);
+
+        this.admissionRejectedCounter = Counter.builder("stablematch.admission.rejected")
+                .description("Matching requests rejected with 429 because every slot and the wait queue were taken")
+                .register(meterRegistry);
+
         log.info("Metrics service initialized with counters and timers");
     }
 
@@ -69,6 +208,20 @@ public class MetricsService {
                 randomMatchInvocationCounter.count());
     }
 
+    /**
+     * Increment the rank-optimal matching invocation counter
+     */
+    public void incrementOptimalMatchCounter() {
+        optimalMatchInvocationCounter.increment();
+    }
+
+    /**
+     * Increment the stable matching repair counter
+     */
+    public void incrementRepairCounter() {
+        repairInvocationCounter.increment();
+    }
+
     /**
      * Record execution time for stable matching algorithm
      */
@@ -85,6 +238,235 @@ public class MetricsService {
         log.debug("Random match execution time recorded: {} {}", duration, unit);
     }
 
+    /**
+     * Record execution time for rank-optimal matching algorithm
+     */
+    public void recordOptimalMatchTime(long duration, TimeUnit unit) {
+        optimalMatchTimer.record(duration, unit);
+        log.debug("Optimal match execution time recorded: {} {}", duration, unit);
+    }
+
+    /**
+     * Record execution time for an incremental stable matching repair
+     */
+    public void recordRepairTime(long duration, TimeUnit unit) {
+        repairTimer.record(duration, unit);
+        log.debug("Stable match repair time recorded: {} {}", duration, unit);
+    }
+
+    /**
+     * Record scoring phase time for stable matching algorithm
+     */
+    public void recordStableScoringTime(long duration, TimeUnit unit) {
+        stableScoringTimer.record(duration, unit);
+        log.debug("Stable match scoring time recorded: {} {}", duration, unit);
+    }
+
+    /**
+     * Record scoring phase time for random matching algorithm
+     */
+    public void recordRandomScoringTime(long duration, TimeUnit unit) {
+        randomScoringTimer.record(duration, unit);
+        log.debug("Random match scoring time recorded: {} {}", duration, unit);
+    }
+
+    /**
+     * Record time spent scoring the assignments of rank-optimal matching
+     */
+    public void recordOptimalScoringTime(long duration, TimeUnit unit) {
+        optimalScoringTimer.record(duration, unit);
+        log.debug("Optimal match scoring time recorded: {} {}", duration, unit);
+    }
+
+    /**
+     * Buckets a request by its students x courses cells, so the tag stays low-cardinality
+     */
+    public static String sizeBucket(long students, long courses) {
+        long cells = students * courses;
+        if (cells < 10_000) {
+            return "lt10k";
+        }
+        if (cells < 100_000) {
+            return "10k-100k";
+        }
+        if (cells < 1_000_000) {
+            return "100k-1m";
+        }
+        if (cells < 10_000_000) {
+            return "1m-10m";
+        }
+        return "ge10m";
+    }
+
+    /**
+     * Start timing the phases of one matching run; the returned recorder forwards phases to the given listener
+     */
+    public MatchingPhaseRecorder phaseRecorder(String algorithm, int students, int courses, MatchingProgress progress) {
+        return new MatchingPhaseRecorder(this, algorithm, sizeBucket(students, courses), progress);
+    }
+
+    /**
+     * Record the duration of one phase (deserialization, scoring, matching or statistics)
+     */
+    public void recordPhaseTime(String algorithm, String phase, String sizeBucket, long duration, TimeUnit unit) {
+        Timer.builder(PHASE_TIMER)
+                .description("Time spent in each phase of a matching run")
+                .tag("algorithm", algorithm)
+                .tag("phase", phase)
+                .tag("size", sizeBucket)
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(duration, unit);
+        log.debug("{} {} phase time recorded: {} {}", algorithm, phase, duration, unit);
+    }
+
+    /**
+     * Record how much work the proposal loop needed for a run
+     */
+    public void recordMatchingWork(String algorithm, String sizeBucket, int students,
+                                   long proposals, long rejections, long displacements) {
+        summary(PROPOSALS_PER_STUDENT, "Proposals made per student in a matching run", algorithm, sizeBucket)
+                .record(students > 0 ? (double) proposals / students : 0.0);
+        summary(REJECTIONS, "Proposals that left a student free in a matching run", algorithm, sizeBucket)
+                .record(rejections);
+        summary(DISPLACEMENTS, "Accepted students pushed out by a better proposer in a matching run", algorithm, sizeBucket)
+                .record(displacements);
+    }
+
+    private DistributionSummary summary(String name, String description, String algorithm, String sizeBucket) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("algorithm", algorithm)
+                .tag("size", sizeBucket)
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record a finished simulation of one mode and the number of matchings it ran
+     */
+    public void recordSimulation(String mode, int runs, long duration, TimeUnit unit) {
+        Timer.builder(SIMULATION_TIMER)
+                .description("Time to run and aggregate all matchings of a simulation")
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(duration, unit);
+        Counter.builder(SIMULATION_RUNS)
+                .description("Matchings run by simulations")
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .increment(runs);
+    }
+
+    /**
+     * Register gauges for the queue depth and busy workers of the matching job executor
+     */
+    public void registerJobExecutorGauges(ThreadPoolExecutor executor) {
+        Gauge.builder("stablematch.jobs.queue.depth", executor, e -> e.getQueue().size())
+                .description("Number of matching jobs waiting for a worker")
+                .register(meterRegistry);
+
+        Gauge.builder("stablematch.jobs.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Number of matching jobs currently running")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record how long a matching job waited in the queue
+     */
+    public void recordJobWaitTime(long duration, TimeUnit unit) {
+        jobWaitTimer.record(duration, unit);
+        log.debug("Matching job wait time recorded: {} {}", duration, unit);
+    }
+
+    /**
+     * Increment the rejected matching job counter
+     */
+    public void incrementJobRejectedCounter() {
+        jobRejectedCounter.increment();
+    }
+
+    /**
+     * Register a gauge for the number of cached matching results
+     */
+    public void registerCacheSizeGauge(Cache<?, ?> cache) {
+        Gauge.builder("stablematch.cache.size", cache, Cache::estimatedSize)
+                .description("Number of matching results in the result cache")
+                .register(meterRegistry);
+    }
+
+    public void incrementCacheHitCounter() {
+        cacheHitCounter.increment();
+    }
+
+    public void incrementCacheMissCounter() {
+        cacheMissCounter.increment();
+    }
+
+    public void incrementCacheEvictionCounter() {
+        cacheEvictionCounter.increment();
+    }
+
+    /**
+     * Record a finished batch request and how many of its packs succeeded or failed
+     */
+    public void recordBatch(long duration, TimeUnit unit, int succeeded, int failed) {
+        batchTimer.record(duration, unit);
+        batchPackSucceededCounter.increment(succeeded);
+        batchPackFailedCounter.increment(failed);
+    }
+
+    /**
+     * Record a finished stability check and whether the matching was found stable
+     */
+    public void recordVerification(long duration, TimeUnit unit, boolean stable) {
+        verificationTimer.record(duration, unit);
+        (stable ? verificationStableCounter : verificationUnstableCounter).increment();
+    }
+
+    /**
+     * Register gauges for the batch executor queue and workers
+     */
+    public void registerBatchExecutorGauges(ThreadPoolExecutor executor) {
+        Gauge.builder("stablematch.batch.queue.depth", executor, e -> e.getQueue().size())
+                .description("Number of batch packs waiting for a worker")
+                .register(meterRegistry);
+
+        Gauge.builder("stablematch.batch.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Number of batch packs currently being matched")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Register gauges for the running and waiting matching requests of the admission control
+     */
+    public void registerAdmissionGauges(MatchingAdmission admission) {
+        Gauge.builder("stablematch.admission.in.flight", admission, MatchingAdmission::getInFlight)
+                .description("Number of matching requests currently running")
+                .register(meterRegistry);
+
+        Gauge.builder("stablematch.admission.queued", admission, MatchingAdmission::getQueued)
+                .description("Number of matching requests waiting for a free slot")
+                .register(meterRegistry);
+
+        Gauge.builder("stablematch.admission.limit", admission, MatchingAdmission::getMaxConcurrent)
+                .description("Number of matching requests allowed to run at once")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record how long an admitted matching request waited for a slot
+     */
+    public void recordAdmissionWaitTime(long duration, TimeUnit unit) {
+        admissionWaitTimer.record(duration, unit);
+    }
+
+    public void incrementAdmissionRejectedCounter() {
+        admissionRejectedCounter.increment();
+    }
+
     /**
      * Execute and measure stable matching algorithm
      */
@@ -114,6 +496,13 @@ public class MetricsService {
         return randomMatchInvocationCounter.count();
     }
 
+    /**
+     * Get current counter value for rank-optimal matching
+     */
+    public double getOptimalMatchCount() {
+        return optimalMatchInvocationCounter.count();
+    }
+
     /**
      * Get mean response time for stable matching (in milliseconds)
      */
@@ -127,4 +516,132 @@ public class MetricsService {
     public double getStableMatchMaxTime() {
         return stableMatchTimer.max(TimeUnit.MILLISECONDS);
     }
-}
\ No newline at end of file
+
+    /**
+     * Get mean scoring phase time for stable matching (in milliseconds)
+     */
+    public double getStableScoringMeanTime() {
+        return stableScoringTimer.mean(TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Get mean queue wait time of matching jobs (in milliseconds)
+     */
+    public double getJobWaitMeanTime() {
+        return jobWaitTimer.mean(TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Get count, mean and percentiles of every phase timer, keyed by algorithm.phase.size (times in milliseconds)
+     */
+    public Map<String, Map<String, Double>> getPhaseTimings() {
+        Map<String, Map<String, Double>> timings = new TreeMap<>();
+        for (Timer timer : meterRegistry.find(PHASE_TIMER).timers()) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            Map<String, Double> values = new LinkedHashMap<>();
+            values.put("count", (double) snapshot.count());
+            values.put("mean_ms", snapshot.mean(TimeUnit.MILLISECONDS));
+            values.put("max_ms", snapshot.max(TimeUnit.MILLISECONDS));
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                values.put(percentileKey(percentile) + "_ms", percentile.value(TimeUnit.MILLISECONDS));
+            }
+            timings.put(meterKey(timer.getId(), "algorithm", "phase", "size"), values);
+        }
+        return timings;
+    }
+
+    /**
+     * Get count, mean and percentiles of the proposal, rejection and displacement summaries,
+     * keyed by metric.algorithm.size
+     */
+    public Map<String, Map<String, Double>> getMatchingWorkSummaries() {
+        Map<String, Map<String, Double>> summaries = new TreeMap<>();
+        for (String name : List.of(PROPOSALS_PER_STUDENT, REJECTIONS, DISPLACEMENTS)) {
+            for (DistributionSummary summary : meterRegistry.find(name).summaries()) {
+                HistogramSnapshot snapshot = summary.takeSnapshot();
+                Map<String, Double> values = new LinkedHashMap<>();
+                values.put("count", (double) snapshot.count());
+                values.put("mean", snapshot.mean());
+                values.put("max", snapshot.max());
+                for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                    values.put(percentileKey(percentile), percentile.value());
+                }
+                String metric = name.substring(name.lastIndexOf("algorithm.") + "algorithm.".length());
+                summaries.put(metric + "." + meterKey(summary.getId(), "algorithm", "size"), values);
+            }
+        }
+        return summaries;
+    }
+
+    private static String percentileKey(ValueAtPercentile percentile) {
+        return "p" + Math.round(percentile.percentile() * 100);
+    }
+
+    private static String meterKey(Meter.Id id, String... tags) {
+        StringBuilder key = new StringBuilder();
+        for (String tag : tags) {
+            if (key.length() > 0) {
+                key.append('.');
+            }
+            key.append(id.getTag(tag));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Get number of matching requests served from the result cache
+     */
+    public double getCacheHitCount() {
+        return cacheHitCounter.count();
+    }
+
+    /**
+     * Get number of matching requests that missed the result cache
+     */
+    public double getCacheMissCount() {
+        return cacheMissCounter.count();
+    }
+
+    /**
+     * Get number of rejected matching jobs
+     */
+    public double getJobRejectedCount() {
+        return jobRejectedCounter.count();
+    }
+
+    /**
+     * Get number of batch packs that were matched
+     */
+    public double getBatchPackSucceededCount() {
+        return batchPackSucceededCounter.count();
+    }
+
+    /**
+     * Get number of batch packs that failed
+     */
+    public double getBatchPackFailedCount() {
+        return batchPackFailedCounter.count();
+    }
+
+    /**
+     * Get number of verified matchings that had blocking pairs or overfull courses
+     */
+    public double getVerificationUnstableCount() {
+        return verificationUnstableCounter.count();
+    }
+
+    /**
+     * Get number of matchings run by simulations of a mode
+     */
+    public double getSimulationRunCount(String mode) {
+        Counter counter = meterRegistry.find(SIMULATION_RUNS).tag("mode", mode).counter();
+        return counter != null ? counter.count() : 0.0;
+    }
+
+    /**
+     * Get current counter value for matching requests rejected by admission control
+     */
+    public double getAdmissionRejectedCount() {
+        return admissionRejectedCounter.count();
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.algorithm.CompactMatchingRequest;
+import com.example.stablematch.algorithm.MatchingInstance;
+import com.example.stablematch.algorithm.ParallelScoring;
+import com.example.stablematch.algorithm.ScoreMatrix;
+import com.example.stablematch.algorithm.ScoringIndex;
+import com.example.stablematch.dto.MatchingExecutionDTO;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds student scores, switching to the dedicated fork/join pool for large requests
+ */
+@Service
+@Slf4j
+public class ScoringService {
+
+    private final ForkJoinPool scoringPool;
+    private final MetricsService metricsService;
+    private final long parallelThreshold;
+    private final int chunksPerCore;
+
+    public ScoringService(@Qualifier("scoringPool") ForkJoinPool scoringPool,
+                          MetricsService metricsService,
+                          @Value("${stablematch.scoring.parallel-threshold:200000}") long parallelThreshold,
+                          @Value("${stablematch.scoring.chunks-per-core:4}") int chunksPerCore) {
+        this.scoringPool = scoringPool;
+        this.metricsService = metricsService;
+        this.parallelThreshold = parallelThreshold;
+        this.chunksPerCore = Math.max(1, chunksPerCore);
+    }
+
+    /**
+     * The dedicated fork/join pool, shared with the round-based proposal engine
+     */
+    public ForkJoinPool getScoringPool() {
+        return scoringPool;
+    }
+
+    /**
+     * Compiles the instructor weights and fills the whole students x courses score matrix.
+     * Runs in parallel once the matrix has at least {@code parallel-threshold} cells.
+     */
+    public ScoreMatrix scoreAll(MatchingRequestDTO request, MatchingInstance instance,
+                                MatchingExecutionDTO execution) {
+        long startTime = System.nanoTime();
+        return scoreAll(ScoringIndex.compile(request, instance), instance.studentCount(), startTime, execution);
+    }
+
+    /**
+     * Same as {@link #scoreAll(MatchingRequestDTO, MatchingInstance, MatchingExecutionDTO)}
+     * for a request read into arrays by the streaming reader
+     */
+    public ScoreMatrix scoreAll(CompactMatchingRequest request, MatchingExecutionDTO execution) {
+        long startTime = System.nanoTime();
+        return scoreAll(ScoringIndex.compile(request), request.instance().studentCount(), startTime, execution);
+    }
+
+    private ScoreMatrix scoreAll(ScoringIndex scoring, int studentCount, long startTime,
+                                 MatchingExecutionDTO execution) {
+        long cells = (long) studentCount * scoring.courseCount();
+        ScoreMatrix matrix;
+
+        if (cells >= parallelThreshold && scoringPool.getParallelism() > 1) {
+            int chunkSize = chunkSize(studentCount);
+            matrix = ParallelScoring.buildMatrix(scoring, studentCount, scoringPool, chunkSize);
+            recordParallel(execution, ParallelScoring.chunkCount(studentCount, chunkSize));
+        } else {
+            matrix = scoring.buildMatrix();
+            recordSequential(execution, studentCount);
+        }
+
+        long duration = System.nanoTime() - startTime;
+        metricsService.recordStableScoringTime(duration, TimeUnit.NANOSECONDS);
+        log.debug("Scored {} cells on {} cores in {}ms", cells, execution.getScoringCores(),
+                TimeUnit.NANOSECONDS.toMillis(duration));
+
+        return matrix;
+    }
+
+    /**
+     * Scores only the given {@code (students[i], courses[i])} pairs, recorded under the given algorithm.
+     * Runs in parallel once there are at least {@code parallel-threshold} pairs.
+     */
+    public double[] scorePairs(MatchingAlgorithm algorithm, MatchingRequestDTO request, MatchingInstance instance,
+                               int[] students, int[] courses, MatchingExecutionDTO execution) {
+        long startTime = System.nanoTime();
+
+        ScoringIndex scoring = ScoringIndex.compile(request, instance);
+        double[] scores;
+
+        if (students.length >= parallelThreshold && scoringPool.getParallelism() > 1) {
+            int chunkSize = chunkSize(students.length);
+            scores = ParallelScoring.scorePairs(scoring, students, courses, scoringPool, chunkSize);
+            recordParallel(execution, ParallelScoring.chunkCount(students.length, chunkSize));
+        } else {
+            scores = ParallelScoring.scorePairs(scoring, students, courses);
+            recordSequential(execution, students.length);
+        }
+
+        long duration = System.nanoTime() - startTime;
+        if (algorithm == MatchingAlgorithm.OPTIMAL) {
+            metricsService.recordOptimalScoringTime(duration, TimeUnit.NANOSECONDS);
+        } else {
+            metricsService.recordRandomScoringTime(duration, TimeUnit.NANOSECONDS);
+        }
+        return scores;
+    }
+
+    private int chunkSize(int items) {
+        int chunks = scoringPool.getParallelism() * chunksPerCore;
+        return Math.max(1, (items + chunks - 1) / chunks);
+    }
+
+    private void recordParallel(MatchingExecutionDTO execution, int chunks) {
+        execution.setScoringCores(scoringPool.getParallelism());
+        execution.setScoringChunks(chunks);
+    }
+
+    private void recordSequential(MatchingExecutionDTO execution, int items) {
+        execution.setScoringCores(1);
+        execution.setScoringChunks(items > 0 ? 1 : 0);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.stablematch.service;
+
+/**
+ * Kinds of matchings a simulation can repeat
+ */
+public enum SimulationMode {
+    /**
+     * Seeded random matching, as {@code /api/matching/random}
+     */
+    RANDOM,
+
+    /**
+     * Stable matching over scores shifted by Gaussian noise per student
+     */
+    PERTURBED_STABLE
+}
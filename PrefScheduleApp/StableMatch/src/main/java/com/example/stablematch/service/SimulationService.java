@@ -0,0 +1,147 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.algorithm.MatchingInstance;
+import com.example.stablematch.algorithm.MonteCarloSimulator;
+import com.example.stablematch.algorithm.ScoreMatrix;
+import com.example.stablematch.algorithm.SimulationSummary;
+import com.example.stablematch.dto.CourseSimulationDTO;
+import com.example.stablematch.dto.MatchingExecutionDTO;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.SimulationOutcomeDTO;
+import com.example.stablematch.dto.SimulationResponseDTO;
+import com.example.stablematch.dto.StudentSimulationDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repeats seeded matchings of one request on the scoring pool and reports outcome distributions
+ */
+@Service
+@Slf4j
+public class SimulationService {
+
+    private final ForkJoinPool scoringPool;
+    private final ScoringService scoringService;
+    private final MetricsService metricsService;
+    private final int maxRuns;
+
+    public SimulationService(@Qualifier("scoringPool") ForkJoinPool scoringPool,
+                             ScoringService scoringService,
+                             MetricsService metricsService,
+                             @Value("${stablematch.simulation.max-runs:1000}") int maxRuns) {
+        this.scoringPool = scoringPool;
+        this.scoringService = scoringService;
+        this.metricsService = metricsService;
+        this.maxRuns = maxRuns;
+    }
+
+    /**
+     * Runs {@code runs} matchings of every requested mode and aggregates, per student, the chance of
+     * getting one of the first {@code topK} courses and, per course, the chance of filling up.
+     * Without a seed a fresh one is drawn and reported.
+     *
+     * @throws IllegalArgumentException when runs, topK or noise are out of range
+     */
+    public SimulationResponseDTO simulate(MatchingRequestDTO request, Set<SimulationMode> modes,
+                                          int runs, int topK, double noise, Long seed) {
+        if (runs < 1 || runs > maxRuns) {
+            throw new IllegalArgumentException("Runs must be between 1 and " + maxRuns + ", got " + runs);
+        }
+        if (topK < 1) {
+            throw new IllegalArgumentException("topK must be at least 1, got " + topK);
+        }
+        if (!(noise >= 0)) {
+            throw new IllegalArgumentException("Noise must not be negative, got " + noise);
+        }
+
+        long startTime = System.nanoTime();
+        long effectiveSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+        Set<SimulationMode> selected = modes == null || modes.isEmpty()
+                ? EnumSet.allOf(SimulationMode.class)
+                : EnumSet.copyOf(modes);
+        int workers = scoringPool.getParallelism();
+
+        log.info("Starting simulation of {} x {} runs for {} students and {} courses (seed {})",
+                selected, runs, request.getStudentPreferences().size(), request.getCourses().size(), effectiveSeed);
+
+        MatchingInstance instance = MatchingInstance.from(request);
+        List<SimulationOutcomeDTO> outcomes = new ArrayList<>(selected.size());
+        for (SimulationMode mode : selected) {
+            long modeStart = System.nanoTime();
+            SimulationSummary summary = switch (mode) {
+                case RANDOM -> MonteCarloSimulator.runRandom(instance, runs, topK, effectiveSeed,
+                        scoringPool, workers);
+                case PERTURBED_STABLE -> {
+                    ScoreMatrix scores = scoringService.scoreAll(request, instance, new MatchingExecutionDTO());
+                    yield MonteCarloSimulator.runPerturbedStable(instance, scores, runs, topK, noise,
+                            effectiveSeed, scoringPool, workers);
+                }
+            };
+
+            long modeDuration = System.nanoTime() - modeStart;
+            metricsService.recordSimulation(mode.name().toLowerCase(), runs, modeDuration, TimeUnit.NANOSECONDS);
+            outcomes.add(toDto(mode, instance, summary, modeDuration));
+        }
+
+        long duration = System.nanoTime() - startTime;
+        log.info("Simulation completed: {} runs of {} in {}ms", runs, selected, TimeUnit.NANOSECONDS.toMillis(duration));
+
+        return SimulationResponseDTO.builder()
+                .packId(request.getPackId())
+                .runs(runs)
+                .topK(topK)
+                .noise(selected.contains(SimulationMode.PERTURBED_STABLE) ? noise : null)
+                .seed(effectiveSeed)
+                .workers(workers)
+                .outcomes(outcomes)
+                .durationMs(TimeUnit.NANOSECONDS.toMillis(duration))
+                .build();
+    }
+
+    private static SimulationOutcomeDTO toDto(SimulationMode mode, MatchingInstance instance,
+                                              SimulationSummary summary, long duration) {
+        double runs = summary.runs();
+
+        List<StudentSimulationDTO> students = new ArrayList<>(instance.studentCount());
+        for (int s = 0; s < instance.studentCount(); s++) {
+            int listed = summary.listedRuns(s);
+            students.add(StudentSimulationDTO.builder()
+                    .studentCode(instance.studentCode(s))
+                    .topKProbability(summary.topKRuns(s) / runs)
+                    .unassignedProbability(summary.unassignedRuns(s) / runs)
+                    .meanRank(listed > 0 ? (double) summary.rankSum(s) / listed : null)
+                    .build());
+        }
+
+        long assigned = 0;
+        List<CourseSimulationDTO> courses = new ArrayList<>(instance.courseCount());
+        for (int c = 0; c < instance.courseCount(); c++) {
+            assigned += summary.loadSum(c);
+            courses.add(CourseSimulationDTO.builder()
+                    .courseCode(instance.courseCode(c))
+                    .capacity(instance.capacity(c))
+                    .filledRuns(summary.filledRuns(c))
+                    .fillProbability(summary.filledRuns(c) / runs)
+                    .meanLoad(summary.loadSum(c) / runs)
+                    .build());
+        }
+
+        return SimulationOutcomeDTO.builder()
+                .mode(mode.name())
+                .meanAssigned(assigned / runs)
+                .students(students)
+                .courses(courses)
+                .durationMs(TimeUnit.NANOSECONDS.toMillis(duration))
+                .build();
+    }
+}
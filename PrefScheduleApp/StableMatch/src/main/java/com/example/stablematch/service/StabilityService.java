@@ -0,0 +1,141 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.algorithm.MatchingInstance;
+import com.example.stablematch.algorithm.ScoringIndex;
+import com.example.stablematch.algorithm.StabilityReport;
+import com.example.stablematch.algorithm.StabilityVerifier;
+import com.example.stablematch.dto.AssignmentDTO;
+import com.example.stablematch.dto.BlockingPairDTO;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.StabilityReportDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks matchings for blocking pairs against their request, on the scoring pool for large requests
+ */
+@Service
+@Slf4j
+public class StabilityService {
+
+    private final ForkJoinPool scoringPool;
+    private final MetricsService metricsService;
+    private final int parallelThreshold;
+    private final int maxPairs;
+
+    public StabilityService(@Qualifier("scoringPool") ForkJoinPool scoringPool,
+                            MetricsService metricsService,
+                            @Value("${stablematch.verification.parallel-threshold:20000}") int parallelThreshold,
+                            @Value("${stablematch.verification.max-pairs:1000}") int maxPairs) {
+        this.scoringPool = scoringPool;
+        this.metricsService = metricsService;
+        this.parallelThreshold = parallelThreshold;
+        this.maxPairs = maxPairs;
+    }
+
+    /**
+     * Checks the assignments of a matching against its request. Scores are computed per pair, so no
+     * score matrix is built. When {@code sampleSize} is given and smaller than the number of students,
+     * only that many students, drawn with {@code seed}, are checked.
+     *
+     * @throws IllegalArgumentException when an assignment names an unknown student or course, or a student twice
+     */
+    public StabilityReportDTO verify(MatchingRequestDTO request, List<AssignmentDTO> assignments,
+                                     Integer sampleSize, Long seed, int reportedPairs) {
+        long startTime = System.nanoTime();
+
+        MatchingInstance instance = MatchingInstance.from(request);
+        int[] assignedCourse = assignedCourses(instance, assignments);
+        ScoringIndex scoring = ScoringIndex.compile(request, instance);
+
+        int studentCount = instance.studentCount();
+        int[] students = sampleSize != null && sampleSize < studentCount
+                ? StabilityVerifier.sample(studentCount, sampleSize, seed != null ? seed : System.nanoTime())
+                : null;
+        boolean parallel = studentCount >= parallelThreshold && scoringPool.getParallelism() > 1;
+        int chunkSize = Math.max(1, studentCount / (scoringPool.getParallelism() * 4));
+
+        StabilityReport report = StabilityVerifier.verify(instance, scoring::score, assignedCourse, students,
+                Math.min(Math.max(reportedPairs, 0), maxPairs), parallel ? scoringPool : null, chunkSize);
+
+        long duration = System.nanoTime() - startTime;
+        metricsService.recordVerification(duration, TimeUnit.NANOSECONDS, report.isStable());
+        log.info("Verified {} of {} students: {} blocking pairs, {} overfull courses in {}ms",
+                report.checkedStudents(), studentCount, report.blockingPairs(), report.overCapacityCourses(),
+                TimeUnit.NANOSECONDS.toMillis(duration));
+
+        return toDto(instance, assignedCourse, report, parallel ? scoringPool.getParallelism() : 1, duration);
+    }
+
+    private static int[] assignedCourses(MatchingInstance instance, List<AssignmentDTO> assignments) {
+        Map<String, Integer> studentIndex = new HashMap<>(instance.studentCount() * 2);
+        for (int s = 0; s < instance.studentCount(); s++) {
+            studentIndex.put(instance.studentCode(s), s);
+        }
+
+        int[] assignedCourse = new int[instance.studentCount()];
+        Arrays.fill(assignedCourse, -1);
+        for (AssignmentDTO assignment : assignments) {
+            Integer student = studentIndex.get(assignment.getStudentCode());
+            if (student == null) {
+                throw new IllegalArgumentException("Unknown student in assignments: " + assignment.getStudentCode());
+            }
+            int course = instance.courseId(assignment.getCourseCode());
+            if (course < 0) {
+                throw new IllegalArgumentException("Unknown course in assignments: " + assignment.getCourseCode());
+            }
+            if (assignedCourse[student] >= 0) {
+                throw new IllegalArgumentException("Student assigned twice: " + assignment.getStudentCode());
+            }
+            assignedCourse[student] = course;
+        }
+        return assignedCourse;
+    }
+
+    private static StabilityReportDTO toDto(MatchingInstance instance, int[] assignedCourse,
+                                            StabilityReport report, int cores, long duration) {
+        List<BlockingPairDTO> pairs = new ArrayList<>(report.reportedCount());
+        for (int i = 0; i < report.reportedCount(); i++) {
+            int student = report.blockingStudent(i);
+            int course = report.blockingCourse(i);
+            int assigned = assignedCourse[student];
+            boolean full = report.load(course) >= instance.capacity(course);
+
+            pairs.add(BlockingPairDTO.builder()
+                    .studentCode(instance.studentCode(student))
+                    .courseCode(instance.courseCode(course))
+                    .preferenceRank(instance.rankOf(student, course))
+                    .assignedCourseCode(assigned >= 0 ? instance.courseCode(assigned) : null)
+                    .assignedRank(assigned >= 0 && instance.rankOf(student, assigned) >= 0
+                            ? instance.rankOf(student, assigned) : null)
+                    .studentScore(report.blockingScore(i))
+                    .weakestScore(full ? report.weakestScore(course) : null)
+                    .build());
+        }
+
+        return StabilityReportDTO.builder()
+                .stable(report.isStable())
+                .sampled(report.isSampled())
+                .checkedStudents(report.checkedStudents())
+                .totalStudents(report.totalStudents())
+                .blockingPairCount(report.blockingPairs())
+                .blockingStudentCount(report.blockingStudents())
+                .blockingStudentRate(report.checkedStudents() > 0
+                        ? (double) report.blockingStudents() / report.checkedStudents() : 0.0)
+                .overCapacityCourses(report.overCapacityCourses())
+                .blockingPairs(pairs)
+                .verifierCores(cores)
+                .durationMs(TimeUnit.NANOSECONDS.toMillis(duration))
+                .build();
+    }
+}
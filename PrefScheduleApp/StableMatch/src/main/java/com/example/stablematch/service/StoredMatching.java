@@ -0,0 +1,83 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.dto.AssignmentDTO;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.MatchingResponseDTO;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Snapshot of a registered matching with prebuilt lookup indexes.
+ * All fields are final and built before the snapshot is published, so readers on any thread see a complete index.
+ * The indexes are unmodifiable, but the request, response and assignment DTOs are the mutable objects that
+ * were registered and are shared, not copied: callers must treat them as read-only once stored.
+ */
+@Getter
+public final class StoredMatching {
+
+    private final String matchingId;
+    private final Long packId;
+    private final long version;
+    private final Instant createdAt;
+    private final MatchingResponseDTO response;
+    private final MatchingRequestDTO request;
+    private final Map<String, AssignmentDTO> assignmentsByStudent;
+    private final Map<String, List<AssignmentDTO>> assignmentsByCourse;
+
+    StoredMatching(String matchingId, Long packId, long version,
+                   MatchingRequestDTO request, MatchingResponseDTO response) {
+        this.matchingId = matchingId;
+        this.packId = packId;
+        this.version = version;
+        this.createdAt = Instant.now();
+        this.response = response;
+        this.request = request;
+
+        List<AssignmentDTO> assignments = response.getAssignments() != null
+                ? response.getAssignments()
+                : Collections.emptyList();
+        Map<String, AssignmentDTO> byStudent = new HashMap<>(assignments.size() * 2);
+        Map<String, List<AssignmentDTO>> byCourse = new HashMap<>();
+
+        for (AssignmentDTO assignment : assignments) {
+            byStudent.put(assignment.getStudentCode(), assignment);
+            byCourse.computeIfAbsent(assignment.getCourseCode(), c -> new ArrayList<>()).add(assignment);
+        }
+        byCourse.replaceAll((course, list) -> Collections.unmodifiableList(list));
+
+        this.assignmentsByStudent = Collections.unmodifiableMap(byStudent);
+        this.assignmentsByCourse = Collections.unmodifiableMap(byCourse);
+    }
+
+    public AssignmentDTO assignmentForStudent(String studentCode) {
+        return assignmentsByStudent.get(studentCode);
+    }
+
+    public List<AssignmentDTO> assignmentsForCourse(String courseCode) {
+        return assignmentsByCourse.getOrDefault(courseCode, Collections.emptyList());
+    }
+
+    public int assignmentCount() {
+        return assignmentsByStudent.size();
+    }
+
+    /**
+     * Whether the originating request was kept, which is what allows the matching to be repaired
+     */
+    public boolean isRepairable() {
+        return request != null;
+    }
+
+    /**
+     * Approximate footprint in rows: stored assignments plus the students of a kept request
+     */
+    long retainedRows() {
+        return assignmentCount() + (request != null ? request.getStudentPreferences().size() : 0);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.algorithm.MatchingInstance;
+import com.example.stablematch.algorithm.MatchingOutcome;
+import com.example.stablematch.algorithm.ScoreMatrix;
+import com.example.stablematch.dto.MatchingExecutionDTO;
+import com.example.stablematch.dto.MatchingStatisticsDTO;
+import lombok.Getter;
+
+import java.io.IOException;
+
+/**
+ * Finished stable matching that is still held in the engine's arrays, so a streaming endpoint can
+ * write assignments one by one instead of building the whole assignment list first.
+ */
+public final class StreamedMatching {
+
+    private final MatchingInstance instance;
+    private final ScoreMatrix scores;
+    private final MatchingOutcome outcome;
+    @Getter
+    private final MatchingStatisticsDTO statistics;
+    @Getter
+    private final MatchingExecutionDTO execution;
+
+    StreamedMatching(MatchingInstance instance, ScoreMatrix scores, MatchingOutcome outcome,
+                     MatchingStatisticsDTO statistics, MatchingExecutionDTO execution) {
+        this.instance = instance;
+        this.scores = scores;
+        this.outcome = outcome;
+        this.statistics = statistics;
+        this.execution = execution;
+    }
+
+    /**
+     * Receives one assignment at a time
+     */
+    @FunctionalInterface
+    public interface AssignmentWriter {
+        void write(String studentCode, String courseCode, int preferenceRank, double studentScore) throws IOException;
+    }
+
+    /**
+     * Visits the assignments grouped per course in request order, the order of the buffered stable response
+     */
+    public void forEachAssignment(AssignmentWriter writer) throws IOException {
+        for (int c = 0; c < instance.courseCount(); c++) {
+            String courseCode = instance.courseCode(c);
+            for (int i = outcome.memberStart(c); i < outcome.memberEnd(c); i++) {
+                int student = outcome.member(i);
+                writer.write(instance.studentCode(student), courseCode,
+                        outcome.assignedRank(student), scores.score(student, c));
+            }
+        }
+    }
+}
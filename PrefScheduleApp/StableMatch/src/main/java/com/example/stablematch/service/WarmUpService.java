@@ -0,0 +1,195 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.algorithm.SyntheticRequestGenerator;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.MatchingResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs synthetic stable, random and statistics workloads at startup so the first real requests
+ * do not run in the interpreter.
+ * <p>
+ * Spring Boot only switches readiness to accepting traffic after every {@link ApplicationRunner}
+ * has finished, and {@code WarmUpHealthIndicator} reports out of service until then, so Eureka
+ * keeps the instance out of the registry the gateway and PrefSchedule balance over.
+ * The workloads run on a private {@link MatchingService} with its own meter registry:
+ * they share the scoring pool and the compiled code with real requests but not their metrics.
+ */
+@Service
+@Slf4j
+public class WarmUpService implements ApplicationRunner {
+
+    private final ForkJoinPool scoringPool;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+    private final boolean enabled;
+    private final int students;
+    private final int courses;
+    private final int iterations;
+    private final long seed;
+    private final long parallelThreshold;
+    private final int chunksPerCore;
+
+    private volatile WarmUpState state = WarmUpState.PENDING;
+    private volatile int completedIterations;
+    private volatile long durationMs;
+    private volatile Map<String, Map<String, Long>> timings = Map.of();
+
+    public WarmUpService(@Qualifier("scoringPool") ForkJoinPool scoringPool,
+                         ObjectMapper objectMapper,
+                         ObjectProvider<ApplicationInfoManager> applicationInfoManager,
+                         @Value("${stablematch.warmup.enabled:true}") boolean enabled,
+                         @Value("${stablematch.warmup.students:2000}") int students,
+                         @Value("${stablematch.warmup.courses:40}") int courses,
+                         @Value("${stablematch.warmup.iterations:5}") int iterations,
+                         @Value("${stablematch.warmup.seed:42}") long seed,
+                         @Value("${stablematch.scoring.parallel-threshold:200000}") long parallelThreshold,
+                         @Value("${stablematch.scoring.chunks-per-core:4}") int chunksPerCore) {
+        this.scoringPool = scoringPool;
+        this.objectMapper = objectMapper;
+        this.applicationInfoManager = applicationInfoManager;
+        this.enabled = enabled;
+        this.students = students;
+        this.courses = courses;
+        this.iterations = iterations;
+        this.seed = seed;
+        this.parallelThreshold = parallelThreshold;
+        this.chunksPerCore = chunksPerCore;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        warmUp();
+    }
+
+    /**
+     * Runs every workload {@code iterations} times and keeps the first and last duration of each.
+     * A failing workload is logged and ends the warm-up early; it never keeps the instance from starting.
+     */
+    public void warmUp() {
+        if (!enabled || iterations < 1) {
+            state = WarmUpState.DISABLED;
+            log.info("Warm-up disabled");
+            return;
+        }
+
+        state = WarmUpState.RUNNING;
+        long startTime = System.nanoTime();
+        log.info("Starting warm-up: {} iterations over {} students and {} courses",
+                iterations, students, courses);
+
+        MetricsService isolatedMetrics = new MetricsService(new SimpleMeterRegistry());
+        MatchingService matchingService = new MatchingService(isolatedMetrics,
+                new ScoringService(scoringPool, isolatedMetrics, parallelThreshold, chunksPerCore));
+        Map<String, Map<String, Long>> results = new LinkedHashMap<>();
+
+        try {
+            for (int iteration = 0; iteration < iterations; iteration++) {
+                long iterationSeed = seed + iteration;
+                MatchingRequestDTO request = SyntheticRequestGenerator.generate(iterationSeed, students, courses,
+                        SyntheticRequestGenerator.Popularity.SKEWED);
+
+                MatchingResponseDTO stable = null;
+                for (MatchingEngine engine : MatchingEngine.values()) {
+                    stable = time(results, "stable-" + engine.name().toLowerCase(), iteration,
+                            () -> matchingService.createStableMatching(request, engine));
+                }
+                MatchingResponseDTO random = time(results, "random", iteration,
+                        () -> matchingService.createRandomMatching(request, iterationSeed));
+
+                MatchingResponseDTO finalStable = stable;
+                time(results, "statistics", iteration, () -> {
+                    matchingService.calculateStatistics(request.getStudentPreferences().size(),
+                            finalStable.getAssignments(), finalStable.getStatistics().getCourseAssignmentCounts());
+                    matchingService.calculateStatistics(request.getStudentPreferences().size(),
+                            random.getAssignments(), random.getStatistics().getCourseAssignmentCounts());
+                    return objectMapper.writeValueAsBytes(finalStable).length
+                            + objectMapper.writeValueAsBytes(random).length;
+                });
+                completedIterations = iteration + 1;
+            }
+            state = WarmUpState.COMPLETED;
+        } catch (Exception e) {
+            state = WarmUpState.FAILED;
+            log.warn("Warm-up failed after {} iterations, continuing startup", completedIterations, e);
+        }
+
+        durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        timings = Collections.unmodifiableMap(results);
+        log.info("Warm-up {} in {}ms after {} iterations", state.name().toLowerCase(), durationMs, completedIterations);
+        results.forEach((workload, times) -> log.info("Warm-up {}: first {}ms, last {}ms",
+                workload, times.get("firstMs"), times.get("lastMs")));
+    }
+
+    /**
+     * Asks Eureka to publish the instance as soon as it accepts traffic, instead of waiting for the next
+     * replication interval to pick up the health status
+     */
+    @EventListener
+    public void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() != ReadinessState.ACCEPTING_TRAFFIC) {
+            return;
+        }
+        applicationInfoManager.ifAvailable(manager -> {
+            log.info("Instance ready, marking it UP in Eureka");
+            manager.setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+        });
+    }
+
+    private static <T> T time(Map<String, Map<String, Long>> results, String workload, int iteration,
+                              Callable<T> task) throws Exception {
+        long startTime = System.nanoTime();
+        T result = task.call();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        Map<String, Long> times = results.computeIfAbsent(workload, k -> new LinkedHashMap<>());
+        if (iteration == 0) {
+            times.put("firstMs", elapsedMs);
+        }
+        times.put("lastMs", elapsedMs);
+        return result;
+    }
+
+    public WarmUpState getState() {
+        return state;
+    }
+
+    public int getCompletedIterations() {
+        return completedIterations;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    /**
+     * First and last duration of every workload, in milliseconds
+     */
+    public Map<String, Map<String, Long>> getTimings() {
+        return timings;
+    }
+}
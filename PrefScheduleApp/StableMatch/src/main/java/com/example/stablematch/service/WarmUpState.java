@@ -0,0 +1,12 @@
+package com.example.stablematch.service;
+
+/**
+ * Progress of the startup warm-up; the instance is ready once it is no longer pending or running
+ */
+public enum WarmUpState {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    DISABLED
+}
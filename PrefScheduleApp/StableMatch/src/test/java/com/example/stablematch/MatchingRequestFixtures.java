@@ -0,0 +1,108 @@
+package com.example.stablematch;
+
+import com.example.stablematch.dto.*;
+
+import java.util.*;
+
+/**
+ * Seeded matching requests shared by the algorithm tests
+ */
+public final class MatchingRequestFixtures {
+
+    private MatchingRequestFixtures() {
+    }
+
+    public static MatchingRequestDTO randomRequest(long seed, int studentCount, int courseCount) {
+        Random random = new Random(seed);
+        String[] abbreviations = {"MATH", "OOP", "ALG", "DB", "OS", "NET"};
+
+        List<CourseCapacityDTO> courses = new ArrayList<>();
+        List<InstructorPreferenceDTO> instructorPreferences = new ArrayList<>();
+        List<String> courseCodes = new ArrayList<>();
+        for (int c = 0; c < courseCount; c++) {
+            String code = "CO" + c;
+            courseCodes.add(code);
+            courses.add(CourseCapacityDTO.builder()
+                    .courseCode(code)
+                    .capacity(1 + random.nextInt(2 * studentCount / courseCount))
+                    .build());
+
+            Map<String, Double> weights = new LinkedHashMap<>();
+            for (String abbr : abbreviations) {
+                if (random.nextInt(3) == 0) {
+                    weights.put(abbr, (double) (1 + random.nextInt(100)));
+                }
+            }
+            instructorPreferences.add(InstructorPreferenceDTO.builder()
+                    .courseCode(code)
+                    .gradeWeights(weights)
+                    .build());
+        }
+
+        List<StudentPreferenceDTO> students = new ArrayList<>();
+        for (int s = 0; s < studentCount; s++) {
+            List<String> preferred = new ArrayList<>(courseCodes);
+            Collections.shuffle(preferred, random);
+
+            Map<String, Double> grades = new LinkedHashMap<>();
+            for (String abbr : abbreviations) {
+                if (random.nextInt(4) != 0) {
+                    grades.put(abbr, 5.0 + random.nextInt(501) / 100.0);
+                }
+            }
+            students.add(StudentPreferenceDTO.builder()
+                    .studentCode(String.format("STU%05d", s))
+                    .preferredCourses(preferred.subList(0, 1 + random.nextInt(courseCount)))
+                    .courseGrades(grades)
+                    .build());
+        }
+
+        return MatchingRequestDTO.builder()
+                .studentPreferences(students)
+                .courses(courses)
+                .instructorPreferences(instructorPreferences)
+                .build();
+    }
+
+    /**
+     * Gives every student a distinct random grade in every subject and every course a weight for each,
+     * so scores never tie and the student-optimal stable matching is unique
+     */
+    public static MatchingRequestDTO withoutTies(MatchingRequestDTO request, long seed) {
+        Random random = new Random(seed);
+        for (StudentPreferenceDTO student : request.getStudentPreferences()) {
+            Map<String, Double> grades = new HashMap<>();
+            for (String abbr : List.of("MATH", "OOP", "ALG", "DB", "OS", "NET")) {
+                grades.put(abbr, 5.0 + 5.0 * random.nextDouble());
+            }
+            student.setCourseGrades(grades);
+        }
+        for (InstructorPreferenceDTO preference : request.getInstructorPreferences()) {
+            Map<String, Double> weights = new LinkedHashMap<>();
+            for (String abbr : List.of("MATH", "OOP", "ALG", "DB", "OS", "NET")) {
+                weights.put(abbr, 1.0 + random.nextInt(100));
+            }
+            preference.setGradeWeights(weights);
+        }
+        return request;
+    }
+
+    /**
+     * Gives every student a grade of 5, 7 or 9 in every subject and every course the same weights,
+     * so most courses see long runs of students with exactly the same score
+     */
+    public static MatchingRequestDTO withManyTies(MatchingRequestDTO request, long seed) {
+        Random random = new Random(seed);
+        for (StudentPreferenceDTO student : request.getStudentPreferences()) {
+            Map<String, Double> grades = new HashMap<>();
+            for (String abbr : List.of("MATH", "OOP", "ALG", "DB", "OS", "NET")) {
+                grades.put(abbr, 5.0 + 2 * random.nextInt(3));
+            }
+            student.setCourseGrades(grades);
+        }
+        for (InstructorPreferenceDTO preference : request.getInstructorPreferences()) {
+            preference.setGradeWeights(new LinkedHashMap<>(Map.of("MATH", 1.0, "OOP", 1.0)));
+        }
+        return request;
+    }
+}
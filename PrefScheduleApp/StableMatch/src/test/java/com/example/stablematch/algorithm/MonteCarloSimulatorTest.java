@@ -0,0 +1,120 @@
+package com.example.stablematch.algorithm;
+
+import com.example.stablematch.dto.MatchingRequestDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static com.example.stablematch.MatchingRequestFixtures.randomRequest;
+import static com.example.stablematch.MatchingRequestFixtures.withManyTies;
+import static com.example.stablematch.MatchingRequestFixtures.withoutTies;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MonteCarloSimulatorTest {
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: Without noise every perturbed stable run is the stable matching")
+    void testRunPerturbedStable_NoNoiseIsStableMatching() {
+        // Given
+        MatchingRequestDTO request = withoutTies(randomRequest(61, 300, 9), 61);
+
+        // When / Then
+        assertNoNoiseMatchesStable(request);
+    }
+
+    @Test
+    @DisplayName("Happy Path: The same seed gives the same totals on one worker or several")
+    void testRun_IndependentOfWorkers() {
+        // Given
+        MatchingRequestDTO request = randomRequest(62, 400, 10);
+        MatchingInstance instance = MatchingInstance.from(request);
+        ScoreMatrix scores = ScoringIndex.compile(request, instance).buildMatrix();
+
+        // When
+        SimulationSummary randomOne = MonteCarloSimulator.runRandom(instance, 30, 3, 9L, pool, 1);
+        SimulationSummary randomMany = MonteCarloSimulator.runRandom(instance, 30, 3, 9L, pool, 4);
+        SimulationSummary stableOne = MonteCarloSimulator.runPerturbedStable(instance, scores, 30, 3, 0.5, 9L, pool, 1);
+        SimulationSummary stableMany = MonteCarloSimulator.runPerturbedStable(instance, scores, 30, 3, 0.5, 9L, pool, 3);
+
+        // Then
+        for (int s = 0; s < instance.studentCount(); s++) {
+            assertThat(randomMany.topKRuns(s)).isEqualTo(randomOne.topKRuns(s));
+            assertThat(randomMany.rankSum(s)).isEqualTo(randomOne.rankSum(s));
+            assertThat(stableMany.topKRuns(s)).isEqualTo(stableOne.topKRuns(s));
+            assertThat(stableMany.unassignedRuns(s)).isEqualTo(stableOne.unassignedRuns(s));
+        }
+        for (int c = 0; c < instance.courseCount(); c++) {
+            assertThat(randomMany.filledRuns(c)).isEqualTo(randomOne.filledRuns(c));
+            assertThat(stableMany.loadSum(c)).isEqualTo(stableOne.loadSum(c));
+        }
+    }
+
+    // ============ EDGE CASE TESTS ============
+
+    @Test
+    @DisplayName("Edge Case: Random runs seat exactly as many students as the capacities allow")
+    void testRunRandom_SeatsUpToCapacity() {
+        // Given
+        MatchingInstance instance = MatchingInstance.from(randomRequest(63, 500, 4));
+        long capacity = 0;
+        for (int c = 0; c < instance.courseCount(); c++) {
+            capacity += instance.capacity(c);
+        }
+
+        // When
+        SimulationSummary summary = MonteCarloSimulator.runRandom(instance, 20, 1, 3L, pool, 4);
+
+        // Then
+        long seated = 0;
+        for (int c = 0; c < instance.courseCount(); c++) {
+            seated += summary.loadSum(c);
+            assertThat(summary.loadSum(c)).isLessThanOrEqualTo(20L * instance.capacity(c));
+        }
+        assertThat(seated).isEqualTo(20L * Math.min(capacity, instance.studentCount()));
+    }
+
+    @Test
+    @DisplayName("Edge Case: Without noise tied scores go to the lower student index, as in the stable engine")
+    void testRunPerturbedStable_NoNoiseBreaksTiesLikeEngine() {
+        // Given
+        MatchingRequestDTO request = withManyTies(randomRequest(64, 400, 6), 64);
+
+        // When / Then
+        assertNoNoiseMatchesStable(request);
+    }
+
+    private void assertNoNoiseMatchesStable(MatchingRequestDTO request) {
+        MatchingInstance instance = MatchingInstance.from(request);
+        ScoreMatrix scores = ScoringIndex.compile(request, instance).buildMatrix();
+        MatchingOutcome stable = GaleShapleyEngine.run(instance, scores);
+
+        SimulationSummary summary = MonteCarloSimulator.runPerturbedStable(instance, scores, 12, 2, 0.0, 5L, pool, 4);
+
+        for (int s = 0; s < instance.studentCount(); s++) {
+            int rank = stable.assignedRank(s);
+            assertThat(summary.unassignedRuns(s)).isEqualTo(stable.assignedCourse(s) < 0 ? 12 : 0);
+            assertThat(summary.topKRuns(s)).isEqualTo(rank >= 0 && rank < 2 ? 12 : 0);
+            assertThat(summary.rankSum(s)).isEqualTo(rank >= 0 ? 12L * rank : 0L);
+        }
+        for (int c = 0; c < instance.courseCount(); c++) {
+            assertThat(summary.loadSum(c)).isEqualTo(12L * (stable.memberEnd(c) - stable.memberStart(c)));
+        }
+    }
+}
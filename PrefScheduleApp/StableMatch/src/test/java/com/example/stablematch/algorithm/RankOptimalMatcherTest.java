@@ -0,0 +1,175 @@
+package com.example.stablematch.algorithm;
+
+import com.example.stablematch.dto.MatchingRequestDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.example.stablematch.MatchingRequestFixtures.randomRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankOptimalMatcherTest {
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: Matcher reaches the assigned count and total rank of a reference min-cost flow")
+    void testRun_MatchesReferenceMinCostFlow() {
+        for (long seed = 1; seed <= 40; seed++) {
+            // Given
+            MatchingInstance instance = MatchingInstance.from(randomRequest(seed, 20 + (int) seed * 3, 2 + (int) seed % 7));
+
+            // When
+            MatchingOutcome outcome = RankOptimalMatcher.run(instance);
+
+            // Then
+            long[] reference = referenceMinCostFlow(instance);
+            assertThat(outcome.assignedCount()).as("assigned, seed %d", seed).isEqualTo((int) reference[0]);
+            assertThat(totalRank(instance, outcome)).as("total rank, seed %d", seed).isEqualTo(reference[1]);
+            assertValid(instance, outcome);
+        }
+    }
+
+    @Test
+    @DisplayName("Happy Path: Matcher never does worse than stable matching on count or total rank")
+    void testRun_NoWorseThanStable() {
+        // Given
+        MatchingRequestDTO request = randomRequest(99, 3000, 25);
+        MatchingInstance instance = MatchingInstance.from(request);
+        ScoreMatrix scores = ScoringIndex.compile(request, instance).buildMatrix();
+
+        // When
+        MatchingOutcome optimal = RankOptimalMatcher.run(instance);
+        MatchingOutcome stable = GaleShapleyEngine.run(instance, scores);
+
+        // Then
+        assertValid(instance, optimal);
+        assertThat(optimal.assignedCount()).isGreaterThanOrEqualTo(stable.assignedCount());
+        if (optimal.assignedCount() == stable.assignedCount()) {
+            assertThat(totalRank(instance, optimal)).isLessThanOrEqualTo(totalRank(instance, stable));
+        }
+    }
+
+    // ============ EDGE CASE TESTS ============
+
+    @Test
+    @DisplayName("Edge Case: Two students wanting one seat first, the flexible one moves to its second choice")
+    void testRun_MovesFlexibleStudent() {
+        // Given
+        MatchingInstance instance = MatchingInstance.of(
+                new String[]{"STU1", "STU2"},
+                new String[]{"CO1", "CO2"},
+                new int[]{1, 1},
+                new int[]{0, 2, 3},
+                new int[]{0, 1, 0});
+
+        // When
+        MatchingOutcome outcome = RankOptimalMatcher.run(instance);
+
+        // Then
+        assertThat(outcome.assignedCourse(0)).isEqualTo(1);
+        assertThat(outcome.assignedCourse(1)).isEqualTo(0);
+        assertThat(totalRank(instance, outcome)).isEqualTo(1);
+    }
+
+    private static void assertValid(MatchingInstance instance, MatchingOutcome outcome) {
+        int[] load = new int[instance.courseCount()];
+        for (int s = 0; s < instance.studentCount(); s++) {
+            int course = outcome.assignedCourse(s);
+            if (course >= 0) {
+                load[course]++;
+                assertThat(outcome.assignedRank(s)).isEqualTo(instance.rankOf(s, course)).isNotNegative();
+            }
+        }
+        for (int c = 0; c < instance.courseCount(); c++) {
+            assertThat(load[c]).isLessThanOrEqualTo(instance.capacity(c))
+                    .isEqualTo(outcome.memberEnd(c) - outcome.memberStart(c));
+        }
+    }
+
+    private static long totalRank(MatchingInstance instance, MatchingOutcome outcome) {
+        long total = 0;
+        for (int s = 0; s < instance.studentCount(); s++) {
+            if (outcome.assignedCourse(s) >= 0) {
+                total += outcome.assignedRank(s);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Textbook successive shortest paths with Bellman-Ford on the explicit student/course graph
+     */
+    private static long[] referenceMinCostFlow(MatchingInstance instance) {
+        int students = instance.studentCount();
+        int courses = instance.courseCount();
+        int source = students + courses;
+        int sink = source + 1;
+        int nodes = sink + 1;
+
+        List<int[]> edges = new ArrayList<>();
+        List<List<Integer>> adjacency = new ArrayList<>();
+        for (int v = 0; v < nodes; v++) {
+            adjacency.add(new ArrayList<>());
+        }
+        for (int s = 0; s < students; s++) {
+            addEdge(edges, adjacency, source, s, 1, 0);
+            for (int slot = instance.prefStart(s); slot < instance.prefEnd(s); slot++) {
+                addEdge(edges, adjacency, s, students + instance.prefCourse(slot), 1, instance.prefRank(slot));
+            }
+        }
+        for (int c = 0; c < courses; c++) {
+            addEdge(edges, adjacency, students + c, sink, instance.capacity(c), 0);
+        }
+
+        long flow = 0;
+        long cost = 0;
+        while (true) {
+            long[] dist = new long[nodes];
+            int[] via = new int[nodes];
+            boolean[] queued = new boolean[nodes];
+            Arrays.fill(dist, Long.MAX_VALUE);
+            Arrays.fill(via, -1);
+            dist[source] = 0;
+            ArrayDeque<Integer> queue = new ArrayDeque<>(List.of(source));
+            while (!queue.isEmpty()) {
+                int u = queue.poll();
+                queued[u] = false;
+                for (int e : adjacency.get(u)) {
+                    int[] edge = edges.get(e);
+                    if (edge[1] > 0 && dist[u] + edge[2] < dist[edge[0]]) {
+                        dist[edge[0]] = dist[u] + edge[2];
+                        via[edge[0]] = e;
+                        if (!queued[edge[0]]) {
+                            queued[edge[0]] = true;
+                            queue.add(edge[0]);
+                        }
+                    }
+                }
+            }
+            if (dist[sink] == Long.MAX_VALUE) {
+                return new long[]{flow, cost};
+            }
+            for (int v = sink; v != source; v = edges.get(via[v] ^ 1)[0]) {
+                edges.get(via[v])[1]--;
+                edges.get(via[v] ^ 1)[1]++;
+            }
+            flow++;
+            cost += dist[sink];
+        }
+    }
+
+    /**
+     * Edges are {to, residual capacity, cost}; edge e and e ^ 1 are each other's reverse
+     */
+    private static void addEdge(List<int[]> edges, List<List<Integer>> adjacency, int from, int to, int capacity, int cost) {
+        adjacency.get(from).add(edges.size());
+        edges.add(new int[]{to, capacity, cost});
+        adjacency.get(to).add(edges.size());
+        edges.add(new int[]{from, 0, -cost});
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.stablematch.algorithm;
+
+import com.example.stablematch.dto.InstructorPreferenceDTO;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.StudentPreferenceDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.example.stablematch.MatchingRequestFixtures.randomRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoringIndexTest {
+
+    @Test
+    @DisplayName("Happy Path: Dense matrix is bit-identical to the per-pair weighted average")
+    void testBuildMatrix_MatchesPerPairScore() {
+        // Given
+        MatchingRequestDTO request = randomRequest(7, 200, 15);
+        MatchingInstance instance = MatchingInstance.from(request);
+
+        // When
+        ScoringIndex scoring = ScoringIndex.compile(request, instance);
+        ScoreMatrix matrix = scoring.buildMatrix();
+
+        // Then
+        for (int s = 0; s < instance.studentCount(); s++) {
+            for (int c = 0; c < instance.courseCount(); c++) {
+                double expected = referenceScore(request.getStudentPreferences().get(s),
+                        instance.courseCode(c), request.getInstructorPreferences());
+                assertThat(Double.doubleToRawLongBits(matrix.score(s, c)))
+                        .isEqualTo(Double.doubleToRawLongBits(expected));
+                assertThat(Double.doubleToRawLongBits(scoring.score(s, c)))
+                        .isEqualTo(Double.doubleToRawLongBits(expected));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Happy Path: Parallel scoring is bit-identical to sequential scoring")
+    void testParallelScoring_MatchesSequential() {
+        // Given
+        MatchingRequestDTO request = randomRequest(5, 1000, 20);
+        MatchingInstance instance = MatchingInstance.from(request);
+        ScoringIndex scoring = ScoringIndex.compile(request, instance);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            // When
+            ScoreMatrix sequential = scoring.buildMatrix();
+            ScoreMatrix parallel = ParallelScoring.buildMatrix(scoring, instance.studentCount(), pool, 37);
+
+            // Then
+            for (int s = 0; s < instance.studentCount(); s++) {
+                for (int c = 0; c < instance.courseCount(); c++) {
+                    assertThat(Double.doubleToRawLongBits(parallel.score(s, c)))
+                            .isEqualTo(Double.doubleToRawLongBits(sequential.score(s, c)));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Edge Case: Courses without instructor weights score zero")
+    void testBuildMatrix_MissingWeights() {
+        // Given
+        MatchingRequestDTO request = randomRequest(3, 10, 4);
+        request.setInstructorPreferences(List.of(
+                InstructorPreferenceDTO.builder().courseCode("CO0").gradeWeights(Map.of()).build()));
+        MatchingInstance instance = MatchingInstance.from(request);
+
+        // When
+        ScoreMatrix matrix = ScoringIndex.compile(request, instance).buildMatrix();
+
+        // Then
+        for (int s = 0; s < instance.studentCount(); s++) {
+            for (int c = 0; c < instance.courseCount(); c++) {
+                assertThat(matrix.score(s, c)).isEqualTo(0.0);
+            }
+        }
+    }
+
+    // Formula previously used by MatchingService for every (student, course) pair
+    private static double referenceScore(StudentPreferenceDTO student, String courseCode,
+                                         List<InstructorPreferenceDTO> instructorPreferences) {
+        InstructorPreferenceDTO instructorPref = instructorPreferences.stream()
+                .filter(ip -> ip.getCourseCode().equals(courseCode))
+                .findFirst()
+                .orElse(null);
+
+        if (instructorPref == null || instructorPref.getGradeWeights() == null ||
+                instructorPref.getGradeWeights().isEmpty()) {
+            return 0.0;
+        }
+
+        double weightedSum = 0.0;
+        double totalWeight = 0.0;
+
+        for (Map.Entry<String, Double> weight : instructorPref.getGradeWeights().entrySet()) {
+            if (student.getCourseGrades() != null && student.getCourseGrades().containsKey(weight.getKey())) {
+                Double grade = student.getCourseGrades().get(weight.getKey());
+                weightedSum += grade * weight.getValue();
+                totalWeight += weight.getValue();
+            }
+        }
+
+        return totalWeight > 0 ? weightedSum / totalWeight : 0.0;
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.stablematch.algorithm;
+
+import com.example.stablematch.dto.MatchingRequestDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.example.stablematch.MatchingRequestFixtures.randomRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StabilityVerifierTest {
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: Results of both proposal engines have no blocking pairs")
+    void testVerify_StableEnginesAreStable() {
+        for (long seed = 1; seed <= 10; seed++) {
+            // Given
+            MatchingRequestDTO request = randomRequest(seed, 400, 12);
+            MatchingInstance instance = MatchingInstance.from(request);
+            ScoreMatrix scores = ScoringIndex.compile(request, instance).buildMatrix();
+            MatchingOutcome sequential = GaleShapleyEngine.run(instance, scores);
+            MatchingOutcome rounds = RoundGaleShapleyEngine.run(instance, scores, pool);
+
+            // When
+            StabilityReport first = StabilityVerifier.verify(instance, scores::score,
+                    assignedCourses(sequential, instance), null, 10, pool, 32);
+            StabilityReport second = StabilityVerifier.verify(instance, scores::score,
+                    assignedCourses(rounds, instance), null, 10, pool, 32);
+
+            // Then
+            assertThat(first.isStable()).as("sequential engine, seed %d", seed).isTrue();
+            assertThat(second.isStable()).as("round engine, seed %d", seed).isTrue();
+            assertThat(first.checkedStudents()).isEqualTo(400);
+        }
+    }
+
+    @Test
+    @DisplayName("Happy Path: Random assignments report the same blocking pairs as a brute-force check, in parallel or not")
+    void testVerify_MatchesBruteForce() {
+        // Given
+        MatchingRequestDTO request = randomRequest(21, 600, 15);
+        MatchingInstance instance = MatchingInstance.from(request);
+        ScoreMatrix scores = ScoringIndex.compile(request, instance).buildMatrix();
+        int[] assigned = assignedCourses(RandomMatcher.run(instance, new SplittableRandom(5)), instance);
+
+        // When
+        StabilityReport parallel = StabilityVerifier.verify(instance, scores::score, assigned, null, 50, pool, 16);
+        StabilityReport sequential = StabilityVerifier.verify(instance, scores::score, assigned, null, 50, null, 16);
+
+        // Then
+        long[] expected = bruteForce(instance, scores, assigned);
+        assertThat(parallel.isStable()).isFalse();
+        assertThat(parallel.blockingPairs()).isEqualTo(expected[0]);
+        assertThat(parallel.blockingStudents()).isEqualTo((int) expected[1]);
+        assertThat(parallel.reportedCount()).isEqualTo(50);
+        for (int i = 0; i < parallel.reportedCount(); i++) {
+            assertThat(parallel.blockingStudent(i)).isEqualTo(sequential.blockingStudent(i));
+            assertThat(parallel.blockingCourse(i)).isEqualTo(sequential.blockingCourse(i));
+            if (i > 0) {
+                assertThat(parallel.blockingStudent(i)).isGreaterThanOrEqualTo(parallel.blockingStudent(i - 1));
+            }
+        }
+    }
+
+    // ============ EDGE CASE TESTS ============
+
+    @Test
+    @DisplayName("Edge Case: Sampling checks only the drawn students, each at most once")
+    void testVerify_SampledStudentsOnly() {
+        // Given
+        MatchingRequestDTO request = randomRequest(22, 2000, 10);
+        MatchingInstance instance = MatchingInstance.from(request);
+        ScoreMatrix scores = ScoringIndex.compile(request, instance).buildMatrix();
+        int[] assigned = assignedCourses(RandomMatcher.run(instance, new SplittableRandom(6)), instance);
+        int[] sample = StabilityVerifier.sample(2000, 150, 9);
+
+        // When
+        StabilityReport report = StabilityVerifier.verify(instance, scores::score, assigned, sample, 1000, pool, 16);
+
+        // Then
+        assertThat(sample).hasSize(150).isSorted().doesNotHaveDuplicates();
+        assertThat(StabilityVerifier.sample(2000, 150, 9)).isEqualTo(sample);
+        assertThat(report.isSampled()).isTrue();
+        assertThat(report.checkedStudents()).isEqualTo(150);
+        for (int i = 0; i < report.reportedCount(); i++) {
+            assertThat(sample).contains(report.blockingStudent(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Edge Case: An overfull course makes the matching unstable even without blocking pairs")
+    void testVerify_OverCapacity() {
+        // Given
+        MatchingInstance instance = MatchingInstance.of(
+                new String[]{"STU1", "STU2"},
+                new String[]{"CO1"},
+                new int[]{1},
+                new int[]{0, 1, 2},
+                new int[]{0, 0});
+
+        // When
+        StabilityReport report = StabilityVerifier.verify(instance, (student, course) -> 1.0,
+                new int[]{0, 0}, null, 10, null, 1);
+
+        // Then
+        assertThat(report.blockingPairs()).isZero();
+        assertThat(report.overCapacityCourses()).isEqualTo(1);
+        assertThat(report.isStable()).isFalse();
+    }
+
+    private static int[] assignedCourses(MatchingOutcome outcome, MatchingInstance instance) {
+        int[] assigned = new int[instance.studentCount()];
+        for (int s = 0; s < assigned.length; s++) {
+            assigned[s] = outcome.assignedCourse(s);
+        }
+        return assigned;
+    }
+
+    /**
+     * Counts blocking pairs and blocking students by comparing every student with every member of every course
+     */
+    private static long[] bruteForce(MatchingInstance instance, ScoreMatrix scores, int[] assigned) {
+        long pairs = 0;
+        long students = 0;
+        for (int s = 0; s < instance.studentCount(); s++) {
+            int own = assigned[s] >= 0 ? instance.rankOf(s, assigned[s]) : -1;
+            boolean blocking = false;
+            for (int c = 0; c < instance.courseCount(); c++) {
+                int rank = instance.rankOf(s, c);
+                if (rank < 0 || (assigned[s] >= 0 && own >= 0 && rank >= own)) {
+                    continue;
+                }
+                int load = 0;
+                boolean beatsMember = false;
+                for (int t = 0; t < instance.studentCount(); t++) {
+                    if (assigned[t] == c) {
+                        load++;
+                        beatsMember |= scores.score(s, c) > scores.score(t, c);
+                    }
+                }
+                if (load < instance.capacity(c) || beatsMember) {
+                    pairs++;
+                    blocking = true;
+                }
+            }
+            if (blocking) {
+                students++;
+            }
+        }
+        return new long[]{pairs, students};
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.stablematch.config;
+
+import com.example.stablematch.service.MatchingAdmission;
+import com.example.stablematch.service.MetricsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlFilterTest {
+
+    private MetricsService metricsService;
+    private ExecutorService clients;
+
+    @BeforeEach
+    void setUp() {
+        metricsService = new MetricsService(new SimpleMeterRegistry());
+        clients = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clients.shutdownNow();
+    }
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: A waiting request runs as soon as the running one frees its slot")
+    void testFilter_QueuedRequestIsAdmitted() throws Exception {
+        // Given
+        MatchingAdmission admission = new MatchingAdmission(metricsService, 1, 1, Duration.ofSeconds(5));
+        AdmissionControlFilter filter = new AdmissionControlFilter(admission, 1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Future<MockHttpServletResponse> first = clients.submit(() -> perform(filter, running, finish));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        Future<MockHttpServletResponse> second = clients.submit(() -> perform(filter, null, null));
+        awaitQueued(admission, 1);
+        finish.countDown();
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+        assertThat(second.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+        assertThat(admission.getInFlight()).isZero();
+        assertThat(admission.getQueued()).isZero();
+        assertThat(metricsService.getAdmissionRejectedCount()).isZero();
+    }
+
+    // ============ EDGE CASE TESTS ============
+
+    @Test
+    @DisplayName("Edge Case: Requests beyond the wait queue are rejected at once with 429 and Retry-After")
+    void testFilter_OverflowIsRejected() throws Exception {
+        // Given
+        MatchingAdmission admission = new MatchingAdmission(metricsService, 1, 0, Duration.ofSeconds(5));
+        AdmissionControlFilter filter = new AdmissionControlFilter(admission, 2);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Future<MockHttpServletResponse> first = clients.submit(() -> perform(filter, running, finish));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        long startTime = System.nanoTime();
+        MockHttpServletResponse rejected = perform(filter, null, null);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        finish.countDown();
+
+        // Then
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(elapsedMs).isLessThan(1000);
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+        assertThat(metricsService.getAdmissionRejectedCount()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Edge Case: A request that waits longer than max-wait is rejected and job submissions are not limited")
+    void testFilter_WaitTimesOutAndJobsBypass() throws Exception {
+        // Given
+        MatchingAdmission admission = new MatchingAdmission(metricsService, 1, 4, Duration.ofMillis(50));
+        AdmissionControlFilter filter = new AdmissionControlFilter(admission, 1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        clients.submit(() -> perform(filter, running, finish));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        MockHttpServletResponse timedOut = perform(filter, null, null);
+        MockHttpServletRequest job = new MockHttpServletRequest("POST", "/api/matching/jobs");
+        MockHttpServletResponse jobResponse = new MockHttpServletResponse();
+        filter.doFilter(job, jobResponse, new MockFilterChain());
+        finish.countDown();
+
+        // Then
+        assertThat(timedOut.getStatus()).isEqualTo(429);
+        assertThat(admission.getQueued()).isZero();
+        assertThat(jobResponse.getStatus()).isEqualTo(200);
+    }
+
+    /**
+     * Posts a stable matching request whose handler signals {@code running} and then waits for {@code finish}
+     */
+    private static MockHttpServletResponse perform(AdmissionControlFilter filter,
+                                                   CountDownLatch running, CountDownLatch finish) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/matching/stable");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> {
+            if (running != null) {
+                running.countDown();
+                try {
+                    finish.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        return response;
+    }
+
+    private static void awaitQueued(MatchingAdmission admission, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (admission.getQueued() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(admission.getQueued()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.stablematch.config;
+
+import com.example.stablematch.MatchingRequestFixtures;
+import com.example.stablematch.dto.AssignmentDTO;
+import com.example.stablematch.dto.ColumnarAssignmentsDTO;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.MatchingResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class WireFormatConfigTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final ObjectMapper smileMapper = new ObjectMapper(SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: A gzip-compressed Smile request gets the same matching back as Smile")
+    void testSmileGzip_MatchesJson() throws Exception {
+        // Given
+        MatchingRequestDTO request = MatchingRequestFixtures.randomRequest(21, 500, 12);
+        byte[] json = objectMapper.writeValueAsBytes(request);
+        byte[] smile = smileMapper.writeValueAsBytes(request);
+
+        // When
+        MvcResult jsonResult = mockMvc.perform(post("/api/matching/stable?engine=PRIMITIVE")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn();
+        MvcResult smileResult = mockMvc.perform(post("/api/matching/stable?engine=PRIMITIVE")
+                        .contentType(SMILE)
+                        .accept(SMILE, MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .content(gzip(smile)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(SMILE))
+                .andReturn();
+
+        // Then
+        MatchingResponseDTO fromJson = objectMapper.readValue(
+                jsonResult.getResponse().getContentAsByteArray(), MatchingResponseDTO.class);
+        MatchingResponseDTO fromSmile = smileMapper.readValue(
+                smileResult.getResponse().getContentAsByteArray(), MatchingResponseDTO.class);
+
+        assertThat(fromSmile.getAssignments()).isEqualTo(fromJson.getAssignments());
+        assertThat(fromSmile.getStatistics()).isEqualTo(fromJson.getStatistics());
+        assertThat(smile.length).isLessThan(json.length);
+    }
+
+    @Test
+    @DisplayName("Happy Path: The columnar layout carries the same assignments as rows in fewer bytes")
+    void testColumnarLayout_MatchesRows() throws Exception {
+        // Given
+        byte[] json = objectMapper.writeValueAsBytes(MatchingRequestFixtures.randomRequest(23, 800, 10));
+
+        // When
+        MvcResult rowsResult = mockMvc.perform(post("/api/matching/random?seed=4")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isCreated())
+                .andReturn();
+        MvcResult columnarResult = mockMvc.perform(post("/api/matching/random?seed=4&layout=COLUMNAR")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        // Then
+        MatchingResponseDTO rows = objectMapper.readValue(
+                rowsResult.getResponse().getContentAsByteArray(), MatchingResponseDTO.class);
+        MatchingResponseDTO columnar = objectMapper.readValue(
+                columnarResult.getResponse().getContentAsByteArray(), MatchingResponseDTO.class);
+
+        assertThat(rows.getColumns()).isNull();
+        assertThat(columnar.getAssignments()).isNull();
+        ColumnarAssignmentsDTO columns = columnar.getColumns();
+        List<AssignmentDTO> expected = rows.getAssignments();
+        assertThat(columns.getStudentCodes()).hasSize(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            AssignmentDTO row = expected.get(i);
+            assertThat(columns.getStudentCodes()[i]).isEqualTo(row.getStudentCode());
+            assertThat(columns.getCourseCodes()[columns.getCourseIndex()[i]]).isEqualTo(row.getCourseCode());
+            assertThat(columns.getPreferenceRank()[i])
+                    .isEqualTo((short) (row.getPreferenceRank() != null ? row.getPreferenceRank() : -1));
+            if (row.getStudentScore() != null) {
+                assertThat(columns.getStudentScore()[i]).isEqualTo(row.getStudentScore().floatValue());
+            } else {
+                assertThat(columns.getStudentScore()[i]).isNaN();
+            }
+        }
+        assertThat(columnar.getStatistics()).isEqualTo(rows.getStatistics());
+        assertThat(columnarResult.getResponse().getContentAsByteArray().length)
+                .isLessThan(rowsResult.getResponse().getContentAsByteArray().length);
+    }
+
+    // ============ EDGE CASE TESTS ============
+
+    @Test
+    @DisplayName("Edge Case: Clients that accept anything still get JSON")
+    void testDefaultAccept_StaysJson() throws Exception {
+        // Given
+        byte[] json = objectMapper.writeValueAsBytes(MatchingRequestFixtures.randomRequest(22, 20, 3));
+
+        // When / Then
+        mockMvc.perform(post("/api/matching/random")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.ALL)
+                        .content(json))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.MatchingRequestFixtures;
+import com.example.stablematch.dto.BatchMatchingResponseDTO;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.MatchingResponseDTO;
+import com.example.stablematch.dto.PackMatchingResultDTO;
+import com.example.stablematch.dto.PackMatchingStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchingBatchServiceTest {
+
+    private MetricsService metricsService;
+    private MatchingService matchingService;
+    private ForkJoinPool scoringPool;
+    private ThreadPoolTaskExecutor batchExecutor;
+    private ValidatorFactory validatorFactory;
+    private MatchingBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        metricsService = new MetricsService(new SimpleMeterRegistry());
+        scoringPool = new ForkJoinPool(4);
+        matchingService = new MatchingService(metricsService,
+                new ScoringService(scoringPool, metricsService, 1000, 4));
+
+        batchExecutor = new ThreadPoolTaskExecutor();
+        batchExecutor.setCorePoolSize(3);
+        batchExecutor.setMaxPoolSize(3);
+        batchExecutor.setQueueCapacity(8);
+        batchExecutor.initialize();
+
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        batchService = new MatchingBatchService(batchExecutor, matchingService,
+                new MatchingResultCache(metricsService, 500_000, Duration.ofMinutes(5)),
+                new MatchingResultRegistry(1_000_000), metricsService, validatorFactory.getValidator(), 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchExecutor.shutdown();
+        scoringPool.shutdown();
+        validatorFactory.close();
+    }
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: Batch returns the same matchings as single calls, in request order")
+    void testMatch_SameAsSingleCalls() {
+        // Given
+        List<MatchingRequestDTO> packs = List.of(
+                withPackId(MatchingRequestFixtures.randomRequest(31, 200, 8), 1L),
+                withPackId(MatchingRequestFixtures.randomRequest(32, 150, 6), 2L),
+                withPackId(MatchingRequestFixtures.randomRequest(33, 300, 10), 3L));
+
+        // When
+        BatchMatchingResponseDTO batch = batchService.match(packs, MatchingAlgorithm.STABLE,
+                MatchingEngine.PRIMITIVE, null);
+
+        // Then
+        assertThat(batch.getSucceeded()).isEqualTo(3);
+        assertThat(batch.getFailed()).isZero();
+        assertThat(batch.getResults()).extracting(PackMatchingResultDTO::getPackId).containsExactly(1L, 2L, 3L);
+        for (int i = 0; i < packs.size(); i++) {
+            MatchingResponseDTO single = matchingService.createStableMatching(packs.get(i), MatchingEngine.PRIMITIVE);
+            MatchingResponseDTO batched = batch.getResults().get(i).getResponse();
+
+            assertThat(batched.getAssignments()).isEqualTo(single.getAssignments());
+            assertThat(batched.getMatchingId()).isNotNull();
+        }
+        assertThat(metricsService.getBatchPackSucceededCount()).isEqualTo(3.0);
+    }
+
+    // ============ EDGE CASE TESTS ============
+
+    @Test
+    @DisplayName("Edge Case: An invalid pack fails on its own while the other packs are matched")
+    void testMatch_InvalidPackFailsAlone() {
+        // Given
+        MatchingRequestDTO invalid = withPackId(MatchingRequestFixtures.randomRequest(34, 50, 4), 2L);
+        invalid.setCourses(List.of());
+        List<MatchingRequestDTO> packs = List.of(
+                withPackId(MatchingRequestFixtures.randomRequest(35, 50, 4), 1L),
+                invalid,
+                withPackId(MatchingRequestFixtures.randomRequest(36, 50, 4), 3L));
+
+        // When
+        BatchMatchingResponseDTO batch = batchService.match(packs, MatchingAlgorithm.RANDOM,
+                MatchingEngine.LEGACY, 7L);
+
+        // Then
+        assertThat(batch.getSucceeded()).isEqualTo(2);
+        assertThat(batch.getFailed()).isEqualTo(1);
+        assertThat(batch.getResults()).extracting(PackMatchingResultDTO::getStatus).containsExactly(
+                PackMatchingStatus.SUCCEEDED, PackMatchingStatus.FAILED, PackMatchingStatus.SUCCEEDED);
+
+        PackMatchingResultDTO failed = batch.getResults().get(1);
+        assertThat(failed.getPackId()).isEqualTo(2L);
+        assertThat(failed.getResponse()).isNull();
+        assertThat(failed.getError()).contains("courses");
+        assertThat(metricsService.getBatchPackFailedCount()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Edge Case: Batches above the pack limit are rejected")
+    void testMatch_TooManyPacks() {
+        // Given
+        List<MatchingRequestDTO> packs = List.of(
+                MatchingRequestFixtures.randomRequest(37, 5, 2),
+                MatchingRequestFixtures.randomRequest(38, 5, 2),
+                MatchingRequestFixtures.randomRequest(39, 5, 2),
+                MatchingRequestFixtures.randomRequest(40, 5, 2),
+                MatchingRequestFixtures.randomRequest(41, 5, 2));
+
+        // When / Then
+        assertThatThrownBy(() -> batchService.match(packs, MatchingAlgorithm.STABLE, MatchingEngine.PRIMITIVE, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MatchingRequestDTO withPackId(MatchingRequestDTO request, Long packId) {
+        request.setPackId(packId);
+        return request;
+    }
+}
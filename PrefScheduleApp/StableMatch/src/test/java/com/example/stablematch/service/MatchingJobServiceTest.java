@@ -0,0 +1,142 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.MatchingRequestFixtures;
+import com.example.stablematch.dto.MatchingJobDTO;
+import com.example.stablematch.dto.MatchingJobStatus;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.MatchingResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MatchingJobServiceTest {
+
+    private MatchingService matchingService;
+    private MetricsService metricsService;
+    private ThreadPoolTaskExecutor jobExecutor;
+    private MatchingJobService matchingJobService;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final MatchingRequestDTO request = MatchingRequestFixtures.randomRequest(1, 20, 4);
+
+    @BeforeEach
+    void setUp() {
+        matchingService = mock(MatchingService.class);
+        metricsService = new MetricsService(new SimpleMeterRegistry());
+
+        jobExecutor = new ThreadPoolTaskExecutor();
+        jobExecutor.setCorePoolSize(1);
+        jobExecutor.setMaxPoolSize(1);
+        jobExecutor.setQueueCapacity(1);
+        jobExecutor.initialize();
+
+        matchingJobService = new MatchingJobService(jobExecutor, matchingService, metricsService,
+                new MatchingResultRegistry(1_000_000), Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        jobExecutor.shutdown();
+    }
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: Submitted job runs in the background and exposes its result")
+    void testSubmit_CompletesWithResult() throws Exception {
+        // Given
+        MatchingResponseDTO response = new MatchingResponseDTO();
+        when(matchingService.createStableMatching(eq(request), eq(MatchingEngine.PRIMITIVE), any()))
+                .thenReturn(response);
+
+        // When
+        MatchingJobDTO submitted = matchingJobService.submit(request, MatchingAlgorithm.STABLE, MatchingEngine.PRIMITIVE, null);
+        MatchingJob job = awaitFinished(submitted.getJobId());
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(MatchingJobStatus.COMPLETED);
+        assertThat(job.getResult()).isSameAs(response);
+        assertThat(job.toDTO().getProgress()).isEqualTo(1.0);
+        assertThat(metricsService.getJobWaitMeanTime()).isGreaterThanOrEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("Happy Path: Cancelling a running job interrupts it and a queued job never runs")
+    void testCancel_RunningAndQueuedJobs() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        when(matchingService.createStableMatching(eq(request), eq(MatchingEngine.LEGACY), any()))
+                .thenAnswer(invocation -> {
+                    MatchingProgress progress = invocation.getArgument(2);
+                    progress.enter(MatchingPhase.SCORING);
+                    started.countDown();
+                    release.await();
+                    progress.enter(MatchingPhase.MATCHING);
+                    return new MatchingResponseDTO();
+                });
+
+        MatchingJobDTO running = matchingJobService.submit(request, MatchingAlgorithm.STABLE, MatchingEngine.LEGACY, null);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        MatchingJobDTO queued = matchingJobService.submit(request, MatchingAlgorithm.RANDOM, MatchingEngine.LEGACY, 7L);
+
+        // When
+        matchingJobService.cancel(queued.getJobId());
+        matchingJobService.cancel(running.getJobId());
+
+        // Then
+        assertThat(awaitFinished(running.getJobId()).getStatus()).isEqualTo(MatchingJobStatus.CANCELLED);
+        assertThat(awaitFinished(queued.getJobId()).getStatus()).isEqualTo(MatchingJobStatus.CANCELLED);
+        assertThat(jobExecutor.getThreadPoolExecutor().getQueue()).isEmpty();
+        verify(matchingService, times(1)).createStableMatching(any(), any(), any());
+        verify(matchingService, never()).createRandomMatching(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Happy Path: Submissions beyond the queue capacity are rejected")
+    void testSubmit_RejectsWhenQueueIsFull() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        when(matchingService.createStableMatching(any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    started.countDown();
+                    release.await();
+                    return new MatchingResponseDTO();
+                });
+        matchingJobService.submit(request, MatchingAlgorithm.STABLE, MatchingEngine.LEGACY, null);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        matchingJobService.submit(request, MatchingAlgorithm.STABLE, MatchingEngine.LEGACY, null);
+
+        // When / Then
+        assertThatThrownBy(() -> matchingJobService.submit(request, MatchingAlgorithm.STABLE, MatchingEngine.LEGACY, null))
+                .isInstanceOf(TaskRejectedException.class);
+        assertThat(metricsService.getJobRejectedCount()).isEqualTo(1.0);
+    }
+
+    private MatchingJob awaitFinished(String jobId) throws InterruptedException {
+        MatchingJob job = matchingJobService.getJob(jobId).orElseThrow();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!job.isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return job;
+    }
+}
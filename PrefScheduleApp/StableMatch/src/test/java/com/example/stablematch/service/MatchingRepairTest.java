@@ -0,0 +1,232 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.MatchingRequestFixtures;
+import com.example.stablematch.algorithm.MatchingInstance;
+import com.example.stablematch.algorithm.ScoreMatrix;
+import com.example.stablematch.algorithm.ScoringIndex;
+import com.example.stablematch.dto.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchingRepairTest {
+
+    private MatchingService matchingService;
+    private MatchingResultRegistry registry;
+    private ForkJoinPool scoringPool;
+
+    @BeforeEach
+    void setUp() {
+        MetricsService metricsService = new MetricsService(new SimpleMeterRegistry());
+        scoringPool = new ForkJoinPool(2);
+        matchingService = new MatchingService(metricsService,
+                new ScoringService(scoringPool, metricsService, 1000, 4));
+        registry = new MatchingResultRegistry(1_000_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoringPool.shutdown();
+    }
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: Repaired matching equals a full rerun with far fewer proposals")
+    void testRepair_StableAndMatchesFullRun() {
+        for (long seed = 1; seed <= 30; seed++) {
+            // Given
+            MatchingRequestDTO request = MatchingRequestFixtures.withoutTies(
+                    MatchingRequestFixtures.randomRequest(seed, 400, 12), seed);
+            StoredMatching previous = registry.register(request,
+                    matchingService.createStableMatching(request, MatchingEngine.PRIMITIVE));
+            MatchingDeltaDTO delta = randomDelta(seed, request);
+
+            // When
+            MatchingRequestDTO changed = matchingService.applyDelta(request, delta);
+            MatchingResponseDTO repaired = matchingService.repairStableMatching(previous, changed, delta);
+            MatchingResponseDTO full = matchingService.createStableMatching(changed, MatchingEngine.PRIMITIVE);
+
+            // Then
+            assertStable(changed, repaired);
+            assertThat(byStudent(repaired)).isEqualTo(byStudent(full));
+            assertThat(repaired.getExecution().getProposals()).isLessThan(full.getExecution().getProposals());
+            assertThat(repaired.getExecution().getBaselineProposals()).isEqualTo(previous.getResponse().getExecution().getProposals());
+        }
+    }
+
+    @Test
+    @DisplayName("Happy Path: Growing a full course pulls back the best students it rejected")
+    void testRepair_CapacityIncrease() {
+        // Given
+        MatchingRequestDTO request = MatchingRequestDTO.builder()
+                .studentPreferences(List.of(
+                        student("STU001", Map.of("MATH", 9.0), "CO1", "CO2"),
+                        student("STU002", Map.of("MATH", 7.0), "CO1", "CO2"),
+                        student("STU003", Map.of("MATH", 8.0), "CO1", "CO2")))
+                .courses(List.of(course("CO1", 1), course("CO2", 2)))
+                .instructorPreferences(List.of(weights("CO1"), weights("CO2")))
+                .build();
+        StoredMatching previous = registry.register(request,
+                matchingService.createStableMatching(request, MatchingEngine.PRIMITIVE));
+        MatchingDeltaDTO delta = MatchingDeltaDTO.builder()
+                .courses(List.of(course("CO1", 2)))
+                .build();
+
+        // When
+        MatchingResponseDTO repaired = matchingService.repairStableMatching(previous,
+                matchingService.applyDelta(request, delta), delta);
+
+        // Then
+        assertThat(byStudent(repaired)).containsEntry("STU001", "CO1")
+                .containsEntry("STU003", "CO1")
+                .containsEntry("STU002", "CO2");
+        assertThat(repaired.getExecution().getProposals()).isEqualTo(1L);
+        assertThat(repaired.getExecution().getRepairedFrom()).isEqualTo(previous.getMatchingId());
+    }
+
+    @Test
+    @DisplayName("Happy Path: Chained repairs keep the full run's proposals as their baseline")
+    void testRepair_ChainedRepairsKeepFullRunBaseline() {
+        // Given
+        MatchingRequestDTO request = MatchingRequestFixtures.withoutTies(
+                MatchingRequestFixtures.randomRequest(7, 400, 12), 7);
+        StoredMatching full = registry.register(request,
+                matchingService.createStableMatching(request, MatchingEngine.PRIMITIVE));
+        MatchingDeltaDTO firstDelta = randomDelta(7, request);
+        MatchingRequestDTO firstChanged = matchingService.applyDelta(request, firstDelta);
+        StoredMatching firstRepair = registry.register(firstChanged,
+                matchingService.repairStableMatching(full, firstChanged, firstDelta));
+        MatchingDeltaDTO secondDelta = randomDelta(8, firstChanged);
+
+        // When
+        MatchingRequestDTO secondChanged = matchingService.applyDelta(firstChanged, secondDelta);
+        MatchingResponseDTO secondRepair = matchingService.repairStableMatching(firstRepair, secondChanged, secondDelta);
+
+        // Then
+        Long fullProposals = full.getResponse().getExecution().getProposals();
+        assertStable(secondChanged, secondRepair);
+        assertThat(byStudent(secondRepair))
+                .isEqualTo(byStudent(matchingService.createStableMatching(secondChanged, MatchingEngine.PRIMITIVE)));
+        assertThat(firstRepair.getResponse().getExecution().getBaselineProposals()).isEqualTo(fullProposals);
+        assertThat(secondRepair.getExecution().getBaselineProposals()).isEqualTo(fullProposals);
+        assertThat(secondRepair.getExecution().getRepairedFrom()).isEqualTo(firstRepair.getMatchingId());
+    }
+
+    // ============ EDGE CASE TESTS ============
+
+    @Test
+    @DisplayName("Edge Case: Delta targeting an unknown course is rejected")
+    void testApplyDelta_UnknownCourse() {
+        // Given
+        MatchingRequestDTO request = MatchingRequestFixtures.randomRequest(1, 10, 3);
+        MatchingDeltaDTO delta = MatchingDeltaDTO.builder()
+                .courses(List.of(course("CO99", 5)))
+                .build();
+
+        // When / Then
+        assertThatThrownBy(() -> matchingService.applyDelta(request, delta))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private MatchingDeltaDTO randomDelta(long seed, MatchingRequestDTO request) {
+        Random random = new Random(seed * 31);
+        List<String> courseCodes = request.getCourses().stream()
+                .map(CourseCapacityDTO::getCourseCode)
+                .collect(Collectors.toList());
+
+        List<StudentPreferenceDTO> changedStudents = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            StudentPreferenceDTO original = request.getStudentPreferences()
+                    .get(random.nextInt(request.getStudentPreferences().size()));
+            List<String> preferred = new ArrayList<>(courseCodes);
+            Collections.shuffle(preferred, random);
+            changedStudents.add(student(original.getStudentCode(), original.getCourseGrades(),
+                    preferred.subList(0, 1 + random.nextInt(courseCodes.size())).toArray(new String[0])));
+        }
+        changedStudents.add(student("NEW" + seed, Map.of("MATH", 9.99, "OOP", 9.98, "ALG", 9.97, "DB", 9.96, "OS", 9.95, "NET", 9.94),
+                courseCodes.toArray(new String[0])));
+
+        CourseCapacityDTO grown = request.getCourses().get(random.nextInt(courseCodes.size()));
+        CourseCapacityDTO shrunk = request.getCourses().get(random.nextInt(courseCodes.size()));
+        List<CourseCapacityDTO> courses = new ArrayList<>();
+        courses.add(course(grown.getCourseCode(), grown.getCapacity() + 30));
+        if (!shrunk.getCourseCode().equals(grown.getCourseCode())) {
+            courses.add(course(shrunk.getCourseCode(), Math.max(0, shrunk.getCapacity() - 5)));
+        }
+
+        InstructorPreferenceDTO rescored = InstructorPreferenceDTO.builder()
+                .courseCode(courseCodes.get(random.nextInt(courseCodes.size())))
+                .gradeWeights(Map.of("ALG", 3.0, "DB", 1.0))
+                .build();
+
+        return MatchingDeltaDTO.builder()
+                .changedStudents(changedStudents)
+                .courses(courses)
+                .instructorPreferences(List.of(rescored))
+                .build();
+    }
+
+    private void assertStable(MatchingRequestDTO request, MatchingResponseDTO response) {
+        MatchingInstance instance = MatchingInstance.from(request);
+        ScoreMatrix scores = ScoringIndex.compile(request, instance).buildMatrix();
+        Map<String, String> assigned = byStudent(response);
+
+        double[] worstScore = new double[instance.courseCount()];
+        int[] filled = new int[instance.courseCount()];
+        Arrays.fill(worstScore, Double.POSITIVE_INFINITY);
+        Map<String, Integer> studentIds = new HashMap<>();
+        for (int s = 0; s < instance.studentCount(); s++) {
+            studentIds.put(instance.studentCode(s), s);
+        }
+        for (AssignmentDTO assignment : response.getAssignments()) {
+            int c = instance.courseId(assignment.getCourseCode());
+            filled[c]++;
+            worstScore[c] = Math.min(worstScore[c], scores.score(studentIds.get(assignment.getStudentCode()), c));
+        }
+
+        for (int s = 0; s < instance.studentCount(); s++) {
+            String current = assigned.get(instance.studentCode(s));
+            for (int slot = instance.prefStart(s); slot < instance.prefEnd(s); slot++) {
+                int c = instance.prefCourse(slot);
+                if (instance.courseCode(c).equals(current)) {
+                    break;
+                }
+                assertThat(filled[c]).as("free seat at %s wanted by %s", instance.courseCode(c), instance.studentCode(s))
+                        .isEqualTo(instance.capacity(c));
+                assertThat(scores.score(s, c)).as("%s blocks with %s", instance.studentCode(s), instance.courseCode(c))
+                        .isLessThanOrEqualTo(worstScore[c]);
+            }
+        }
+    }
+
+    private Map<String, String> byStudent(MatchingResponseDTO response) {
+        return response.getAssignments().stream()
+                .collect(Collectors.toMap(AssignmentDTO::getStudentCode, AssignmentDTO::getCourseCode));
+    }
+
+    private StudentPreferenceDTO student(String code, Map<String, Double> grades, String... courses) {
+        return StudentPreferenceDTO.builder()
+                .studentCode(code)
+                .preferredCourses(List.of(courses))
+                .courseGrades(grades)
+                .build();
+    }
+
+    private CourseCapacityDTO course(String code, int capacity) {
+        return CourseCapacityDTO.builder().courseCode(code).capacity(capacity).build();
+    }
+
+    private InstructorPreferenceDTO weights(String code) {
+        return InstructorPreferenceDTO.builder().courseCode(code).gradeWeights(Map.of("MATH", 1.0)).build();
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.MatchingRequestFixtures;
+import com.example.stablematch.dto.AssignmentDTO;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.MatchingResponseDTO;
+import com.example.stablematch.dto.MatchingStatisticsDTO;
+import com.example.stablematch.dto.StudentPreferenceDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchingResultCacheTest {
+
+    private MetricsService metricsService;
+    private MatchingResultCache cache;
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        metricsService = new MetricsService(new SimpleMeterRegistry());
+        cache = new MatchingResultCache(metricsService, 10_000, Duration.ofMinutes(5));
+    }
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: Identical stable requests are computed once and served as independent copies")
+    void testStable_IdenticalRequestsHitCache() {
+        // Given
+        MatchingRequestDTO request = MatchingRequestFixtures.randomRequest(1, 50, 5);
+        MatchingRequestDTO resent = MatchingRequestFixtures.randomRequest(1, 50, 5);
+        resent.setPackId(99L);
+
+        // When
+        MatchingResponseDTO first = cache.stable(request, MatchingEngine.PRIMITIVE, this::compute);
+        MatchingResponseDTO second = cache.stable(resent, MatchingEngine.PRIMITIVE, this::compute);
+        second.setMatchingId("changed-by-caller");
+        second.getAssignments().get(0).setCourseCode("CHANGED");
+        second.getAssignments().remove(1);
+        second.getStatistics().getCourseAssignmentCounts().clear();
+        MatchingResponseDTO third = cache.stable(request, MatchingEngine.PRIMITIVE, this::compute);
+
+        // Then
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(first.getExecution().getCacheHit()).isFalse();
+        assertThat(second.getExecution().getCacheHit()).isTrue();
+        assertThat(third.getMatchingId()).isNull();
+        assertThat(third.getAssignments()).isEqualTo(first.getAssignments());
+        assertThat(third.getStatistics()).isEqualTo(first.getStatistics());
+        assertThat(metricsService.getCacheHitCount()).isEqualTo(2.0);
+        assertThat(metricsService.getCacheMissCount()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Happy Path: Grade order does not matter but any content change is a miss")
+    void testStable_KeyFollowsContent() {
+        // Given
+        MatchingRequestDTO request = MatchingRequestFixtures.randomRequest(2, 30, 4);
+        MatchingRequestDTO reordered = MatchingRequestFixtures.randomRequest(2, 30, 4);
+        for (StudentPreferenceDTO student : reordered.getStudentPreferences()) {
+            List<String> subjects = new ArrayList<>(student.getCourseGrades().keySet());
+            Collections.reverse(subjects);
+            Map<String, Double> grades = new LinkedHashMap<>();
+            subjects.forEach(subject -> grades.put(subject, student.getCourseGrades().get(subject)));
+            student.setCourseGrades(grades);
+        }
+        MatchingRequestDTO changed = MatchingRequestFixtures.randomRequest(2, 30, 4);
+        changed.getCourses().get(0).setCapacity(changed.getCourses().get(0).getCapacity() + 1);
+
+        // When
+        cache.stable(request, MatchingEngine.LEGACY, this::compute);
+        cache.stable(reordered, MatchingEngine.LEGACY, this::compute);
+        cache.stable(changed, MatchingEngine.LEGACY, this::compute);
+        cache.stable(request, MatchingEngine.PRIMITIVE, this::compute);
+
+        // Then
+        assertThat(runs.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Happy Path: Concurrent identical requests share one computation")
+    void testStable_ConcurrentRequestsShareRun() throws Exception {
+        // Given
+        MatchingRequestDTO request = MatchingRequestFixtures.randomRequest(3, 20, 3);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<MatchingResponseDTO> slow = CompletableFuture.supplyAsync(() ->
+                cache.stable(request, MatchingEngine.PRIMITIVE, () -> {
+                    await(release);
+                    return compute();
+                }));
+        while (metricsService.getCacheMissCount() < 1.0) {
+            Thread.sleep(5);
+        }
+
+        // When
+        CompletableFuture<MatchingResponseDTO> waiting = CompletableFuture.supplyAsync(() ->
+                cache.stable(request, MatchingEngine.PRIMITIVE, this::compute));
+        release.countDown();
+
+        // Then
+        assertThat(waiting.get(5, TimeUnit.SECONDS).getExecution().getCacheHit()).isTrue();
+        assertThat(slow.get(5, TimeUnit.SECONDS).getExecution().getCacheHit()).isFalse();
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Happy Path: Only seeded random matchings are cached")
+    void testRandom_CachedOnlyWithSeed() {
+        // Given
+        MatchingRequestDTO request = MatchingRequestFixtures.randomRequest(4, 20, 3);
+
+        // When
+        cache.random(request, null, this::compute);
+        cache.random(request, null, this::compute);
+        cache.random(request, 7L, this::compute);
+        cache.random(request, 7L, this::compute);
+        cache.random(request, 8L, this::compute);
+
+        // Then
+        assertThat(runs.get()).isEqualTo(4);
+    }
+
+    private MatchingResponseDTO compute() {
+        runs.incrementAndGet();
+        List<AssignmentDTO> assignments = new ArrayList<>(List.of(
+                AssignmentDTO.builder().studentCode("STU1").courseCode("CO1").preferenceRank(0).studentScore(8.0).build(),
+                AssignmentDTO.builder().studentCode("STU2").courseCode("CO2").preferenceRank(1).studentScore(7.0).build()));
+        return MatchingResponseDTO.builder()
+                .assignments(assignments)
+                .statistics(MatchingStatisticsDTO.builder()
+                        .totalStudents(2)
+                        .assignedStudents(2)
+                        .courseAssignmentCounts(new LinkedHashMap<>(Map.of("CO1", 1, "CO2", 1)))
+                        .build())
+                .build();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.dto.AssignmentDTO;
+import com.example.stablematch.dto.MatchingResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchingResultRegistryTest {
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: Registered matching is indexed by student and course")
+    void testRegister_BuildsIndexes() {
+        // Given
+        MatchingResultRegistry registry = new MatchingResultRegistry(1000);
+
+        // When
+        StoredMatching stored = registry.register(7L, response(3, "CO1", "CO2"));
+
+        // Then
+        assertThat(stored.assignmentForStudent("STU1").getCourseCode()).isEqualTo("CO2");
+        assertThat(stored.assignmentsForCourse("CO1")).extracting(AssignmentDTO::getStudentCode)
+                .containsExactly("STU0", "STU2");
+        assertThat(stored.assignmentsForCourse("CO9")).isEmpty();
+        assertThat(registry.resolve(null, 7L)).contains(stored);
+        assertThat(registry.resolve(stored.getMatchingId(), null)).contains(stored);
+        assertThat(stored.getResponse().getMatchingId()).isEqualTo(stored.getMatchingId());
+    }
+
+    @Test
+    @DisplayName("Happy Path: Versions increase per pack and the latest result wins")
+    void testRegister_VersionsPerPack() {
+        // Given
+        MatchingResultRegistry registry = new MatchingResultRegistry(1000);
+
+        // When
+        StoredMatching first = registry.register(1L, response(2, "CO1"));
+        StoredMatching other = registry.register(2L, response(2, "CO1"));
+        StoredMatching second = registry.register(1L, response(2, "CO1"));
+
+        // Then
+        assertThat(first.getVersion()).isEqualTo(1L);
+        assertThat(other.getVersion()).isEqualTo(1L);
+        assertThat(second.getVersion()).isEqualTo(2L);
+        assertThat(registry.findLatestForPack(1L)).contains(second);
+        assertThat(registry.findLatest()).contains(second);
+        assertThat(registry.find(first.getMatchingId())).contains(first);
+    }
+
+    @Test
+    @DisplayName("Happy Path: Least recently used results are evicted once the assignment budget is exceeded")
+    void testRegister_EvictsLeastRecentlyUsed() {
+        // Given
+        MatchingResultRegistry registry = new MatchingResultRegistry(10);
+        StoredMatching first = registry.register(1L, response(4, "CO1"));
+        StoredMatching second = registry.register(2L, response(4, "CO1"));
+        registry.find(first.getMatchingId());
+
+        // When
+        StoredMatching third = registry.register(3L, response(4, "CO1"));
+
+        // Then
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.find(second.getMatchingId())).isEmpty();
+        assertThat(registry.findLatestForPack(2L)).isEmpty();
+        assertThat(registry.find(first.getMatchingId())).contains(first);
+        assertThat(registry.findLatest()).contains(third);
+    }
+
+    @Test
+    @DisplayName("Happy Path: Clearing the registry drops all results and restarts pack versions")
+    void testClear_ResetsVersions() {
+        // Given
+        MatchingResultRegistry registry = new MatchingResultRegistry(1000);
+        StoredMatching first = registry.register(1L, response(2, "CO1"));
+        registry.register(1L, response(2, "CO1"));
+
+        // When
+        registry.clear();
+        StoredMatching afterClear = registry.register(1L, response(2, "CO1"));
+
+        // Then
+        assertThat(registry.size()).isEqualTo(1);
+        assertThat(registry.find(first.getMatchingId())).isEmpty();
+        assertThat(afterClear.getVersion()).isEqualTo(1L);
+        assertThat(registry.findLatestForPack(1L)).contains(afterClear);
+    }
+
+    private MatchingResponseDTO response(int students, String... courses) {
+        List<AssignmentDTO> assignments = new ArrayList<>();
+        for (int s = 0; s < students; s++) {
+            assignments.add(AssignmentDTO.builder()
+                    .studentCode("STU" + s)
+                    .courseCode(courses[s % courses.length])
+                    .preferenceRank(0)
+                    .studentScore(1.0)
+                    .build());
+        }
+        return MatchingResponseDTO.builder()
+                .assignments(assignments)
+                .build();
+    }
+}
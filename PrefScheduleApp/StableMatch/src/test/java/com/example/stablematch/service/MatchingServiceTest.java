@@ -0,0 +1,284 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.MatchingRequestFixtures;
+import com.example.stablematch.dto.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class MatchingServiceTest {
+
+    private MatchingService matchingService;
+
+    private MetricsService metricsService;
+
+    private ForkJoinPool scoringPool;
+
+    @BeforeEach
+    void setUp() {
+        metricsService = new MetricsService(new SimpleMeterRegistry());
+        scoringPool = new ForkJoinPool(4);
+        matchingService = new MatchingService(metricsService,
+                new ScoringService(scoringPool, metricsService, 1000, 4));
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoringPool.shutdown();
+    }
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: Stable matching assigns each student to the preferred course by score")
+    void testStableMatching_SmallExample() {
+        // Given
+        MatchingRequestDTO request = smallRequest();
+
+        // When
+        MatchingResponseDTO response = matchingService.createStableMatching(request, MatchingEngine.PRIMITIVE);
+
+        // Then
+        assertThat(response.getAssignments()).extracting(AssignmentDTO::getStudentCode, AssignmentDTO::getCourseCode)
+                .containsExactlyInAnyOrder(
+                        tuple("STU001", "CO1"),
+                        tuple("STU002", "CO2"));
+        assertThat(response.getStatistics().getAssignedStudents()).isEqualTo(2);
+        assertThat(response.getStatistics().getAveragePreferenceRank()).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("Happy Path: Primitive engine matches the legacy engine on random instances")
+    void testPrimitiveEngine_MatchesLegacy() {
+        for (long seed = 1; seed <= 20; seed++) {
+            // Given
+            MatchingRequestDTO request = MatchingRequestFixtures.withoutTies(
+                    MatchingRequestFixtures.randomRequest(seed, 300, 12), seed);
+
+            // When
+            MatchingResponseDTO legacy = matchingService.createStableMatching(request, MatchingEngine.LEGACY);
+            MatchingResponseDTO primitive = matchingService.createStableMatching(request, MatchingEngine.PRIMITIVE);
+
+            // Then
+            assertThat(byStudent(primitive)).isEqualTo(byStudent(legacy));
+            assertThat(primitive.getStatistics()).isEqualTo(legacy.getStatistics());
+        }
+    }
+
+    @Test
+    @DisplayName("Happy Path: Round engine finds the same student-optimal matching as the sequential engine")
+    void testRoundsEngine_MatchesPrimitive() {
+        for (long seed = 1; seed <= 10; seed++) {
+            // Given
+            int students = seed == 10 ? 20_000 : 300;
+            MatchingRequestDTO request = MatchingRequestFixtures.withoutTies(
+                    MatchingRequestFixtures.randomRequest(seed, students, 12), seed);
+
+            // When
+            MatchingResponseDTO primitive = matchingService.createStableMatching(request, MatchingEngine.PRIMITIVE);
+            MatchingResponseDTO rounds = matchingService.createStableMatching(request, MatchingEngine.ROUNDS);
+
+            // Then
+            assertThat(byStudent(rounds)).isEqualTo(byStudent(primitive));
+            assertThat(rounds.getStatistics()).isEqualTo(primitive.getStatistics());
+            assertThat(rounds.getExecution().getProposals()).isEqualTo(primitive.getExecution().getProposals());
+            assertThat(rounds.getExecution().getRounds()).isPositive();
+            assertThat(rounds.getExecution().getRoundTimesMs()).hasSize(rounds.getExecution().getRounds());
+            assertThat(primitive.getExecution().getRounds()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Happy Path: Primitive and round engines break tied scores the same way")
+    void testStableEngines_AgreeOnTiedScores() {
+        for (long seed = 1; seed <= 6; seed++) {
+            // Given
+            int students = seed == 6 ? 20_000 : 300;
+            MatchingRequestDTO request = MatchingRequestFixtures.withManyTies(
+                    MatchingRequestFixtures.randomRequest(seed, students, 12), seed);
+
+            // When
+            MatchingResponseDTO primitive = matchingService.createStableMatching(request, MatchingEngine.PRIMITIVE);
+            MatchingResponseDTO rounds = matchingService.createStableMatching(request, MatchingEngine.ROUNDS);
+
+            // Then
+            assertThat(byStudent(rounds)).isEqualTo(byStudent(primitive));
+            assertThat(rounds.getStatistics()).isEqualTo(primitive.getStatistics());
+            assertThat(rounds.getExecution().getProposals()).isEqualTo(primitive.getExecution().getProposals());
+        }
+    }
+
+    @Test
+    @DisplayName("Happy Path: Optimal matching never has a higher total rank than stable matching and is timed")
+    void testOptimalMatching_LowerTotalRank() {
+        // Given
+        MatchingRequestDTO request = MatchingRequestFixtures.randomRequest(17, 400, 10);
+
+        // When
+        MatchingResponseDTO stable = matchingService.createStableMatching(request, MatchingEngine.PRIMITIVE);
+        MatchingResponseDTO optimal = matchingService.createOptimalMatching(request);
+
+        // Then
+        assertThat(optimal.getStatistics().getAssignedStudents())
+                .isGreaterThanOrEqualTo(stable.getStatistics().getAssignedStudents());
+        assertThat(optimal.getAssignments()).allSatisfy(a -> assertThat(a.getPreferenceRank()).isNotNull());
+        if (optimal.getStatistics().getAssignedStudents().equals(stable.getStatistics().getAssignedStudents())) {
+            assertThat(totalRank(optimal)).isLessThanOrEqualTo(totalRank(stable));
+        }
+        assertThat(optimal.getExecution().getAugmentingPaths())
+                .isEqualTo(optimal.getStatistics().getAssignedStudents().longValue());
+        assertThat(metricsService.getOptimalMatchCount()).isEqualTo(1.0);
+        assertThat(metricsService.getPhaseTimings()).containsKey("optimal.matching.lt10k");
+    }
+
+    @Test
+    @DisplayName("Happy Path: Large requests are scored on the scoring pool")
+    void testStableMatching_ReportsParallelScoring() {
+        // Given
+        MatchingRequestDTO request = MatchingRequestFixtures.randomRequest(11, 400, 10);
+
+        // When
+        MatchingResponseDTO response = matchingService.createStableMatching(request, MatchingEngine.PRIMITIVE);
+
+        // Then
+        assertThat(response.getExecution().getScoringCores()).isEqualTo(4);
+        assertThat(response.getExecution().getScoringChunks()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("Happy Path: Seeded random matching is reproducible and respects capacities")
+    void testRandomMatching_SeededIsReproducible() {
+        // Given
+        MatchingRequestDTO request = MatchingRequestFixtures.randomRequest(3, 500, 8);
+        Map<String, Integer> capacities = request.getCourses().stream()
+                .collect(Collectors.toMap(CourseCapacityDTO::getCourseCode, CourseCapacityDTO::getCapacity));
+
+        // When
+        MatchingResponseDTO first = matchingService.createRandomMatching(request, 1234L);
+        MatchingResponseDTO second = matchingService.createRandomMatching(request, 1234L);
+
+        // Then
+        assertThat(second.getAssignments()).isEqualTo(first.getAssignments());
+        assertThat(first.getExecution().getRandomSeed()).isEqualTo(1234L);
+        first.getStatistics().getCourseAssignmentCounts()
+                .forEach((course, count) -> assertThat(count).isLessThanOrEqualTo(capacities.get(course)));
+        int totalCapacity = capacities.values().stream().mapToInt(Integer::intValue).sum();
+        assertThat(first.getStatistics().getAssignedStudents()).isEqualTo(Math.min(500, totalCapacity));
+    }
+
+    @Test
+    @DisplayName("Happy Path: Both engines report the same proposal work and time every phase")
+    void testStableMatching_RecordsPhasesAndWork() {
+        // Given
+        MatchingRequestDTO request = MatchingRequestFixtures.withoutTies(
+                MatchingRequestFixtures.randomRequest(13, 300, 12), 13);
+
+        // When
+        MatchingExecutionDTO legacy = matchingService.createStableMatching(request, MatchingEngine.LEGACY).getExecution();
+        MatchingResponseDTO primitive = matchingService.createStableMatching(request, MatchingEngine.PRIMITIVE);
+
+        // Then
+        MatchingExecutionDTO execution = primitive.getExecution();
+        assertThat(execution.getProposals()).isEqualTo(legacy.getProposals());
+        assertThat(execution.getRejections()).isEqualTo(legacy.getRejections());
+        assertThat(execution.getDisplacements()).isEqualTo(legacy.getDisplacements());
+        assertThat(execution.getProposals() - execution.getRejections())
+                .isEqualTo(primitive.getStatistics().getAssignedStudents().longValue());
+
+        assertThat(metricsService.getPhaseTimings()).containsOnlyKeys(
+                "stable.scoring.lt10k", "stable.matching.lt10k", "stable.statistics.lt10k");
+        assertThat(metricsService.getPhaseTimings().get("stable.matching.lt10k")).containsEntry("count", 2.0);
+        assertThat(metricsService.getMatchingWorkSummaries().get("proposals.per.student.stable.lt10k").get("mean"))
+                .isEqualTo((double) execution.getProposals() / 300);
+    }
+
+    // ============ EDGE CASE TESTS ============
+
+    @Test
+    @DisplayName("Edge Case: Legacy engine keeps the incumbent on a tied score, primitive takes the lower index")
+    void testStableMatching_LegacyKeepsIncumbentOnTie() {
+        // Given: STU003 displaces STU001 from CO2, then STU001 ties STU002 for the only CO1 seat
+        MatchingRequestDTO request = tiedRequest();
+
+        // When
+        MatchingResponseDTO legacy = matchingService.createStableMatching(request, MatchingEngine.LEGACY);
+        MatchingResponseDTO primitive = matchingService.createStableMatching(request, MatchingEngine.PRIMITIVE);
+
+        // Then
+        assertThat(legacy.getAssignments()).extracting(AssignmentDTO::getStudentCode, AssignmentDTO::getCourseCode)
+                .containsExactlyInAnyOrder(
+                        tuple("STU002", "CO1"),
+                        tuple("STU003", "CO2"));
+        assertThat(primitive.getAssignments()).extracting(AssignmentDTO::getStudentCode, AssignmentDTO::getCourseCode)
+                .containsExactlyInAnyOrder(
+                        tuple("STU001", "CO1"),
+                        tuple("STU003", "CO2"));
+    }
+
+    private static long totalRank(MatchingResponseDTO response) {
+        return response.getAssignments().stream().mapToLong(AssignmentDTO::getPreferenceRank).sum();
+    }
+
+    private static Map<String, AssignmentDTO> byStudent(MatchingResponseDTO response) {
+        return response.getAssignments().stream()
+                .collect(Collectors.toMap(AssignmentDTO::getStudentCode, a -> a));
+    }
+
+    private static MatchingRequestDTO smallRequest() {
+        return MatchingRequestDTO.builder()
+                .studentPreferences(List.of(
+                        StudentPreferenceDTO.builder()
+                                .studentCode("STU001")
+                                .preferredCourses(List.of("CO1", "CO2"))
+                                .courseGrades(Map.of("MATH", 9.5, "OOP", 8.0))
+                                .build(),
+                        StudentPreferenceDTO.builder()
+                                .studentCode("STU002")
+                                .preferredCourses(List.of("CO2", "CO1"))
+                                .courseGrades(Map.of("MATH", 8.0, "OOP", 9.0))
+                                .build()))
+                .courses(List.of(
+                        CourseCapacityDTO.builder().courseCode("CO1").capacity(1).build(),
+                        CourseCapacityDTO.builder().courseCode("CO2").capacity(1).build()))
+                .instructorPreferences(List.of(
+                        InstructorPreferenceDTO.builder().courseCode("CO1").gradeWeights(Map.of("MATH", 1.0)).build(),
+                        InstructorPreferenceDTO.builder().courseCode("CO2").gradeWeights(Map.of("OOP", 1.0)).build()))
+                .build();
+    }
+
+    private static MatchingRequestDTO tiedRequest() {
+        return MatchingRequestDTO.builder()
+                .studentPreferences(List.of(
+                        StudentPreferenceDTO.builder()
+                                .studentCode("STU001")
+                                .preferredCourses(List.of("CO2", "CO1"))
+                                .courseGrades(Map.of("MATH", 8.0, "OOP", 7.0))
+                                .build(),
+                        StudentPreferenceDTO.builder()
+                                .studentCode("STU002")
+                                .preferredCourses(List.of("CO1"))
+                                .courseGrades(Map.of("MATH", 8.0, "OOP", 6.0))
+                                .build(),
+                        StudentPreferenceDTO.builder()
+                                .studentCode("STU003")
+                                .preferredCourses(List.of("CO2"))
+                                .courseGrades(Map.of("MATH", 5.0, "OOP", 9.0))
+                                .build()))
+                .courses(List.of(
+                        CourseCapacityDTO.builder().courseCode("CO1").capacity(1).build(),
+                        CourseCapacityDTO.builder().courseCode("CO2").capacity(1).build()))
+                .instructorPreferences(List.of(
+                        InstructorPreferenceDTO.builder().courseCode("CO1").gradeWeights(Map.of("MATH", 1.0)).build(),
+                        InstructorPreferenceDTO.builder().courseCode("CO2").gradeWeights(Map.of("OOP", 1.0)).build()))
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.MatchingRequestFixtures;
+import com.example.stablematch.dto.AssignmentDTO;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.MatchingResponseDTO;
+import com.example.stablematch.dto.MatchingStreamTrailerDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class MatchingStreamCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MatchingService matchingService;
+
+    private MatchingStreamCodec codec;
+
+    private ForkJoinPool scoringPool;
+
+    @BeforeEach
+    void setUp() {
+        MetricsService metricsService = new MetricsService(new SimpleMeterRegistry());
+        scoringPool = new ForkJoinPool(4);
+        matchingService = new MatchingService(metricsService,
+                new ScoringService(scoringPool, metricsService, 1000, 4));
+        codec = new MatchingStreamCodec(objectMapper, metricsService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoringPool.shutdown();
+    }
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: Streamed matching writes the same assignments and statistics as the buffered response")
+    void testStream_MatchesBufferedResponse() throws IOException {
+        for (long seed = 1; seed <= 10; seed++) {
+            // Given
+            MatchingRequestDTO request = MatchingRequestFixtures.randomRequest(seed, 400, 12);
+            MatchingResponseDTO buffered = matchingService.createStableMatching(request, MatchingEngine.PRIMITIVE);
+
+            // When
+            List<String> lines = stream(objectMapper.writeValueAsString(request));
+
+            // Then
+            List<AssignmentDTO> assignments = new ArrayList<>();
+            for (String line : lines.subList(0, lines.size() - 1)) {
+                assignments.add(objectMapper.readValue(line, AssignmentDTO.class));
+            }
+            MatchingStreamTrailerDTO trailer = objectMapper.readValue(lines.get(lines.size() - 1),
+                    MatchingStreamTrailerDTO.class);
+
+            assertThat(assignments).isEqualTo(buffered.getAssignments());
+            assertThat(trailer.getStatistics()).isEqualTo(buffered.getStatistics());
+            assertThat(trailer.getExecution().getProposals()).isEqualTo(buffered.getExecution().getProposals());
+        }
+    }
+
+    @Test
+    @DisplayName("Happy Path: Fields may come in any order and unknown courses or fields are skipped")
+    void testRead_AnyFieldOrder() throws IOException {
+        // Given
+        String json = """
+                {
+                  "instructorPreferences": [
+                    {"courseCode": "CO1", "gradeWeights": {"MATH": 1.0}},
+                    {"courseCode": "CO2", "gradeWeights": {"OOP": 1.0}}
+                  ],
+                  "comment": {"ignored": [1, 2, 3]},
+                  "studentPreferences": [
+                    {"courseGrades": {"MATH": 9.5, "OOP": 8.0}, "preferredCourses": ["XX", "CO1", "CO2"], "studentCode": "STU001"},
+                    {"preferredCourses": ["CO2", "CO2", "CO1"], "courseGrades": {"MATH": 8.0, "OOP": null}, "studentCode": "STU002"}
+                  ],
+                  "courses": [
+                    {"capacity": 1, "courseCode": "CO1"},
+                    {"courseCode": "CO2", "capacity": 1, "instructorId": "I2"}
+                  ]
+                }
+                """;
+
+        // When
+        List<String> lines = stream(json);
+
+        // Then
+        assertThat(lines).hasSize(3);
+        List<AssignmentDTO> assignments = List.of(
+                objectMapper.readValue(lines.get(0), AssignmentDTO.class),
+                objectMapper.readValue(lines.get(1), AssignmentDTO.class));
+        assertThat(assignments)
+                .extracting(AssignmentDTO::getStudentCode, AssignmentDTO::getCourseCode,
+                        AssignmentDTO::getPreferenceRank, AssignmentDTO::getStudentScore)
+                .containsExactly(
+                        tuple("STU001", "CO1", 1, 9.5),
+                        tuple("STU002", "CO2", 0, 0.0));
+        MatchingStreamTrailerDTO trailer = objectMapper.readValue(lines.get(2), MatchingStreamTrailerDTO.class);
+        assertThat(trailer.getStatistics().getAssignedStudents()).isEqualTo(2);
+        assertThat(trailer.getStatistics().getAveragePreferenceRank()).isEqualTo(0.5);
+    }
+
+    // ============ EDGE CASE TESTS ============
+
+    @Test
+    @DisplayName("Edge Case: A student without a code or a course without a capacity is rejected")
+    void testRead_RejectsIncompleteEntries() {
+        // Given
+        String missingCode = """
+                {"studentPreferences": [{"preferredCourses": ["CO1"]}],
+                 "courses": [{"courseCode": "CO1", "capacity": 1}],
+                 "instructorPreferences": [{"courseCode": "CO1"}]}
+                """;
+        String missingCapacity = """
+                {"studentPreferences": [{"studentCode": "STU001", "preferredCourses": ["CO1"]}],
+                 "courses": [{"courseCode": "CO1"}],
+                 "instructorPreferences": [{"courseCode": "CO1"}]}
+                """;
+
+        // When / Then
+        assertThatThrownBy(() -> codec.read(input(missingCode)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("studentCode");
+        assertThatThrownBy(() -> codec.read(input(missingCapacity)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("capacity");
+    }
+
+    private List<String> stream(String json) throws IOException {
+        StreamedMatching matching = matchingService.createStreamedStableMatching(codec.read(input(json)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.write(matching, out);
+        return out.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    private static ByteArrayInputStream input(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.MatchingRequestFixtures;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.SimulationOutcomeDTO;
+import com.example.stablematch.dto.SimulationResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SimulationServiceTest {
+
+    private MetricsService metricsService;
+    private ForkJoinPool scoringPool;
+    private SimulationService simulationService;
+
+    @BeforeEach
+    void setUp() {
+        metricsService = new MetricsService(new SimpleMeterRegistry());
+        scoringPool = new ForkJoinPool(4);
+        simulationService = new SimulationService(scoringPool,
+                new ScoringService(scoringPool, metricsService, 1000, 4), metricsService, 50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoringPool.shutdown();
+    }
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: Both modes are simulated by default and the same seed repeats the result")
+    void testSimulate_BothModesReproducible() {
+        // Given
+        MatchingRequestDTO request = MatchingRequestFixtures.randomRequest(71, 200, 8);
+
+        // When
+        SimulationResponseDTO first = simulationService.simulate(request, null, 25, 2, 0.5, 11L);
+        SimulationResponseDTO second = simulationService.simulate(request, Set.of(), 25, 2, 0.5, 11L);
+
+        // Then
+        assertThat(first.getOutcomes()).extracting(SimulationOutcomeDTO::getMode)
+                .containsExactly("RANDOM", "PERTURBED_STABLE");
+        assertThat(second.getOutcomes().get(0).getStudents()).isEqualTo(first.getOutcomes().get(0).getStudents());
+        assertThat(second.getOutcomes().get(1).getCourses()).isEqualTo(first.getOutcomes().get(1).getCourses());
+
+        SimulationOutcomeDTO stable = first.getOutcomes().get(1);
+        assertThat(stable.getStudents()).hasSize(200)
+                .allSatisfy(student -> assertThat(student.getTopKProbability()).isBetween(0.0, 1.0));
+        assertThat(stable.getCourses()).hasSize(8)
+                .allSatisfy(course -> assertThat(course.getMeanLoad()).isLessThanOrEqualTo(course.getCapacity()));
+        assertThat(metricsService.getSimulationRunCount("perturbed_stable")).isEqualTo(50.0);
+    }
+
+    // ============ EDGE CASE TESTS ============
+
+    @Test
+    @DisplayName("Edge Case: Run counts outside the limit and negative noise are rejected")
+    void testSimulate_InvalidParameters() {
+        // Given
+        MatchingRequestDTO request = MatchingRequestFixtures.randomRequest(72, 10, 2);
+
+        // When / Then
+        assertThatThrownBy(() -> simulationService.simulate(request, null, 0, 1, 0.0, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> simulationService.simulate(request, null, 51, 1, 0.0, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> simulationService.simulate(request, Set.of(SimulationMode.PERTURBED_STABLE), 5, 1, -1.0, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.MatchingRequestFixtures;
+import com.example.stablematch.dto.AssignmentDTO;
+import com.example.stablematch.dto.BlockingPairDTO;
+import com.example.stablematch.dto.MatchingRequestDTO;
+import com.example.stablematch.dto.MatchingResponseDTO;
+import com.example.stablematch.dto.StabilityReportDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StabilityServiceTest {
+
+    private MetricsService metricsService;
+    private ForkJoinPool scoringPool;
+    private MatchingService matchingService;
+    private StabilityService stabilityService;
+
+    @BeforeEach
+    void setUp() {
+        metricsService = new MetricsService(new SimpleMeterRegistry());
+        scoringPool = new ForkJoinPool(4);
+        matchingService = new MatchingService(metricsService,
+                new ScoringService(scoringPool, metricsService, 1000, 4));
+        stabilityService = new StabilityService(scoringPool, metricsService, 100, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoringPool.shutdown();
+    }
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: Every stable engine passes the check and random matching does not")
+    void testVerify_StableAndRandomResults() {
+        // Given
+        MatchingRequestDTO request = MatchingRequestFixtures.randomRequest(51, 500, 12);
+
+        for (MatchingEngine engine : MatchingEngine.values()) {
+            // When
+            MatchingResponseDTO stable = matchingService.createStableMatching(request, engine);
+            StabilityReportDTO report = stabilityService.verify(request, stable.getAssignments(), null, null, 10);
+
+            // Then
+            assertThat(report.getStable()).as("engine %s", engine).isTrue();
+            assertThat(report.getBlockingPairs()).isEmpty();
+            assertThat(report.getVerifierCores()).isEqualTo(4);
+        }
+
+        // When
+        MatchingResponseDTO random = matchingService.createRandomMatching(request, 3L);
+        StabilityReportDTO report = stabilityService.verify(request, random.getAssignments(), null, null, 10);
+
+        // Then
+        assertThat(report.getStable()).isFalse();
+        assertThat(report.getBlockingPairs()).hasSize(10);
+        assertThat(report.getBlockingPairCount()).isGreaterThanOrEqualTo(10);
+        BlockingPairDTO pair = report.getBlockingPairs().get(0);
+        assertThat(pair.getCourseCode()).isNotEqualTo(pair.getAssignedCourseCode());
+        if (pair.getWeakestScore() != null) {
+            assertThat(pair.getStudentScore()).isGreaterThan(pair.getWeakestScore());
+        }
+        assertThat(metricsService.getVerificationUnstableCount()).isEqualTo(1.0);
+    }
+
+    // ============ EDGE CASE TESTS ============
+
+    @Test
+    @DisplayName("Edge Case: A sample larger than the pack checks every student")
+    void testVerify_OversizedSample() {
+        // Given
+        MatchingRequestDTO request = MatchingRequestFixtures.randomRequest(52, 80, 5);
+        MatchingResponseDTO stable = matchingService.createStableMatching(request, MatchingEngine.PRIMITIVE);
+
+        // When
+        StabilityReportDTO report = stabilityService.verify(request, stable.getAssignments(), 1000, 1L, 10);
+
+        // Then
+        assertThat(report.getSampled()).isFalse();
+        assertThat(report.getCheckedStudents()).isEqualTo(80);
+        assertThat(report.getStable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Edge Case: Assignments naming an unknown student or a student twice are rejected")
+    void testVerify_InvalidAssignments() {
+        // Given
+        MatchingRequestDTO request = MatchingRequestFixtures.randomRequest(53, 20, 3);
+        List<AssignmentDTO> duplicated = new ArrayList<>(
+                matchingService.createStableMatching(request, MatchingEngine.PRIMITIVE).getAssignments());
+        duplicated.add(duplicated.get(0));
+        List<AssignmentDTO> unknown = List.of(AssignmentDTO.builder().studentCode("NOBODY").courseCode("CO0").build());
+
+        // When / Then
+        assertThatThrownBy(() -> stabilityService.verify(request, duplicated, null, null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> stabilityService.verify(request, unknown, null, null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.stablematch.service;
+
+import com.example.stablematch.health.WarmUpHealthIndicator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.appinfo.ApplicationInfoManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WarmUpServiceTest {
+
+    private ForkJoinPool scoringPool;
+
+    @BeforeEach
+    void setUp() {
+        scoringPool = new ForkJoinPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoringPool.shutdown();
+    }
+
+    // ============ HAPPY PATH TESTS ============
+
+    @Test
+    @DisplayName("Happy Path: The instance is out of service until every workload has run")
+    void testWarmUp_GatesHealthUntilCompleted() {
+        // Given
+        WarmUpService warmUpService = warmUpService(true, 3);
+        WarmUpHealthIndicator indicator = new WarmUpHealthIndicator(warmUpService);
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        // When
+        warmUpService.warmUp();
+        Health health = indicator.health();
+
+        // Then
+        assertThat(warmUpService.getState()).isEqualTo(WarmUpState.COMPLETED);
+        assertThat(warmUpService.getCompletedIterations()).isEqualTo(3);
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(warmUpService.getTimings()).containsOnlyKeys(
+                "stable-legacy", "stable-primitive", "stable-rounds", "random", "statistics");
+        assertThat(warmUpService.getTimings().get("random")).containsOnlyKeys("firstMs", "lastMs");
+        assertThat(health.getDetails()).containsKeys("durationMs", "timings");
+    }
+
+    // ============ EDGE CASE TESTS ============
+
+    @Test
+    @DisplayName("Edge Case: A disabled warm-up reports ready without running anything")
+    void testWarmUp_Disabled() {
+        // Given
+        WarmUpService warmUpService = warmUpService(false, 3);
+
+        // When
+        warmUpService.warmUp();
+
+        // Then
+        assertThat(warmUpService.getState()).isEqualTo(WarmUpState.DISABLED);
+        assertThat(warmUpService.getTimings()).isEmpty();
+        assertThat(new WarmUpHealthIndicator(warmUpService).health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    private WarmUpService warmUpService(boolean enabled, int iterations) {
+        return new WarmUpService(scoringPool, new ObjectMapper(),
+                new StaticListableBeanFactory().getBeanProvider(ApplicationInfoManager.class),
+                enabled, 200, 8, iterations, 7L, 1000, 4);
+    }
+}